@@ -0,0 +1,77 @@
+package org.indoles.autionserviceserver.core.auction.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비율 할인 가격 계산(변동 횟수만큼 반복) 과 가격표 조회 비교
+ * 실행: ./gradlew jmh
+ * Setup 에서 모든 구간의 결과가 같은지 먼저 확인하므로, 결과가 다르면 벤치마크가 실행되지 않는다.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceScheduleBenchmark {
+
+    private static final long ORIGIN_PRICE = 1_000_000L;
+
+    @Param({"60", "3600"})
+    private int variationCount;
+
+    private PercentagePricePolicy pricePolicy;
+    private PriceSchedule priceSchedule;
+    private long[] steps;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pricePolicy = new PercentagePricePolicy(0.1);
+        LocalDateTime startedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        priceSchedule = PriceSchedule.compile(pricePolicy, ORIGIN_PRICE, startedAt, startedAt.plusMinutes(60),
+                Duration.ofMinutes(60).dividedBy(variationCount));
+
+        for (int i = 0; i < variationCount; i++) {
+            long expected = pricePolicy.calculatePriceAtVariation(ORIGIN_PRICE, i);
+            if (priceSchedule.priceAt(i) != expected) {
+                throw new IllegalStateException("가격표와 계산 결과가 다릅니다. 구간: " + i);
+            }
+        }
+
+        steps = new long[1024];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = (i * 7919L) % variationCount;
+        }
+    }
+
+    @Benchmark
+    public long calculatePriceAtVariation() {
+        return pricePolicy.calculatePriceAtVariation(ORIGIN_PRICE, nextStep());
+    }
+
+    @Benchmark
+    public long priceSchedule() {
+        return priceSchedule.priceAt(nextStep());
+    }
+
+    private long nextStep() {
+        cursor = (cursor + 1) & (steps.length - 1);
+        return steps[cursor];
+    }
+}
@@ -6,17 +6,36 @@ import org.indoles.autionserviceserver.core.auction.controller.currentTime.Curre
 import org.indoles.autionserviceserver.core.auction.controller.interfaces.Buyer;
 import org.indoles.autionserviceserver.core.auction.controller.interfaces.Login;
 import org.indoles.autionserviceserver.core.auction.controller.interfaces.PublicAccess;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionSort;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.core.auction.dto.Request.*;
 import org.indoles.autionserviceserver.core.auction.dto.Response.BuyerAuctionInfoResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Response.BuyerAuctionSimpleInfoResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.CursorPageResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PriceScheduleResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseHoldResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseStatusResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.WaitingRoomEntryResponse;
+import org.indoles.autionserviceserver.core.auction.service.AuctionTickerService;
 import org.indoles.autionserviceserver.core.auction.service.BuyerService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseAdmissionService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseHoldService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseIdempotencyService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseStatusService;
+import org.indoles.autionserviceserver.core.auction.service.WaitingRoomService;
 import org.indoles.autionserviceserver.global.dto.AuctionPurchaseRequestMessage;
+import org.indoles.autionserviceserver.global.util.PageCursor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -25,38 +44,107 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BuyerAuctionController {
 
+    private static final Duration PRICE_SCHEDULE_MAX_AGE = Duration.ofDays(365);
+
     private final BuyerService buyerService;
+    private final PurchaseStatusService purchaseStatusService;
+    private final PurchaseIdempotencyService purchaseIdempotencyService;
+    private final PurchaseAdmissionService purchaseAdmissionService;
+    private final WaitingRoomService waitingRoomService;
+    private final PurchaseHoldService purchaseHoldService;
+    private final AuctionTickerService auctionTickerService;
 
     /**
      * 경매 목록 조회 API - 모든 사용자 조회
+     * 가격은 요청 시각 기준의 현재 가격이다.
+     * status 로 경매 상태를 필터링하고, sort 로 종료 임박순(ENDING_SOON), 시작 임박순(STARTING_SOON)으로 정렬할 수 있다.
      */
 
     @PublicAccess
     @GetMapping("/search")
     public ResponseEntity<List<BuyerAuctionSimpleInfoResponse>> getAuctions(
+            @CurrentTime LocalDateTime now,
             @RequestParam(name = "offset") int offset,
-            @RequestParam(name = "size") int size
+            @RequestParam(name = "size") int size,
+            @RequestParam(name = "status", required = false) AuctionStatus status,
+            @RequestParam(name = "sort", required = false) AuctionSort sort
     ) {
-        AuctionSearchConditionRequest condition = new AuctionSearchConditionRequest(offset, size);
-        List<BuyerAuctionSimpleInfoResponse> infos = buyerService.getBuyerAuctionSimpleInfos(condition);
+        AuctionSearchConditionRequest condition = AuctionSearchConditionRequest.of(offset, size, status, sort, now);
+        List<BuyerAuctionSimpleInfoResponse> infos = buyerService.getBuyerAuctionSimpleInfos(condition, now);
         return ResponseEntity.ok(infos);
     }
 
+    /**
+     * 경매 목록 커서 조회 API - 모든 사용자 조회
+     * 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 를 그대로 전달한다.
+     * 페이지 깊이와 관계없이 조회 비용이 일정하다.
+     */
+
+    @PublicAccess
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPageResponse<BuyerAuctionSimpleInfoResponse>> getAuctionsByCursor(
+            @CurrentTime LocalDateTime now,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size") int size,
+            @RequestParam(name = "status", required = false) AuctionStatus status
+    ) {
+        AuctionSearchConditionRequest condition = AuctionSearchConditionRequest.ofCursor(PageCursor.decode(cursor), size, status, now);
+        return ResponseEntity.ok(buyerService.getBuyerAuctionSimpleInfoPage(condition, now));
+    }
+
     /**
      * 경매 물품 상세 조회 API - 모든 사용자 조회
+     * 가격은 요청 시각 기준의 현재 가격이다.
      */
 
     @PublicAccess
     @GetMapping("/{auctionId}")
     public ResponseEntity<BuyerAuctionInfoResponse> getAuction(
+            @CurrentTime LocalDateTime now,
             @PathVariable(name = "auctionId") Long auctionId) {
 
-        BuyerAuctionInfoResponse result = buyerService.getBuyerAuction(auctionId);
+        BuyerAuctionInfoResponse result = buyerService.getBuyerAuction(auctionId, now);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 경매 가격표 조회 API - 모든 사용자 조회
+     * 가격표는 경매 생성 시 정해지고 바뀌지 않으므로 강한 ETag 와 immutable Cache-Control 을 함께 반환한다.
+     * 클라이언트(CDN)는 가격표를 한 번만 받아 현재 가격을 직접 계산할 수 있다.
+     */
+
+    @PublicAccess
+    @GetMapping("/{auctionId}/price-schedule")
+    public ResponseEntity<PriceScheduleResponse> getPriceSchedule(
+            @PathVariable(name = "auctionId") Long auctionId) {
+
+        PriceScheduleResponse result = buyerService.getPriceSchedule(auctionId);
+        return ResponseEntity.ok()
+                .eTag(result.eTag())
+                .cacheControl(CacheControl.maxAge(PRICE_SCHEDULE_MAX_AGE).cachePublic().immutable())
+                .body(result);
+    }
+
+    /**
+     * 경매 시세 구독 API(SSE) - 모든 사용자 조회
+     * 가격 변동 주기마다 바뀐 가격을, 구매로 재고가 바뀌면 바뀐 재고를 tick 이벤트로 전송하며 경매가 종료되면 구독이 끝난다.
+     */
+
+    @PublicAccess
+    @GetMapping(value = "/{auctionId}/ticker", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTicker(
+            @CurrentTime LocalDateTime now,
+            @PathVariable(name = "auctionId") Long auctionId) {
+
+        return auctionTickerService.subscribe(auctionId, now);
+    }
+
     /**
      * 경매 입찰 API(구매자 전용)
+     * async=true 인 경우 요청을 접수만 하고 202(Accepted)를 반환하며, 결과는 구매 요청 상태 조회 API 로 확인한다.
+     * Idempotency-Key 헤더가 있으면 같은 키로 다시 요청해도 구매를 다시 실행하지 않고 처음 응답을 반환한다.
+     * 남은 재고만큼의 구매가 이미 처리 중이거나, 대기열이 열린 경매에서 아직 입장 순서가 되지 않았다면
+     * 429(Too Many Requests)와 Retry-After 헤더를 반환한다.
      */
     @Buyer
     @PostMapping("/{auctionId}/purchase")
@@ -64,8 +152,12 @@ public class BuyerAuctionController {
             @Login SignInfoRequest signInfoRequest,
             @CurrentTime LocalDateTime now,
             @PathVariable(name = "auctionId") Long auctionId,
+            @RequestParam(name = "async", defaultValue = "false") boolean async,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody PurchaseRequest purchaseRequest) {
 
+        waitingRoomService.verifyAdmitted(signInfoRequest.id(), auctionId);
+
         AuctionPurchaseRequestMessage requestMessage = AuctionPurchaseRequestMessage.builder()
                 .requestId(UUID.randomUUID())
                 .buyerId(signInfoRequest.id())
@@ -73,11 +165,125 @@ public class BuyerAuctionController {
                 .price(purchaseRequest.price())
                 .quantity(purchaseRequest.quantity())
                 .requestTime(now)
+                .idempotencyKey(idempotencyKey)
                 .build();
 
-        buyerService.submitPurchase(requestMessage, signInfoRequest);
+        Runnable purchase = async
+                ? () -> purchaseStatusService.accept(requestMessage, signInfoRequest)
+                : () -> {
+                    try (var permit = purchaseAdmissionService.admit(auctionId, purchaseRequest.quantity())) {
+                        buyerService.submitPurchase(requestMessage, signInfoRequest);
+                    }
+                };
+
+        if (requestMessage.hasIdempotencyKey()) {
+            Optional<PurchaseResponse> original = purchaseIdempotencyService.executeOnce(
+                    signInfoRequest.id(), idempotencyKey, requestMessage.requestId(), purchase);
+            if (original.isPresent()) {
+                return ResponseEntity.ok(original.get());
+            }
+        } else {
+            purchase.run();
+        }
 
         PurchaseResponse response = new PurchaseResponse(requestMessage.requestId());
+        return async ? ResponseEntity.accepted().body(response) : ResponseEntity.ok(response);
+    }
+
+    /**
+     * 재고 선점 API(구매자 전용)
+     * 요청한 수량의 재고를 일정 시간(TTL) 동안 선점한다. 선점 확정 API 로 확정하지 않으면 만료되어 재고가 복구된다.
+     */
+    @Buyer
+    @PostMapping("/{auctionId}/holds")
+    public ResponseEntity<PurchaseHoldResponse> holdAuction(
+            @Login SignInfoRequest signInfoRequest,
+            @CurrentTime LocalDateTime now,
+            @PathVariable(name = "auctionId") Long auctionId,
+            @RequestBody PurchaseRequest purchaseRequest) {
+
+        waitingRoomService.verifyAdmitted(signInfoRequest.id(), auctionId);
+
+        AuctionPurchaseRequestMessage requestMessage = AuctionPurchaseRequestMessage.builder()
+                .requestId(UUID.randomUUID())
+                .buyerId(signInfoRequest.id())
+                .auctionId(auctionId)
+                .price(purchaseRequest.price())
+                .quantity(purchaseRequest.quantity())
+                .requestTime(now)
+                .build();
+
+        try (var permit = purchaseAdmissionService.admit(auctionId, purchaseRequest.quantity())) {
+            PurchaseHoldResponse response = purchaseHoldService.hold(requestMessage, signInfoRequest);
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * 재고 선점 확정 API(구매자 전용)
+     * 선점한 재고로 구매를 진행하며, 반환된 구매 요청 ID 는 선점 ID 와 같다.
+     */
+    @Buyer
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<PurchaseResponse> confirmHold(
+            @Login SignInfoRequest signInfoRequest,
+            @CurrentTime LocalDateTime now,
+            @PathVariable(name = "holdId") UUID holdId) {
+
+        PurchaseResponse response = purchaseHoldService.confirm(holdId, signInfoRequest, now);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 재고 선점 취소 API(구매자 전용)
+     */
+    @Buyer
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> cancelHold(
+            @Login SignInfoRequest signInfoRequest,
+            @PathVariable(name = "holdId") UUID holdId) {
+
+        purchaseHoldService.cancel(holdId, signInfoRequest);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 경매 대기열 입장 API(구매자 전용)
+     * 입장 순번을 발급받으며, 같은 구매자가 다시 요청하면 같은 순번을 반환한다.
+     */
+    @Buyer
+    @PostMapping("/{auctionId}/waiting-room/entry")
+    public ResponseEntity<WaitingRoomEntryResponse> enterWaitingRoom(
+            @Login SignInfoRequest signInfoRequest,
+            @PathVariable(name = "auctionId") Long auctionId) {
+
+        WaitingRoomEntryResponse response = waitingRoomService.enter(signInfoRequest, auctionId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 경매 대기열 대기 위치 조회 API(구매자 전용)
+     */
+    @Buyer
+    @GetMapping("/{auctionId}/waiting-room/entry")
+    public ResponseEntity<WaitingRoomEntryResponse> getWaitingRoomEntry(
+            @Login SignInfoRequest signInfoRequest,
+            @PathVariable(name = "auctionId") Long auctionId) {
+
+        WaitingRoomEntryResponse response = waitingRoomService.getEntry(signInfoRequest, auctionId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 구매 요청 상태 조회 API(구매자 전용)
+     */
+    @Buyer
+    @GetMapping("/purchases/{requestId}")
+    public ResponseEntity<PurchaseStatusResponse> getPurchaseStatus(
+            @Login SignInfoRequest signInfoRequest,
+            @PathVariable(name = "requestId") UUID requestId) {
+
+        PurchaseStatusResponse response = purchaseStatusService.getStatus(requestId, signInfoRequest);
         return ResponseEntity.ok(response);
     }
 
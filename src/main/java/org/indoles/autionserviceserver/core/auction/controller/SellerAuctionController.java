@@ -7,11 +7,15 @@ import org.indoles.autionserviceserver.core.auction.controller.interfaces.Login;
 import org.indoles.autionserviceserver.core.auction.controller.interfaces.Seller;
 import org.indoles.autionserviceserver.core.auction.dto.Request.CancelAuctionRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Request.CreateAuctionRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Request.OpenWaitingRoomRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SellerAuctionSearchConditionRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.CursorPageResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionInfoResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
 import org.indoles.autionserviceserver.core.auction.service.SellerService;
+import org.indoles.autionserviceserver.core.auction.service.WaitingRoomService;
+import org.indoles.autionserviceserver.global.util.PageCursor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,6 +29,7 @@ import java.util.List;
 public class SellerAuctionController {
 
     private final SellerService sellerService;
+    private final WaitingRoomService waitingRoomService;
 
     /**
      * 경매 등록 API(판매자 전용)
@@ -69,6 +74,22 @@ public class SellerAuctionController {
         sellerService.cancelAuction(signInfoRequest, command);
     }
 
+    /**
+     * 경매 대기열 설정 API(판매자 전용)
+     * 대기열이 열린 경매는 입장 순번을 받은 구매자만, 경매 시작 후 초당 입장 인원만큼 순서대로 구매할 수 있다.
+     */
+    @Seller
+    @PutMapping("/{auctionId}/waiting-room")
+    public ResponseEntity<Void> openWaitingRoom(
+            @Login SignInfoRequest signInfoRequest,
+            @PathVariable("auctionId") Long auctionId,
+            @RequestBody OpenWaitingRoomRequest request,
+            @CurrentTime LocalDateTime localDateTime
+    ) {
+        waitingRoomService.open(signInfoRequest, auctionId, request.admissionsPerSecond(), localDateTime);
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * 경매 조회 API(판매자 전용)
      */
@@ -85,6 +106,24 @@ public class SellerAuctionController {
         return ResponseEntity.ok(infos);
     }
 
+    /**
+     * 경매 커서 조회 API(판매자 전용)
+     * 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 를 그대로 전달한다.
+     */
+    @Seller
+    @GetMapping("/seller/cursor")
+    public ResponseEntity<CursorPageResponse<SellerAuctionSimpleInfoResponse>> getSellerAuctionsByCursor(
+            @Login SignInfoRequest signInfoRequest,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size") int size
+    ) {
+
+        SellerAuctionSearchConditionRequest condition = SellerAuctionSearchConditionRequest.ofCursor(
+                signInfoRequest.id(), PageCursor.decode(cursor), size);
+        List<SellerAuctionSimpleInfoResponse> infos = sellerService.getSellerAuctionSimpleInfos(condition);
+        return ResponseEntity.ok(CursorPageResponse.of(infos, size, SellerAuctionSimpleInfoResponse::id));
+    }
+
     /**
      * 경매 상세 조회 API(판매자 전용)
      */
@@ -3,19 +3,16 @@ package org.indoles.autionserviceserver.core.auction.domain;
 import lombok.Builder;
 import lombok.Getter;
 
-import lombok.extern.slf4j.Slf4j;
 import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.core.auction.domain.validate.ValidateAuction;
 import org.indoles.autionserviceserver.global.exception.BadRequestException;
 import org.indoles.autionserviceserver.global.exception.ErrorCode;
-import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.indoles.autionserviceserver.core.auction.domain.validate.ValidateAuction.*;
 
-@Slf4j
 @Getter
 public class Auction {
 
@@ -36,6 +33,7 @@ public class Auction {
     private LocalDateTime startedAt;
     private LocalDateTime finishedAt;
     private boolean isShowStock;
+    private PriceSchedule priceSchedule;
 
     @Builder
     public Auction(
@@ -55,7 +53,9 @@ public class Auction {
     ) {
         validateAuctionTime(startedAt, finishedAt);
         validateVariationDuration(variationDuration, Duration.between(startedAt, finishedAt));
-        validateMinimumPrice(startedAt, finishedAt, variationDuration, originPrice, pricePolicy);
+        PriceSchedule priceSchedule = PriceSchedule.compile(pricePolicy, originPrice, startedAt, finishedAt,
+                variationDuration);
+        validateMinimumPrice(originPrice, priceSchedule);
 
         this.id = id;
         this.sellerId = sellerId;
@@ -70,6 +70,7 @@ public class Auction {
         this.startedAt = startedAt;
         this.finishedAt = finishedAt;
         this.isShowStock = isShowStock;
+        this.priceSchedule = priceSchedule;
     }
 
     /**
@@ -87,27 +88,15 @@ public class Auction {
     }
 
     /**
-     * 환불 요청 시 재고 상황
-     *
-     * @param refundStockAmount 환불 요청 수량
-     */
-
-    public void refundStock(long refundStockAmount) {
-        long newCurrentStock = this.currentStock + refundStockAmount;
-
-        validateStock(this.currentStock, refundStockAmount, this.originStock);
-        this.currentStock = newCurrentStock;
-    }
-
-    /**
-     * 경매 입찰(구매 요청)
+     * 재고를 제외한 입찰 조건(경매 상태, 가격, 구매 수량)을 검증
+     * 재고 차감은 AuctionStockLedger 에서 처리하므로 이 메서드는 경매 상태를 변경하지 않는다.
      *
      * @param price       구매 요청 가격
      * @param quantity    구매 요청 수량
      * @param requestTime 구매 요청 시간
      */
 
-    public void submit(long price, long quantity, LocalDateTime requestTime) {
+    public void verifyPurchase(long price, long quantity, LocalDateTime requestTime) {
         AuctionStatus currentStatus = ValidateAuction.currentStatus(requestTime, this);
 
         if (!currentStatus.isRunning()) {
@@ -116,19 +105,14 @@ public class Auction {
 
         verifyCurrentPrice(price, requestTime);
         verifyPurchaseQuantity(quantity);
-
-        this.currentStock -= quantity;
-        this.currentPrice = price;
-        log.debug("Updated current price to: {}", this.currentPrice);
     }
 
     private void verifyCurrentPrice(long inputPrice, LocalDateTime requestTime) {
         Duration elapsedDuration = Duration.between(startedAt, requestTime);
         long currentVariationCount = elapsedDuration.dividedBy(variationDuration);
-        long actualPrice = pricePolicy.calculatePriceAtVariation(originPrice, currentVariationCount);
+        long actualPrice = priceSchedule.priceAt(currentVariationCount);
 
         validateBuyPrice(actualPrice, inputPrice);
-        this.currentPrice = inputPrice;
     }
 
     private void verifyPurchaseQuantity(long quantity) {
@@ -137,10 +121,6 @@ public class Auction {
                     maximumPurchaseLimitCount);
             throw new BadRequestException(message, ErrorCode.A030);
         }
-        if (!hasEnoughStock(quantity)) {
-            String message = String.format("재고가 부족합니다. 현재 재고: %d, 요청 구매 수량: %d", currentStock, quantity);
-            throw new SuccessfulOperationException(message, ErrorCode.A012);
-        }
     }
 
     /**
@@ -151,14 +131,6 @@ public class Auction {
         return quantity > maximumPurchaseLimitCount || quantity <= 0;
     }
 
-    /**
-     * 재고 수량 체크
-     */
-
-    private boolean hasEnoughStock(long quantity) {
-        return currentStock >= quantity;
-    }
-
     /**
      * 해당 경매의 판매자인지 체크
      */
@@ -39,6 +39,29 @@ public class PercentagePricePolicy implements PricePolicy {
         return discountedPrice;
     }
 
+    /**
+     * 할인율을 적용한 구간별 가격을 계산
+     * 이전 구간의 가격에 할인을 한 번 더 적용하므로 calculatePriceAtVariation 과 같은 값을 O(n) 에 계산한다.
+     *
+     * @param price          시작 가격
+     * @param variationCount 변동 구간 수
+     * @return 변동 구간별 가격
+     */
+
+    @Override
+    public long[] calculatePriceSchedule(long price, int variationCount) {
+        long[] prices = new long[variationCount];
+        long discountedPrice = price;
+        double discountFactor = (100 - discountRate) / 100.0;
+
+        for (int i = 0; i < variationCount; i++) {
+            prices[i] = discountedPrice;
+            discountedPrice = (long) Math.floor(discountedPrice * discountFactor);
+        }
+
+        return prices;
+    }
+
     /**
      * 가격 정책의 타입을 반환
      *
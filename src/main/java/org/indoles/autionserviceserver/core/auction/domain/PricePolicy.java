@@ -20,6 +20,24 @@ public interface PricePolicy {
 
     long calculatePriceAtVariation(long price, long variationCount);
 
+    /**
+     * 0 ~ variationCount - 1 번째 변동 구간의 가격을 한 번에 계산
+     * 결과는 구간마다 calculatePriceAtVariation 을 호출한 결과와 같아야 한다.
+     *
+     * @param price          시작 가격
+     * @param variationCount 변동 구간 수
+     * @return 변동 구간별 가격
+     */
+
+    default long[] calculatePriceSchedule(long price, int variationCount) {
+        long[] prices = new long[variationCount];
+
+        for (int i = 0; i < variationCount; i++) {
+            prices[i] = calculatePriceAtVariation(price, i);
+        }
+        return prices;
+    }
+
     static PricePolicy createPercentagePricePolicy(int discountRate) {
         return new PercentagePricePolicy(discountRate);
     }
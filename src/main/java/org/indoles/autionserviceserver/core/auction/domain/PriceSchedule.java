@@ -0,0 +1,104 @@
+package org.indoles.autionserviceserver.core.auction.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 경매의 가격 정책을 미리 계산해 둔 변동 구간별 가격표
+ * 경매 지속 시간은 최대 60분이므로 가격표의 크기는 작고, 구매 시 가격 조회는 배열 조회 한 번으로 끝난다.
+ * 시작 시간과 변동 주기를 나노초로 함께 보관하므로, 시각(epoch 나노초)만 주어지면 Duration 계산 없이 가격을 조회할 수 있다.
+ * 생성 이후에는 변경되지 않는다.
+ */
+
+public final class PriceSchedule {
+
+    private static final long NANOS_IN_SECOND = 1_000_000_000L;
+
+    private final long[] prices;
+    private final long startedAtNanos;
+    private final long variationNanos;
+
+    private PriceSchedule(long[] prices, long startedAtNanos, long variationNanos) {
+        this.prices = prices;
+        this.startedAtNanos = startedAtNanos;
+        this.variationNanos = variationNanos;
+    }
+
+    /**
+     * 가격 정책을 가격표로 변환
+     *
+     * @param pricePolicy       가격 정책
+     * @param originPrice       시작 가격
+     * @param startedAt         경매 시작 시간
+     * @param finishedAt        경매 종료 시간
+     * @param variationDuration 가격 변동 주기
+     * @return 0 ~ (경매 지속 시간 / 변동 주기 - 1) 번째 변동 구간의 가격표
+     */
+
+    public static PriceSchedule compile(PricePolicy pricePolicy, long originPrice, LocalDateTime startedAt,
+                                        LocalDateTime finishedAt, Duration variationDuration) {
+        int variationCount = Math.toIntExact(Duration.between(startedAt, finishedAt).dividedBy(variationDuration));
+
+        return new PriceSchedule(pricePolicy.calculatePriceSchedule(originPrice, variationCount),
+                toEpochNanos(startedAt), variationDuration.toNanos());
+    }
+
+    /**
+     * 시각을 가격표 조회에 쓰는 epoch 나노초로 변환
+     * 목록 조회처럼 여러 경매의 가격을 한 번에 계산할 때는 시각을 한 번만 변환해 priceAtEpochNanos 에 넘긴다.
+     */
+
+    public static long toEpochNanos(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * NANOS_IN_SECOND + time.getNano();
+    }
+
+    /**
+     * 주어진 시각의 가격 조회
+     *
+     * @param epochNanos toEpochNanos 로 변환한 시각
+     * @return 해당 시각이 속한 변동 구간의 가격
+     */
+
+    public long priceAtEpochNanos(long epochNanos) {
+        return priceAt(Math.floorDiv(epochNanos - startedAtNanos, variationNanos));
+    }
+
+    /**
+     * 변동 구간의 가격 조회
+     * 경매 기간을 벗어난 구간은 가장 가까운 구간(시작 전은 첫 구간, 종료 후는 마지막 구간)의 가격을 반환한다.
+     *
+     * @param variationCount 변동 횟수
+     * @return 해당 구간의 가격
+     */
+
+    public long priceAt(long variationCount) {
+        if (variationCount <= 0) {
+            return prices[0];
+        }
+        if (variationCount >= prices.length) {
+            return prices[prices.length - 1];
+        }
+        return prices[(int) variationCount];
+    }
+
+    /**
+     * 모든 할인이 적용된 마지막 구간의 가격
+     */
+
+    public long lastPrice() {
+        return prices[prices.length - 1];
+    }
+
+    public int size() {
+        return prices.length;
+    }
+
+    /**
+     * 변동 구간별 가격(복사본)
+     */
+
+    public long[] toArray() {
+        return prices.clone();
+    }
+}
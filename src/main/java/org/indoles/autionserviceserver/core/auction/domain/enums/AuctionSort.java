@@ -0,0 +1,26 @@
+package org.indoles.autionserviceserver.core.auction.domain.enums;
+
+import lombok.Getter;
+
+/**
+ * 경매 목록 정렬 조건
+ * ENDING_SOON 은 진행 중인 경매를 종료 시간 순으로, STARTING_SOON 은 대기 중인 경매를 시작 시간 순으로 조회한다.
+ */
+
+@Getter
+public enum AuctionSort {
+
+    LATEST("최신 등록순"),
+    ENDING_SOON("종료 임박순"),
+    STARTING_SOON("시작 임박순");
+
+    private final String description;
+
+    AuctionSort(String description) {
+        this.description = description;
+    }
+
+    public boolean isLatest() {
+        return this == LATEST;
+    }
+}
@@ -0,0 +1,26 @@
+package org.indoles.autionserviceserver.core.auction.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OutboxEventType {
+
+    PURCHASE_POINT_TRANSFER("구매 포인트 전송"),
+    PURCHASE_RECEIPT_CREATE("구매 거래 내역 생성(확정 대기)"),
+    PURCHASE_RECEIPT_CONFIRM("구매 거래 내역 확정"),
+    REFUND_POINT("환불 포인트 전송"),
+    REFUND_RECEIPT("거래 내역 환불 처리"),
+    COMPENSATE_PURCHASE_POINT("구매 포인트 전송 보상(구매자에게 포인트 반환)"),
+    COMPENSATE_PURCHASE_RECEIPT("구매 거래 내역 생성 보상(확정 대기 거래 내역 취소)"),
+    COMPENSATE_REFUND_POINT("환불 포인트 전송 보상(판매자에게 포인트 반환)");
+
+    private final String description;
+
+    OutboxEventType(String description) {
+        this.description = description;
+    }
+
+    public boolean isCompensation() {
+        return this == COMPENSATE_PURCHASE_POINT || this == COMPENSATE_PURCHASE_RECEIPT || this == COMPENSATE_REFUND_POINT;
+    }
+}
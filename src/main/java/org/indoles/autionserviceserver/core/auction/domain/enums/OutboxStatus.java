@@ -0,0 +1,9 @@
+package org.indoles.autionserviceserver.core.auction.domain.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED,
+    CANCELLED
+}
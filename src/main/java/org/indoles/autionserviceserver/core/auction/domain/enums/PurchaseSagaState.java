@@ -0,0 +1,46 @@
+package org.indoles.autionserviceserver.core.auction.domain.enums;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 구매/구매 취소 Saga 의 상태
+ * 구매: STOCK_RESERVED(포인트 전송, 확정 대기 거래 내역 생성을 동시에 진행) → RECEIPT_CONFIRMING → COMPLETED
+ * 구매 취소: STOCK_RESTORED → POINTS_REFUNDED → COMPLETED
+ * 단계가 최종 실패하면 COMPENSATING 을 거쳐 COMPENSATED 가 되고, 보상마저 실패하면 FAILED 로 남는다.
+ */
+
+@Getter
+public enum PurchaseSagaState {
+
+    STOCK_RESERVED("재고 차감 완료"),
+    RECEIPT_CONFIRMING("거래 내역 확정중"),
+    STOCK_RESTORED("재고 복구 완료"),
+    POINTS_REFUNDED("포인트 환불 완료"),
+    COMPLETED("완료"),
+    COMPENSATING("보상 진행중"),
+    COMPENSATED("보상 완료"),
+    FAILED("보상 실패(수동 처리 필요)");
+
+    private final String description;
+
+    PurchaseSagaState(String description) {
+        this.description = description;
+    }
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == COMPENSATED || this == FAILED;
+    }
+
+    public boolean canTransitTo(PurchaseSagaState next) {
+        return switch (this) {
+            case STOCK_RESERVED -> Set.of(RECEIPT_CONFIRMING, COMPENSATING, FAILED).contains(next);
+            case RECEIPT_CONFIRMING -> Set.of(COMPLETED, COMPENSATING).contains(next);
+            case STOCK_RESTORED -> Set.of(POINTS_REFUNDED, COMPENSATED, FAILED).contains(next);
+            case POINTS_REFUNDED -> Set.of(COMPLETED, COMPENSATING).contains(next);
+            case COMPENSATING -> Set.of(COMPENSATED, FAILED).contains(next);
+            case COMPLETED, COMPENSATED, FAILED -> false;
+        };
+    }
+}
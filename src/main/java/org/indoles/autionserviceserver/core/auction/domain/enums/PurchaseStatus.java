@@ -0,0 +1,21 @@
+package org.indoles.autionserviceserver.core.auction.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum PurchaseStatus {
+
+    PENDING("처리중"),
+    SUCCEEDED("구매완료"),
+    FAILED("구매실패");
+
+    private final String description;
+
+    PurchaseStatus(String description) {
+        this.description = description;
+    }
+
+    public boolean isPending() {
+        return this == PENDING;
+    }
+}
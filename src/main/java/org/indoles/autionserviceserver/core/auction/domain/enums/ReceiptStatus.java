@@ -5,6 +5,7 @@ import lombok.Getter;
 @Getter
 public enum ReceiptStatus {
 
+    PENDING("구매확정대기"),
     PURCHASED("구매완료"),
     REFUND("환불완료");
 
@@ -0,0 +1,27 @@
+package org.indoles.autionserviceserver.core.auction.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SagaStepStatus {
+
+    IN_PROGRESS("진행중"),
+    SUCCEEDED("성공"),
+    FAILED("실패"),
+    CANCELLED("시작 전 취소"),
+    COMPENSATED("보상 완료");
+
+    private final String description;
+
+    SagaStepStatus(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 보상이 끝나기 전까지 기다려야 하는 단계인지 여부
+     */
+
+    public boolean isOutstanding() {
+        return this == IN_PROGRESS || this == SUCCEEDED;
+    }
+}
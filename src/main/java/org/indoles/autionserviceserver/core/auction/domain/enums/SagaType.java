@@ -0,0 +1,16 @@
+package org.indoles.autionserviceserver.core.auction.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SagaType {
+
+    PURCHASE("구매"),
+    CANCEL("구매 취소");
+
+    private final String description;
+
+    SagaType(String description) {
+        this.description = description;
+    }
+}
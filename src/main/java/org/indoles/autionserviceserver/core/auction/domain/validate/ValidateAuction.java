@@ -1,7 +1,7 @@
 package org.indoles.autionserviceserver.core.auction.domain.validate;
 
 import org.indoles.autionserviceserver.core.auction.domain.Auction;
-import org.indoles.autionserviceserver.core.auction.domain.PricePolicy;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
 import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.global.exception.BadRequestException;
 import org.indoles.autionserviceserver.global.exception.ErrorCode;
@@ -69,17 +69,13 @@ public class ValidateAuction {
     /**
      * 최소 가격 유효성 검사
      *
-     * @param startedAt
-     * @param finishedAt
-     * @param variationDuration
      * @param originPrice
-     * @param pricePolicy
+     * @param priceSchedule
      */
 
-    public static void validateMinimumPrice(LocalDateTime startedAt, LocalDateTime finishedAt, Duration variationDuration, long originPrice, PricePolicy pricePolicy) {
-        Duration totalDuration = Duration.between(startedAt, finishedAt);
-        long variationCount = totalDuration.dividedBy(variationDuration) - 1;
-        long discountedPrice = pricePolicy.calculatePriceAtVariation(originPrice, variationCount);
+    public static void validateMinimumPrice(long originPrice, PriceSchedule priceSchedule) {
+        long variationCount = priceSchedule.size() - 1;
+        long discountedPrice = priceSchedule.lastPrice();
 
         if (discountedPrice <= 0) {
             String message = String.format("경매 진행 중 가격이 0원 이하가 됩니다. 초기 가격: %d, 할인횟수: %d, 모든 할인 적용 후 가격: %d",
@@ -1,22 +1,69 @@
 package org.indoles.autionserviceserver.core.auction.dto.Request;
 
 
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionSort;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
+
+import java.time.LocalDateTime;
+
+import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.validateCursor;
 import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.validateOffset;
+import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.validateSearchFilter;
 import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.validateSizeBetween;
 
 /**
  * 경매 상품을 조회할 때의 조건
+ * cursor 가 있으면 offset 대신 cursor 보다 작은 ID 의 경매부터 조회한다(keyset 페이지네이션).
+ * 상태 필터와 정렬 조건은 조회 기준 시간(now)에 대한 시작/종료 시간의 범위 조건으로 변환된다.
  *
  * @param offset 조회 시작 위치 (default: 0)
  * @param size   조회 개수 조회할 거래 내역의 개수 (default: 10) (Min: 1, Max: 100)
+ * @param cursor 이전 페이지의 마지막 경매 ID (없으면 처음부터 조회, 최신 등록순 정렬에서만 사용 가능)
+ * @param status 경매 상태 필터 (없으면 모든 상태)
+ * @param sort   정렬 조건 (default: LATEST)
+ * @param now    상태 필터와 정렬 조건의 조회 기준 시간
  */
 
 public record AuctionSearchConditionRequest(
         int offset,
-        int size
+        int size,
+        Long cursor,
+        AuctionStatus status,
+        AuctionSort sort,
+        LocalDateTime now
 ) {
     public AuctionSearchConditionRequest {
+        if (sort == null) {
+            sort = AuctionSort.LATEST;
+        }
         validateSizeBetween(1, 100, size);
         validateOffset(offset);
+        validateCursor(cursor);
+        validateSearchFilter(cursor, status, sort, now);
+    }
+
+    public AuctionSearchConditionRequest(int offset, int size) {
+        this(offset, size, null);
+    }
+
+    public AuctionSearchConditionRequest(int offset, int size, Long cursor) {
+        this(offset, size, cursor, null, AuctionSort.LATEST, null);
+    }
+
+    public static AuctionSearchConditionRequest ofCursor(Long cursor, int size) {
+        return new AuctionSearchConditionRequest(0, size, cursor);
+    }
+
+    public static AuctionSearchConditionRequest ofCursor(Long cursor, int size, AuctionStatus status, LocalDateTime now) {
+        return new AuctionSearchConditionRequest(0, size, cursor, status, AuctionSort.LATEST, now);
+    }
+
+    public static AuctionSearchConditionRequest of(int offset, int size, AuctionStatus status, AuctionSort sort,
+                                                   LocalDateTime now) {
+        return new AuctionSearchConditionRequest(offset, size, null, status, sort, now);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
     }
 }
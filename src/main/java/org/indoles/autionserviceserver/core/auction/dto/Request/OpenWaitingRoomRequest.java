@@ -0,0 +1,12 @@
+package org.indoles.autionserviceserver.core.auction.dto.Request;
+
+/**
+ * 경매 대기열을 열기 위한 DTO
+ *
+ * @param admissionsPerSecond 초당 구매 처리로 입장시킬 구매자 수
+ */
+
+public record OpenWaitingRoomRequest(
+        long admissionsPerSecond
+) {
+}
@@ -2,22 +2,39 @@ package org.indoles.autionserviceserver.core.auction.dto.Request;
 
 /**
  * 판매자가 경매를 조회할때의 조건
+ * cursor 가 있으면 offset 대신 cursor 보다 작은 ID 의 경매부터 조회한다(keyset 페이지네이션).
  *
  * @param sellerId 판매자 ID
  * @param offset 조회 시작 위치 (default: 0)
  * @param size   조회 개수 조회할 거래 내역의 개수 (default: 10) (Min: 1, Max: 100)
+ * @param cursor 이전 페이지의 마지막 경매 ID (없으면 처음부터 조회)
  */
 
+import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.validateCursor;
 import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.validateOffset;
 import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.validateSizeBetween;
 
 public record SellerAuctionSearchConditionRequest(
         long sellerId,
         int offset,
-        int size
+        int size,
+        Long cursor
 ) {
     public SellerAuctionSearchConditionRequest {
         validateSizeBetween(1, 100, size);
         validateOffset(offset);
+        validateCursor(cursor);
+    }
+
+    public SellerAuctionSearchConditionRequest(long sellerId, int offset, int size) {
+        this(sellerId, offset, size, null);
+    }
+
+    public static SellerAuctionSearchConditionRequest ofCursor(long sellerId, Long cursor, int size) {
+        return new SellerAuctionSearchConditionRequest(sellerId, 0, size, cursor);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
     }
 }
@@ -0,0 +1,24 @@
+package org.indoles.autionserviceserver.core.auction.dto.Response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * 경매 시세 구독(SSE) 시 전송되는 현재 가격과 재고
+ *
+ * @param auctionId    경매 ID
+ * @param status       경매 진행 상태
+ * @param currentPrice 현재 가격
+ * @param currentStock 현재 재고(재고 비공개 경매라면 포함하지 않는다)
+ */
+
+public record AuctionTickResponse(
+        Long auctionId,
+        AuctionStatus status,
+        long currentPrice,
+        @JsonInclude(NON_NULL)
+        Long currentStock
+) {
+}
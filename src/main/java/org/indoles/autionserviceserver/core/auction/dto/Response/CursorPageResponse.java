@@ -0,0 +1,39 @@
+package org.indoles.autionserviceserver.core.auction.dto.Response;
+
+import org.indoles.autionserviceserver.global.util.PageCursor;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 커서 기반 목록 조회 결과
+ *
+ * @param items      조회된 항목
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지라면 null)
+ */
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor
+) {
+
+    /**
+     * 요청한 크기만큼 조회되었다면 마지막 항목의 ID 로 다음 페이지 커서를 만든다.
+     */
+
+    public static <T> CursorPageResponse<T> of(List<T> items, int size, ToLongFunction<T> idExtractor) {
+        return of(items, items, size, idExtractor);
+    }
+
+    /**
+     * 응답 항목(items)과 별개로, 조회한 행(rows)으로 다음 페이지 커서를 만든다.
+     * 조회한 뒤 응답에서 빠진 행이 있어도(그 사이 삭제된 경매 등) 다음 페이지가 끊기지 않는다.
+     */
+
+    public static <T, R> CursorPageResponse<T> of(List<T> items, List<R> rows, int size, ToLongFunction<R> idExtractor) {
+        if (rows.size() < size) {
+            return new CursorPageResponse<>(items, null);
+        }
+        return new CursorPageResponse<>(items, PageCursor.encode(idExtractor.applyAsLong(rows.get(rows.size() - 1))));
+    }
+}
@@ -0,0 +1,48 @@
+package org.indoles.autionserviceserver.core.auction.dto.Response;
+
+import lombok.Builder;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.indoles.autionserviceserver.core.auction.dto.validateDto.ValidateAuctionDto.*;
+
+/**
+ * 경매의 전체 가격표
+ * n 번째 가격은 startedAt + variationDuration * n 부터 다음 변동 시점(또는 finishedAt) 전까지의 가격이다.
+ *
+ * @param auctionId         경매 ID
+ * @param startedAt         경매 시작 시간
+ * @param finishedAt        경매 종료 시간
+ * @param variationDuration 가격 변동 주기
+ * @param prices            변동 구간별 가격
+ */
+
+@Builder
+public record PriceScheduleResponse(
+        Long auctionId,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Duration variationDuration,
+        List<Long> prices
+) {
+    public PriceScheduleResponse {
+        validateNotNull(auctionId, "경매 ID");
+        validateNotNull(startedAt, "경매 시작 시간");
+        validateNotNull(finishedAt, "경매 종료 시간");
+        validateNotNull(variationDuration, "가격 변동 주기");
+        validateNotNull(prices, "가격표");
+    }
+
+    /**
+     * 가격표 내용으로 계산한 ETag(내용이 같으면 항상 같은 값)
+     */
+
+    public String eTag() {
+        String content = auctionId + "|" + startedAt + "|" + finishedAt + "|" + variationDuration + "|" + prices;
+        return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,19 @@
+package org.indoles.autionserviceserver.core.auction.dto.Response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 재고 선점 응답
+ *
+ * @param holdId    선점 ID(확정 시 구매 요청 ID 로 사용된다)
+ * @param quantity  선점 수량
+ * @param expiresAt 선점 만료 시간
+ */
+
+public record PurchaseHoldResponse(
+        UUID holdId,
+        long quantity,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,27 @@
+package org.indoles.autionserviceserver.core.auction.dto.Response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.indoles.autionserviceserver.core.auction.domain.enums.PurchaseStatus;
+
+import java.util.UUID;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * 비동기 구매 요청의 처리 상태
+ *
+ * @param purchaseId 구매 요청 ID
+ * @param status     처리 상태 (PENDING, SUCCEEDED, FAILED)
+ * @param message    실패 사유
+ * @param errorCode  실패 사유의 에러 코드
+ */
+
+public record PurchaseStatusResponse(
+        UUID purchaseId,
+        PurchaseStatus status,
+        @JsonInclude(NON_NULL)
+        String message,
+        @JsonInclude(NON_NULL)
+        String errorCode
+) {
+}
@@ -0,0 +1,20 @@
+package org.indoles.autionserviceserver.core.auction.dto.Response;
+
+/**
+ * 대기열 입장 순번과 현재 대기 상태
+ *
+ * @param auctionId            경매 ID
+ * @param entryNumber          입장 순번(1부터 시작)
+ * @param position             앞에 남은 대기 인원
+ * @param admitted             구매 가능 여부
+ * @param estimatedWaitSeconds 예상 대기 시간(초)
+ */
+
+public record WaitingRoomEntryResponse(
+        long auctionId,
+        long entryNumber,
+        long position,
+        boolean admitted,
+        long estimatedWaitSeconds
+) {
+}
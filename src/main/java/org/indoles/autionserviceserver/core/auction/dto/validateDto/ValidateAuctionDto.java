@@ -1,5 +1,7 @@
 package org.indoles.autionserviceserver.core.auction.dto.validateDto;
 
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionSort;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.core.auction.domain.enums.ReceiptStatus;
 import org.indoles.autionserviceserver.global.exception.BadRequestException;
 import org.indoles.autionserviceserver.global.exception.ErrorCode;
@@ -148,6 +150,21 @@ public class ValidateAuctionDto {
         }
     }
 
+    public static void validateCursor(Long cursor) {
+        if (cursor != null && cursor <= 0) {
+            throw new BadRequestException("cursor는 0보다 큰 값이어야 합니다. cursor: " + cursor, ErrorCode.G012);
+        }
+    }
+
+    public static void validateSearchFilter(Long cursor, AuctionStatus status, AuctionSort sort, LocalDateTime now) {
+        if (cursor != null && !sort.isLatest()) {
+            throw new BadRequestException("cursor는 최신 등록순 정렬에서만 사용할 수 있습니다. 정렬: " + sort, ErrorCode.G013);
+        }
+        if ((status != null || !sort.isLatest()) && now == null) {
+            throw new BadRequestException("상태 필터나 정렬 조건을 사용하려면 조회 기준 시간이 필요합니다.", ErrorCode.G013);
+        }
+    }
+
     /**
      * 경매 입찰 시 사용되는 DTO의 유효성 검사
      */
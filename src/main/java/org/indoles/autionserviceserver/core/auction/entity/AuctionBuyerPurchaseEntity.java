@@ -0,0 +1,40 @@
+package org.indoles.autionserviceserver.core.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "AUCTION_BUYER_PURCHASE", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_auction_buyer_purchase_auction_buyer", columnNames = {"auctionId", "buyerId"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuctionBuyerPurchaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long auctionId;
+
+    private Long buyerId;
+
+    private long quantity;
+
+    private LocalDateTime updatedAt;
+
+    private AuctionBuyerPurchaseEntity(Long auctionId, Long buyerId, long quantity) {
+        this.auctionId = auctionId;
+        this.buyerId = buyerId;
+        this.quantity = quantity;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static AuctionBuyerPurchaseEntity of(long auctionId, long buyerId, long quantity) {
+        return new AuctionBuyerPurchaseEntity(auctionId, buyerId, quantity);
+    }
+}
@@ -12,7 +12,11 @@ import org.indoles.autionserviceserver.core.auction.entity.utils.PricePolicyConv
 
 @Getter
 @Entity
-@Table(name = "AUCTION")
+@Table(name = "AUCTION", indexes = {
+        @Index(name = "idx_auction_started_at", columnList = "startedAt"),
+        @Index(name = "idx_auction_finished_at", columnList = "finishedAt, startedAt"),
+        @Index(name = "idx_auction_seller_id", columnList = "sellerId, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AuctionEntity {
 
@@ -0,0 +1,49 @@
+package org.indoles.autionserviceserver.core.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 AUCTION 테이블에 반영되지 않은 재고 변경 기록
+ * 구매/구매 취소 트랜잭션과 함께 커밋되고, 재고 장부의 write-behind 반영과 같은 트랜잭션에서 삭제된다.
+ */
+
+@Getter
+@Entity
+@Table(name = "AUCTION_STOCK_JOURNAL", indexes = {
+        @Index(name = "idx_auction_stock_journal_auction_id", columnList = "auctionId")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuctionStockJournalEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long auctionId;
+
+    private long stockDelta;
+
+    private Long price;
+
+    private LocalDateTime createdAt;
+
+    private AuctionStockJournalEntity(Long auctionId, long stockDelta, Long price) {
+        this.auctionId = auctionId;
+        this.stockDelta = stockDelta;
+        this.price = price;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static AuctionStockJournalEntity decrease(long auctionId, long quantity, long price) {
+        return new AuctionStockJournalEntity(auctionId, -quantity, price);
+    }
+
+    public static AuctionStockJournalEntity increase(long auctionId, long quantity) {
+        return new AuctionStockJournalEntity(auctionId, quantity, null);
+    }
+}
@@ -0,0 +1,127 @@
+package org.indoles.autionserviceserver.core.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "OUTBOX_EVENT", indexes = {
+        @Index(name = "idx_outbox_event_status_next_retry_at", columnList = "status, nextRetryAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private UUID requestId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int retryCount;
+
+    private LocalDateTime nextRetryAt;
+
+    private LocalDateTime deadlineAt;
+
+    private LocalDateTime createdAt;
+
+    @Version
+    private Long version;
+
+    @Builder
+    private OutboxEventEntity(
+            Long id,
+            UUID requestId,
+            OutboxEventType eventType,
+            String payload,
+            OutboxStatus status,
+            int retryCount,
+            LocalDateTime nextRetryAt,
+            LocalDateTime deadlineAt,
+            LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.requestId = requestId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = status;
+        this.retryCount = retryCount;
+        this.nextRetryAt = nextRetryAt;
+        this.deadlineAt = deadlineAt;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventEntity pending(UUID requestId, OutboxEventType eventType, String payload) {
+        return pending(requestId, eventType, payload, null);
+    }
+
+    /**
+     * @param deadlineAt 이 시각 이후로는 전달을 시도하지 않고 실패로 처리한다(null 이면 기한 없음)
+     */
+
+    public static OutboxEventEntity pending(UUID requestId, OutboxEventType eventType, String payload, LocalDateTime deadlineAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEventEntity.builder()
+                .requestId(requestId)
+                .eventType(eventType)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .retryCount(0)
+                .nextRetryAt(now)
+                .deadlineAt(deadlineAt)
+                .createdAt(now)
+                .build();
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return deadlineAt != null && !now.isBefore(deadlineAt);
+    }
+
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+    }
+
+    public void markFailed() {
+        this.status = OutboxStatus.FAILED;
+    }
+
+    public void retryAt(LocalDateTime nextRetryAt) {
+        this.status = OutboxStatus.PENDING;
+        this.retryCount++;
+        this.nextRetryAt = nextRetryAt;
+    }
+
+    /**
+     * 원격 호출을 시도하지 못한 경우(서킷 열림, bulkhead 초과) 재시도 횟수를 소모하지 않고 전달을 미룬다.
+     * 미룬 시간만큼 전달 기한도 늦춘다.
+     *
+     * @param now         현재 시각
+     * @param nextRetryAt 다음 전달 시각
+     */
+
+    public void deferTo(LocalDateTime now, LocalDateTime nextRetryAt) {
+        if (deadlineAt != null) {
+            this.deadlineAt = deadlineAt.plus(Duration.between(now, nextRetryAt));
+        }
+        this.status = OutboxStatus.PENDING;
+        this.nextRetryAt = nextRetryAt;
+    }
+}
@@ -0,0 +1,49 @@
+package org.indoles.autionserviceserver.core.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "PURCHASE_IDEMPOTENCY", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_purchase_idempotency_buyer_key", columnNames = {"buyerId", "idempotencyKey"})
+}, indexes = {
+        @Index(name = "idx_purchase_idempotency_created_at", columnList = "createdAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PurchaseIdempotencyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long buyerId;
+
+    @Column(length = 64)
+    private String idempotencyKey;
+
+    private UUID requestId;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    private PurchaseIdempotencyEntity(
+            Long id,
+            Long buyerId,
+            String idempotencyKey,
+            UUID requestId,
+            LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.buyerId = buyerId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestId = requestId;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,139 @@
+package org.indoles.autionserviceserver.core.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.indoles.autionserviceserver.core.auction.domain.enums.PurchaseSagaState;
+import org.indoles.autionserviceserver.core.auction.domain.enums.SagaStepStatus;
+import org.indoles.autionserviceserver.core.auction.domain.enums.SagaType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "PURCHASE_SAGA", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_purchase_saga_request_id", columnNames = "requestId")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PurchaseSagaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private UUID requestId;
+
+    @Enumerated(EnumType.STRING)
+    private SagaType sagaType;
+
+    @Enumerated(EnumType.STRING)
+    private PurchaseSagaState state;
+
+    private Long buyerId;
+
+    private Long auctionId;
+
+    @Enumerated(EnumType.STRING)
+    private SagaStepStatus pointStep;
+
+    @Enumerated(EnumType.STRING)
+    private SagaStepStatus receiptStep;
+
+    private String failureReason;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    private PurchaseSagaEntity(
+            Long id,
+            UUID requestId,
+            SagaType sagaType,
+            PurchaseSagaState state,
+            Long buyerId,
+            Long auctionId,
+            SagaStepStatus pointStep,
+            SagaStepStatus receiptStep,
+            String failureReason,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.id = id;
+        this.requestId = requestId;
+        this.sagaType = sagaType;
+        this.state = state;
+        this.buyerId = buyerId;
+        this.auctionId = auctionId;
+        this.pointStep = pointStep;
+        this.receiptStep = receiptStep;
+        this.failureReason = failureReason;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static PurchaseSagaEntity start(UUID requestId, SagaType sagaType, long buyerId, long auctionId) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean purchase = sagaType == SagaType.PURCHASE;
+        return PurchaseSagaEntity.builder()
+                .requestId(requestId)
+                .sagaType(sagaType)
+                .state(purchase ? PurchaseSagaState.STOCK_RESERVED : PurchaseSagaState.STOCK_RESTORED)
+                .buyerId(buyerId)
+                .auctionId(auctionId)
+                .pointStep(purchase ? SagaStepStatus.IN_PROGRESS : null)
+                .receiptStep(purchase ? SagaStepStatus.IN_PROGRESS : null)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public void transitTo(PurchaseSagaState next) {
+        if (!state.canTransitTo(next)) {
+            throw new IllegalStateException(
+                    String.format("Saga 상태를 변경할 수 없습니다. RequestId: %s, 현재 상태: %s, 변경 상태: %s", requestId, state, next));
+        }
+        this.state = next;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isIn(PurchaseSagaState state) {
+        return this.state == state;
+    }
+
+    public void markPointStep(SagaStepStatus status) {
+        this.pointStep = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void markReceiptStep(SagaStepStatus status) {
+        this.receiptStep = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 동시에 진행한 포인트 전송과 거래 내역 생성이 모두 성공했는지 여부
+     */
+
+    public boolean isRemoteStepsSucceeded() {
+        return pointStep == SagaStepStatus.SUCCEEDED && receiptStep == SagaStepStatus.SUCCEEDED;
+    }
+
+    /**
+     * 진행중이거나 아직 보상하지 않은 단계가 남아있는지 여부
+     */
+
+    public boolean hasOutstandingStep() {
+        return (pointStep != null && pointStep.isOutstanding()) || (receiptStep != null && receiptStep.isOutstanding());
+    }
+
+    public void transitTo(PurchaseSagaState next, String failureReason) {
+        transitTo(next);
+        if (failureReason != null) {
+            this.failureReason = failureReason;
+        }
+    }
+}
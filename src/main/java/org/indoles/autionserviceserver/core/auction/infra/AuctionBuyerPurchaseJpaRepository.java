@@ -0,0 +1,20 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import org.indoles.autionserviceserver.core.auction.entity.AuctionBuyerPurchaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface AuctionBuyerPurchaseJpaRepository extends JpaRepository<AuctionBuyerPurchaseEntity, Long> {
+
+    List<AuctionBuyerPurchaseEntity> findAllByAuctionId(Long auctionId);
+
+    @Transactional
+    @Modifying
+    @Query("update AuctionBuyerPurchaseEntity p set p.quantity = p.quantity + :delta, p.updatedAt = CURRENT_TIMESTAMP " +
+            "where p.auctionId = :auctionId and p.buyerId = :buyerId")
+    int addQuantity(Long auctionId, Long buyerId, long delta);
+}
@@ -2,25 +2,36 @@ package org.indoles.autionserviceserver.core.auction.infra;
 
 import lombok.RequiredArgsConstructor;
 import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
 import org.indoles.autionserviceserver.core.auction.dto.Request.AuctionSearchConditionRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SellerAuctionSearchConditionRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 import org.indoles.autionserviceserver.core.auction.entity.AuctionEntity;
+import org.indoles.autionserviceserver.global.config.ReplicaRoutingDataSource;
 import org.indoles.autionserviceserver.global.util.Mapper;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class AuctionCoreRepository implements AuctionRepository {
 
     private final AuctionJpaRepository auctionJpaRepository;
+    private final AuctionDetailCache auctionDetailCache;
+    private final PriceScheduleCache priceScheduleCache;
 
     @Override
     public Auction save(Auction auction) {
         AuctionEntity auctionEntity = Mapper.convertToAuctionEntity(auction);
         AuctionEntity saved = auctionJpaRepository.save(auctionEntity);
+        auctionDetailCache.invalidate(saved.getId());
+        priceScheduleCache.invalidate(saved.getId());
         return Mapper.convertToAuction(saved);
     }
 
@@ -30,8 +41,47 @@ public class AuctionCoreRepository implements AuctionRepository {
         return auction.map(Mapper::convertToAuction);
     }
 
+    /**
+     * 상세 조회용 경매 스냅샷 조회 (캐시에 없을 때만 DB 조회)
+     * 반환된 경매는 여러 요청이 공유하므로 변경하면 안 된다.
+     */
+
+    @Override
+    public Optional<Auction> findDetailById(long id) {
+        return auctionDetailCache.get(id, this::findById);
+    }
+
+    /**
+     * 상세 조회용 경매 스냅샷 여러 건 조회 (캐시에 없는 경매만 한 번의 쿼리로 조회)
+     * 반환된 경매는 여러 요청이 공유하므로 변경하면 안 된다.
+     */
+
+    @Override
+    public Map<Long, Auction> findDetailsByIds(Collection<Long> ids) {
+        return auctionDetailCache.getAll(ids, missing -> auctionJpaRepository.findAllById(missing).stream()
+                .collect(Collectors.toMap(AuctionEntity::getId, Mapper::convertToAuction)));
+    }
+
+    /**
+     * 목록 조회용 가격표 여러 건 조회 (캐시에 없는 경매만 가격표에 필요한 컬럼을 한 번의 쿼리로 조회)
+     * 엔티티와 도메인 객체를 만들지 않고 조회한 컬럼으로 바로 가격표를 만든다.
+     */
+
+    @Override
+    public Map<Long, PriceSchedule> findPriceSchedulesByIds(Collection<Long> ids) {
+        return priceScheduleCache.getAll(ids, missing -> auctionJpaRepository.findPricingByIdIn(missing).stream()
+                .collect(Collectors.toMap(AuctionPricingRow::id, AuctionPricingRow::toPriceSchedule)));
+    }
+
     public void deleteById(long id) {
         auctionJpaRepository.deleteById(id);
+        auctionDetailCache.invalidate(id);
+        priceScheduleCache.invalidate(id);
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return auctionJpaRepository.existsById(id);
     }
 
     @Override
@@ -50,9 +100,50 @@ public class AuctionCoreRepository implements AuctionRepository {
                 .toList();
     }
 
+    /**
+     * 경매 목록 조회 (읽기 복제본 사용, 복제 지연만큼 오래된 목록을 허용한다)
+     */
+
     @Override
-    public Optional<Auction> findByIdForUpdate(long auctionId) {
-        Optional<AuctionEntity> auction = auctionJpaRepository.findByIdForUpdate(auctionId);
-        return auction.map(Mapper::convertToAuction);
+    public List<BuyerAuctionListingRow> findBuyerListingBy(AuctionSearchConditionRequest condition) {
+        return ReplicaRoutingDataSource.readFromReplica(() -> auctionJpaRepository.findBuyerListingBy(condition));
+    }
+
+    @Override
+    public List<SellerAuctionSimpleInfoResponse> findSellerListingBy(SellerAuctionSearchConditionRequest condition) {
+        return ReplicaRoutingDataSource.readFromReplica(() -> auctionJpaRepository.findSellerListingBy(condition));
+    }
+
+    /**
+     * 시작 시간이 [from, to) 구간에 있는 경매 조회 (startedAt 인덱스 사용)
+     */
+
+    @Override
+    public List<Auction> findAllStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return auctionJpaRepository.findAllByStartedAtGreaterThanEqualAndStartedAtLessThan(from, to).stream()
+                .map(Mapper::convertToAuction)
+                .toList();
+    }
+
+    /**
+     * 재고가 충분한 경우에만 재고를 차감하고 현재 가격을 갱신한다. (단일 UPDATE, 읽기 락 없음)
+     *
+     * @return 반영된 행의 수 (재고가 부족하면 0)
+     */
+
+    @Override
+    public int decreaseStock(long auctionId, long quantity, long price) {
+        return auctionJpaRepository.decreaseStock(auctionId, quantity, price);
+    }
+
+    /**
+     * 복구 후 재고가 원래 재고를 넘지 않는 경우에만 재고를 복구한다.
+     *
+     * @return 반영된 행의 수 (원래 재고를 넘게 되면 0)
+     */
+
+    @Override
+    public int increaseStock(long auctionId, long quantity) {
+        return auctionJpaRepository.increaseStock(auctionId, quantity);
     }
 }
@@ -0,0 +1,104 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 경매 상세 조회용 경매 스냅샷 캐시(read-through)
+ * 조회 시 캐시에 없거나 TTL 이 지난 경우에만 DB 에서 읽어 채우며, 크기가 한도를 넘으면 Caffeine 의 빈도 기반 정책(W-TinyLFU)으로 제거한다.
+ * 같은 경매의 읽기와 무효화는 Caffeine 안에서 직렬화되므로, 읽는 도중 무효화된 이전 값이 다시 캐시되지 않는다.
+ * 경매가 저장되거나 삭제되면 즉시, 그리고 트랜잭션 종료 후 한 번 더 무효화하므로 커밋 전의 값이 다시 캐시되지 않는다.
+ * 캐시 통계는 cache.gets, cache.evictions, cache.size 등으로 노출된다(cache=auction.detail).
+ * 캐시된 스냅샷은 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다.
+ */
+
+@Component
+public class AuctionDetailCache {
+
+    private static final String CACHE_NAME = "auction.detail";
+
+    private final Cache<Long, Auction> cache;
+
+    @Autowired
+    public AuctionDetailCache(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${auction.detail-cache.maximum-size:10000}") int maximumSize,
+            @Value("${auction.detail-cache.ttl:PT5M}") Duration ttl
+    ) {
+        this(meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new), maximumSize, ttl);
+    }
+
+    public AuctionDetailCache(MeterRegistry meterRegistry, int maximumSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 경매 조회, 없으면 loader 로 읽어 캐시에 채운다.
+     * 없는 경매는 캐시하지 않는다.
+     *
+     * @param auctionId 경매 ID
+     * @param loader    캐시에 없을 때 경매를 읽는 함수
+     * @return 경매 스냅샷
+     */
+
+    public Optional<Auction> get(long auctionId, LongFunction<Optional<Auction>> loader) {
+        return Optional.ofNullable(cache.get(auctionId, id -> loader.apply(id).orElse(null)));
+    }
+
+    /**
+     * 캐시된 경매 여러 건 조회, 캐시에 없는 경매만 loader 로 한 번에 읽어 캐시에 채운다.
+     * 없는 경매는 결과에서 빠지며 캐시하지 않는다.
+     *
+     * @param auctionIds 경매 ID 목록
+     * @param loader     캐시에 없는 경매 ID 들로 경매를 읽는 함수
+     * @return 경매 ID 별 경매 스냅샷
+     */
+
+    public Map<Long, Auction> getAll(Collection<Long> auctionIds, Function<Set<Long>, Map<Long, Auction>> loader) {
+        return cache.getAll(auctionIds, ids -> loader.apply(Set.copyOf(ids)));
+    }
+
+    /**
+     * 경매 스냅샷 무효화(저장, 삭제 시)
+     * 진행 중인 트랜잭션이 있다면 트랜잭션이 끝난 뒤에도 한 번 더 무효화한다.
+     *
+     * @param auctionId 경매 ID
+     */
+
+    public void invalidate(long auctionId) {
+        cache.invalidate(auctionId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(auctionId);
+                }
+            });
+        }
+    }
+}
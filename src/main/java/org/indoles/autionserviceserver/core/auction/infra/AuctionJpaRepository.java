@@ -1,16 +1,33 @@
 package org.indoles.autionserviceserver.core.auction.infra;
 
-import jakarta.persistence.LockModeType;
 import org.indoles.autionserviceserver.core.auction.entity.AuctionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface AuctionJpaRepository extends JpaRepository<AuctionEntity, Long>, AuctionQueryDslRepository {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select a from AuctionEntity a where a.id = :id")
-    Optional<AuctionEntity> findByIdForUpdate(Long id);
+    List<AuctionEntity> findAllByStartedAtGreaterThanEqualAndStartedAtLessThan(LocalDateTime from, LocalDateTime to);
+
+    @Query("select new org.indoles.autionserviceserver.core.auction.infra.AuctionPricingRow("
+            + "a.id, a.pricePolicy, a.originPrice, a.variationDuration, a.startedAt, a.finishedAt) "
+            + "from AuctionEntity a where a.id in :ids")
+    List<AuctionPricingRow> findPricingByIdIn(Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AuctionEntity a set a.currentStock = a.currentStock - :quantity, a.currentPrice = :price "
+            + "where a.id = :id and a.currentStock >= :quantity")
+    int decreaseStock(Long id, long quantity, long price);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AuctionEntity a set a.currentStock = a.currentStock + :quantity "
+            + "where a.id = :id and a.currentStock + :quantity <= a.originStock")
+    int increaseStock(Long id, long quantity);
 }
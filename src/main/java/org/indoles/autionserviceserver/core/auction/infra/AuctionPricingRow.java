@@ -0,0 +1,33 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import org.indoles.autionserviceserver.core.auction.domain.PricePolicy;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 가격표 생성용 프로젝션
+ * 가격표에 필요한 컬럼만 조회하므로 엔티티와 도메인 객체(Auction)를 만들지 않고 경매 검증도 하지 않는다.
+ *
+ * @param id                경매 ID
+ * @param pricePolicy       가격 정책
+ * @param originPrice       시작 가격
+ * @param variationDuration 가격 변동 주기
+ * @param startedAt         시작 시간
+ * @param finishedAt        종료 시간
+ */
+
+public record AuctionPricingRow(
+        long id,
+        PricePolicy pricePolicy,
+        long originPrice,
+        Duration variationDuration,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    public PriceSchedule toPriceSchedule() {
+        return PriceSchedule.compile(pricePolicy, originPrice, startedAt, finishedAt, variationDuration);
+    }
+}
@@ -2,6 +2,7 @@ package org.indoles.autionserviceserver.core.auction.infra;
 
 import org.indoles.autionserviceserver.core.auction.dto.Request.AuctionSearchConditionRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SellerAuctionSearchConditionRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 import org.indoles.autionserviceserver.core.auction.entity.AuctionEntity;
 
 import java.util.List;
@@ -12,4 +13,8 @@ public interface AuctionQueryDslRepository {
 
     List<AuctionEntity> findAllBy(SellerAuctionSearchConditionRequest condition);
 
+    List<BuyerAuctionListingRow> findBuyerListingBy(AuctionSearchConditionRequest condition);
+
+    List<SellerAuctionSimpleInfoResponse> findSellerListingBy(SellerAuctionSearchConditionRequest condition);
+
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package org.indoles.autionserviceserver.core.auction.infra;
 
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionSort;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.core.auction.dto.Request.AuctionSearchConditionRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SellerAuctionSearchConditionRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 import org.indoles.autionserviceserver.core.auction.entity.AuctionEntity;
 import org.indoles.autionserviceserver.core.auction.entity.QAuctionEntity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -14,29 +22,115 @@ public class AuctionQueryDslRepositoryImpl implements AuctionQueryDslRepository
 
     private final JPAQueryFactory query;
 
+    /**
+     * cursor 가 있으면 WHERE id < cursor ORDER BY id DESC LIMIT size 로 조회하므로(keyset),
+     * 페이지가 깊어져도 앞의 행을 읽고 버리지 않는다.
+     * 상태 필터와 정렬 조건은 startedAt/finishedAt 범위 조건으로 변환되어 시간 인덱스로 해당하는 행만 읽는다.
+     */
+
     @Override
     public List<AuctionEntity> findAllBy(AuctionSearchConditionRequest condition) {
         QAuctionEntity auction = QAuctionEntity.auctionEntity;
-        return query
-                .select(auction)
-                .from(auction)
-                .orderBy(auction.id.desc())
-                .limit(condition.size())
-                .offset(condition.offset())
-                .fetch();
+        return searchBy(query.select(auction), auction, condition).fetch();
     }
 
     @Override
     public List<AuctionEntity> findAllBy(SellerAuctionSearchConditionRequest condition) {
         QAuctionEntity auction = QAuctionEntity.auctionEntity;
-        return query
-                .select(auction)
+        return searchBy(query.select(auction), auction, condition).fetch();
+    }
+
+    /**
+     * 목록에 필요한 컬럼만 조회해 바로 레코드로 만든다(엔티티가 영속성 컨텍스트에 올라가지 않아 dirty checking 대상이 아니다).
+     */
+
+    @Override
+    public List<BuyerAuctionListingRow> findBuyerListingBy(AuctionSearchConditionRequest condition) {
+        QAuctionEntity auction = QAuctionEntity.auctionEntity;
+        return searchBy(query.select(Projections.constructor(BuyerAuctionListingRow.class,
+                auction.id,
+                auction.productName,
+                auction.startedAt,
+                auction.finishedAt
+        )), auction, condition).fetch();
+    }
+
+    @Override
+    public List<SellerAuctionSimpleInfoResponse> findSellerListingBy(SellerAuctionSearchConditionRequest condition) {
+        QAuctionEntity auction = QAuctionEntity.auctionEntity;
+        return searchBy(query.select(Projections.constructor(SellerAuctionSimpleInfoResponse.class,
+                auction.id,
+                auction.productName,
+                auction.originPrice,
+                auction.currentPrice,
+                auction.originStock,
+                auction.currentStock,
+                auction.startedAt,
+                auction.finishedAt
+        )), auction, condition).fetch();
+    }
+
+    private <T> JPAQuery<T> searchBy(JPAQuery<T> select, QAuctionEntity auction, AuctionSearchConditionRequest condition) {
+        LocalDateTime now = condition.now();
+        return select
+                .from(auction)
+                .where(
+                        idLessThan(auction, condition.cursor()),
+                        statusEq(auction, condition.status(), now),
+                        sortRange(auction, condition.sort(), now)
+                )
+                .orderBy(orderBy(auction, condition.sort()))
+                .limit(condition.size())
+                .offset(condition.offset());
+    }
+
+    private <T> JPAQuery<T> searchBy(JPAQuery<T> select, QAuctionEntity auction,
+                                     SellerAuctionSearchConditionRequest condition) {
+        return select
                 .from(auction)
-                .where(auction.sellerId.eq(condition.sellerId()))
+                .where(auction.sellerId.eq(condition.sellerId()), idLessThan(auction, condition.cursor()))
                 .orderBy(auction.id.desc())
                 .limit(condition.size())
-                .offset(condition.offset())
-                .fetch();
+                .offset(condition.offset());
+    }
+
+    private BooleanExpression idLessThan(QAuctionEntity auction, Long cursor) {
+        return cursor == null ? null : auction.id.lt(cursor);
+    }
+
+    private BooleanExpression statusEq(QAuctionEntity auction, AuctionStatus status, LocalDateTime now) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case WAITING -> waiting(auction, now);
+            case RUNNING -> running(auction, now);
+            case SOLD_OUT -> running(auction, now).and(auction.currentStock.eq(0L));
+            case FINISHED -> auction.finishedAt.loe(now);
+        };
     }
-}
 
+    private BooleanExpression sortRange(QAuctionEntity auction, AuctionSort sort, LocalDateTime now) {
+        return switch (sort) {
+            case LATEST -> null;
+            case ENDING_SOON -> running(auction, now);
+            case STARTING_SOON -> waiting(auction, now);
+        };
+    }
+
+    private OrderSpecifier<?>[] orderBy(QAuctionEntity auction, AuctionSort sort) {
+        return switch (sort) {
+            case LATEST -> new OrderSpecifier<?>[]{auction.id.desc()};
+            case ENDING_SOON -> new OrderSpecifier<?>[]{auction.finishedAt.asc(), auction.id.desc()};
+            case STARTING_SOON -> new OrderSpecifier<?>[]{auction.startedAt.asc(), auction.id.desc()};
+        };
+    }
+
+    private BooleanExpression waiting(QAuctionEntity auction, LocalDateTime now) {
+        return auction.startedAt.gt(now);
+    }
+
+    private BooleanExpression running(QAuctionEntity auction, LocalDateTime now) {
+        return auction.finishedAt.gt(now).and(auction.startedAt.loe(now));
+    }
+}
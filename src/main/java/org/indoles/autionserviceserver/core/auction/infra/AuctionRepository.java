@@ -1,10 +1,15 @@
 package org.indoles.autionserviceserver.core.auction.infra;
 
 import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
 import org.indoles.autionserviceserver.core.auction.dto.Request.AuctionSearchConditionRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SellerAuctionSearchConditionRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface AuctionRepository {
@@ -13,11 +18,27 @@ public interface AuctionRepository {
 
     Optional<Auction> findById(Long id);
 
+    Optional<Auction> findDetailById(long id);
+
+    Map<Long, Auction> findDetailsByIds(Collection<Long> ids);
+
+    Map<Long, PriceSchedule> findPriceSchedulesByIds(Collection<Long> ids);
+
     void deleteById(long id);
 
+    boolean existsById(long id);
+
     List<Auction> findAllBy(AuctionSearchConditionRequest condition);
 
     List<Auction> findAllBy(SellerAuctionSearchConditionRequest condition);
 
-    Optional<Auction> findByIdForUpdate(long auctionId);
+    List<BuyerAuctionListingRow> findBuyerListingBy(AuctionSearchConditionRequest condition);
+
+    List<SellerAuctionSimpleInfoResponse> findSellerListingBy(SellerAuctionSearchConditionRequest condition);
+
+    List<Auction> findAllStartingBetween(LocalDateTime from, LocalDateTime to);
+
+    int decreaseStock(long auctionId, long quantity, long price);
+
+    int increaseStock(long auctionId, long quantity);
 }
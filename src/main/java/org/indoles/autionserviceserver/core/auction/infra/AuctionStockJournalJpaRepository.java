@@ -0,0 +1,24 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import org.indoles.autionserviceserver.core.auction.entity.AuctionStockJournalEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AuctionStockJournalJpaRepository extends JpaRepository<AuctionStockJournalEntity, Long> {
+
+    List<AuctionStockJournalEntity> findAllByAuctionIdOrderByIdAsc(Long auctionId);
+
+    @Query("select distinct j.auctionId from AuctionStockJournalEntity j")
+    List<Long> findPendingAuctionIds();
+
+    /**
+     * AUCTION 테이블의 재고에 아직 반영되지 않은 변경량을 더한 재고 (하나의 쿼리로 읽어 반영 도중에도 일관된 값을 얻는다)
+     */
+
+    @Query("select a.currentStock + coalesce((select sum(j.stockDelta) from AuctionStockJournalEntity j "
+            + "where j.auctionId = a.id), 0) from AuctionEntity a where a.id = :auctionId")
+    Optional<Long> findJournaledStock(Long auctionId);
+}
@@ -0,0 +1,262 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.entity.AuctionStockJournalEntity;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.indoles.autionserviceserver.core.auction.domain.validate.ValidateAuction.validateStock;
+
+/**
+ * 경매 재고의 권위있는(authoritative) 인메모리 장부
+ * 구매/환불 시 재고는 메모리에서 CAS 로 차감/복구되고, 변경량은 구매/환불 트랜잭션 안에서 AUCTION_STOCK_JOURNAL 에 함께 기록된다.
+ * 기록된 변경량은 write-behind 방식으로 조건부 원자적 UPDATE(AuctionRepository.decreaseStock / increaseStock)를 통해
+ * AUCTION 테이블에 반영되며, 반영과 기록 삭제는 하나의 트랜잭션으로 처리된다.
+ * 따라서 반영 전에 서버가 종료되어도 커밋된 변경량은 사라지지 않고, 장부는 AUCTION 재고에 남은 변경량을 더한 값으로 다시 시작한다.
+ * 삭제된 경매의 기록은 버리고, 조건부 UPDATE 가 계속 반영되지 않는 경매는 격리해 더 이상 반영을 시도하지 않는다.
+ * 하나의 경매는 하나의 서버 인스턴스에서만 재고를 관리한다는 전제를 가진다.
+ */
+
+@Slf4j
+@Component
+public class AuctionStockLedger {
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionStockJournalJpaRepository auctionStockJournalJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxMismatches;
+    private final ConcurrentMap<Long, StockEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> mismatches = new ConcurrentHashMap<>();
+    private final Set<Long> quarantined = ConcurrentHashMap.newKeySet();
+
+    public AuctionStockLedger(
+            AuctionRepository auctionRepository,
+            AuctionStockJournalJpaRepository auctionStockJournalJpaRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${auction.stock-ledger.max-mismatches:5}") int maxMismatches
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.auctionStockJournalJpaRepository = auctionStockJournalJpaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxMismatches = maxMismatches;
+    }
+
+    /**
+     * 경매의 재고를 장부에 불러온다(경매 시작 전 예열, Sequencer 에 작업을 넘기기 전)
+     * AUCTION 재고에 아직 반영되지 않은 변경량을 더한 값으로 시작한다. 이미 불러온 경매라면 DB 를 조회하지 않는다.
+     *
+     * @param auction 불러올 경매
+     */
+
+    public void warm(Auction auction) {
+        if (entries.containsKey(auction.getId())) {
+            return;
+        }
+        long stock = auctionStockJournalJpaRepository.findJournaledStock(auction.getId())
+                .orElse(auction.getCurrentStock());
+        entries.putIfAbsent(auction.getId(), new StockEntry(stock, auction.getOriginStock()));
+    }
+
+    /**
+     * 재고 차감(Sequencer 스레드)
+     *
+     * @param auctionId 재고를 차감할 경매 ID
+     * @param quantity  차감 수량
+     */
+
+    public void decrease(long auctionId, long quantity) {
+        StockEntry entry = loadedEntryOf(auctionId);
+
+        if (!entry.tryDecrease(quantity)) {
+            String message = String.format("재고가 부족합니다. 현재 재고: %d, 요청 구매 수량: %d", entry.stock.get(), quantity);
+            throw new SuccessfulOperationException(message, ErrorCode.A012);
+        }
+    }
+
+    /**
+     * 재고 복구(환불, 구매 실패 보상, Sequencer 스레드)
+     *
+     * @param auctionId 재고를 복구할 경매 ID
+     * @param quantity  복구 수량
+     */
+
+    public void increase(long auctionId, long quantity) {
+        loadedEntryOf(auctionId).increase(quantity);
+    }
+
+    /**
+     * 재고 차감 기록(호출한 트랜잭션과 함께 커밋된다)
+     *
+     * @param auctionId 경매 ID
+     * @param quantity  차감 수량
+     * @param price     구매 가격
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDecrease(long auctionId, long quantity, long price) {
+        auctionStockJournalJpaRepository.save(AuctionStockJournalEntity.decrease(auctionId, quantity, price));
+    }
+
+    /**
+     * 재고 복구 기록(호출한 트랜잭션과 함께 커밋된다)
+     *
+     * @param auctionId 경매 ID
+     * @param quantity  복구 수량
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordIncrease(long auctionId, long quantity) {
+        auctionStockJournalJpaRepository.save(AuctionStockJournalEntity.increase(auctionId, quantity));
+    }
+
+    /**
+     * 장부에 기록된 현재 재고
+     *
+     * @param auctionId 경매 ID
+     * @return 장부에 없는 경매라면 empty
+     */
+
+    public Optional<Long> currentStock(long auctionId) {
+        return Optional.ofNullable(entries.get(auctionId))
+                .map(entry -> entry.stock.get());
+    }
+
+    /**
+     * 기록된 재고 변경량을 AUCTION 테이블에 반영(write-behind)
+     * 전체 행을 덮어쓰지 않고 변경량만 반영하므로, 다른 경로의 변경과 서로 덮어쓰지 않는다.
+     * 경매별로 변경량 반영과 반영한 기록의 삭제를 하나의 트랜잭션으로 처리하고, 반영되지 않은 기록은 남겨 다음 주기에 다시 반영한다.
+     * 조건부 UPDATE 가 maxMismatches 번 연속으로 반영되지 않은 경매는 격리하고, 기록은 수동 처리를 위해 남겨 둔다.
+     */
+
+    @Scheduled(fixedDelayString = "${auction.stock-ledger.flush-interval-ms:200}")
+    public void flush() {
+        for (Long auctionId : auctionStockJournalJpaRepository.findPendingAuctionIds()) {
+            if (quarantined.contains(auctionId)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(auctionId));
+            } catch (Exception e) {
+                log.error("재고 write-behind 반영 실패. AuctionId: {}", auctionId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void apply(long auctionId) {
+        List<AuctionStockJournalEntity> journals = auctionStockJournalJpaRepository.findAllByAuctionIdOrderByIdAsc(auctionId);
+        if (journals.isEmpty()) {
+            return;
+        }
+
+        long delta = 0;
+        long price = 0;
+        for (AuctionStockJournalEntity journal : journals) {
+            delta += journal.getStockDelta();
+            if (journal.getPrice() != null) {
+                price = journal.getPrice();
+            }
+        }
+
+        int updated = 1;
+        if (delta < 0) {
+            updated = auctionRepository.decreaseStock(auctionId, -delta, price);
+        } else if (delta > 0) {
+            updated = auctionRepository.increaseStock(auctionId, delta);
+        }
+
+        if (updated == 0) {
+            onMismatch(auctionId, delta, journals);
+            return;
+        }
+        mismatches.remove(auctionId);
+        delete(journals);
+    }
+
+    private void onMismatch(long auctionId, long delta, List<AuctionStockJournalEntity> journals) {
+        if (!auctionRepository.existsById(auctionId)) {
+            delete(journals);
+            entries.remove(auctionId);
+            mismatches.remove(auctionId);
+            log.warn("삭제된 경매의 재고 기록을 버립니다. AuctionId: {}, 변경량: {}", auctionId, delta);
+            return;
+        }
+
+        int count = mismatches.merge(auctionId, 1, Integer::sum);
+        if (count < maxMismatches) {
+            log.warn("재고 write-behind 반영 조건 불일치. 다음 주기에 다시 반영합니다. AuctionId: {}, 변경량: {}, 시도: {}/{}",
+                    auctionId, delta, count, maxMismatches);
+            return;
+        }
+        quarantined.add(auctionId);
+        mismatches.remove(auctionId);
+        log.error("재고 write-behind 반영 조건이 계속 맞지 않아 경매를 격리합니다. 장부와 DB 재고가 다르므로 수동 처리가 필요합니다. "
+                + "AuctionId: {}, 변경량: {}, 장부 재고: {}", auctionId, delta, currentStock(auctionId).orElse(null));
+    }
+
+    private void delete(List<AuctionStockJournalEntity> journals) {
+        auctionStockJournalJpaRepository.deleteAllByIdInBatch(journals.stream()
+                .map(AuctionStockJournalEntity::getId)
+                .toList());
+    }
+
+    private StockEntry loadedEntryOf(long auctionId) {
+        StockEntry entry = entries.get(auctionId);
+        if (entry == null) {
+            throw new IllegalStateException("재고를 불러오지 않은 경매입니다. warm 을 먼저 호출해야 합니다. AuctionId: " + auctionId);
+        }
+        return entry;
+    }
+
+    private static final class StockEntry {
+
+        private final AtomicLong stock;
+        private final long originStock;
+
+        private StockEntry(long stock, long originStock) {
+            this.stock = new AtomicLong(stock);
+            this.originStock = originStock;
+        }
+
+        private boolean tryDecrease(long quantity) {
+            while (true) {
+                long current = stock.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (stock.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+
+        private void increase(long quantity) {
+            while (true) {
+                long current = stock.get();
+                validateStock(current, quantity, originStock);
+                if (stock.compareAndSet(current, current + quantity)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매자 경매 목록 조회용 프로젝션
+ * 목록에 필요한 컬럼만 조회하므로 엔티티와 도메인 객체를 만들지 않고 가격 정책 JSON 도 파싱하지 않는다.
+ * 현재 가격은 경매별로 캐시된 가격표(PriceSchedule)에서 읽는다.
+ *
+ * @param id          경매 ID
+ * @param productName 상품 이름
+ * @param startedAt   시작 시간
+ * @param finishedAt  종료 시간
+ */
+
+public record BuyerAuctionListingRow(
+        long id,
+        String productName,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
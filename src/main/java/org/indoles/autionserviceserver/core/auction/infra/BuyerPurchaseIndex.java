@@ -0,0 +1,183 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.entity.AuctionBuyerPurchaseEntity;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.util.LongIntOpenHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경매별, 구매자별 누적 구매 수량 인덱스
+ * 한 번의 요청이 아닌 누적 구매 수량이 인당 구매 제한(maximumPurchaseLimitCount)을 넘지 않도록 검증한다.
+ * 수량은 경매별 LongIntOpenHashMap 에 보관되어 검증과 갱신이 O(1)이며 객체를 생성하지 않는다.
+ * 갱신은 경매의 Sequencer 스레드에서 이루어지고, 누적된 변경량은 재고 장부와 마찬가지로 write-behind 방식으로
+ * AUCTION_BUYER_PURCHASE 테이블에 반영된다.
+ * 테이블은 Sequencer 에 작업을 넘기기 전에 호출한 스레드에서 warm 으로 한 번만 읽어 오므로 Sequencer 스레드는 DB 를 조회하지 않는다.
+ * 경매별 수량은 ReentrantLock 으로 보호해 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않는다.
+ */
+
+@Slf4j
+@Component
+public class BuyerPurchaseIndex {
+
+    private final AuctionBuyerPurchaseJpaRepository auctionBuyerPurchaseJpaRepository;
+    private final int expectedBuyers;
+    private final ConcurrentMap<Long, PurchaseEntry> entries = new ConcurrentHashMap<>();
+
+    public BuyerPurchaseIndex(
+            AuctionBuyerPurchaseJpaRepository auctionBuyerPurchaseJpaRepository,
+            @Value("${auction.buyer-purchase-index.expected-buyers:1024}") int expectedBuyers
+    ) {
+        this.auctionBuyerPurchaseJpaRepository = auctionBuyerPurchaseJpaRepository;
+        this.expectedBuyers = expectedBuyers;
+    }
+
+    /**
+     * 누적 구매 수량 검증(Sequencer 스레드)
+     *
+     * @param auction  구매할 경매
+     * @param buyerId  구매자 ID
+     * @param quantity 구매 수량
+     */
+
+    public void verifyLimit(Auction auction, long buyerId, long quantity) {
+        PurchaseEntry entry = loadedEntryOf(auction.getId());
+        long purchased;
+        entry.lock.lock();
+        try {
+            purchased = entry.purchased.get(buyerId);
+        } finally {
+            entry.lock.unlock();
+        }
+
+        if (purchased + quantity > auction.getMaximumPurchaseLimitCount()) {
+            String message = String.format("인당 구매 제한을 초과합니다. 누적 구매 수량: %d, 요청: %d, 인당구매제한: %d",
+                    purchased, quantity, auction.getMaximumPurchaseLimitCount());
+            throw new BadRequestException(message, ErrorCode.A041);
+        }
+    }
+
+    /**
+     * 경매의 누적 구매 수량을 읽어 온다(경매 시작 전 예열, Sequencer 에 작업을 넘기기 전)
+     * 이미 읽어 온 경매라면 DB 를 조회하지 않는다. DB 조회는 맵의 잠금 밖에서 하고, 먼저 등록된 것을 사용한다.
+     */
+
+    public void warm(long auctionId) {
+        if (entries.containsKey(auctionId)) {
+            return;
+        }
+        entries.putIfAbsent(auctionId, load(auctionId));
+    }
+
+    /**
+     * 누적 구매 수량 증가(구매, 구매 취소 보상, Sequencer 스레드)
+     */
+
+    public void increase(long auctionId, long buyerId, long quantity) {
+        add(auctionId, buyerId, (int) quantity);
+    }
+
+    /**
+     * 누적 구매 수량 감소(구매 취소, 구매 보상, 선점 만료, Sequencer 스레드)
+     */
+
+    public void decrease(long auctionId, long buyerId, long quantity) {
+        add(auctionId, buyerId, (int) -quantity);
+    }
+
+    /**
+     * 마지막 반영 이후 누적된 변경량을 AUCTION_BUYER_PURCHASE 테이블에 반영(write-behind)
+     */
+
+    @Scheduled(fixedDelayString = "${auction.buyer-purchase-index.flush-interval-ms:1000}")
+    public void flush() {
+        entries.forEach((auctionId, entry) -> {
+            LongIntOpenHashMap pending;
+            entry.lock.lock();
+            try {
+                if (entry.pending.isEmpty()) {
+                    return;
+                }
+                pending = entry.pending;
+                entry.pending = new LongIntOpenHashMap(pending.size());
+            } finally {
+                entry.lock.unlock();
+            }
+
+            pending.forEach((buyerId, delta) -> {
+                if (delta == 0) {
+                    return;
+                }
+                try {
+                    if (auctionBuyerPurchaseJpaRepository.addQuantity(auctionId, buyerId, delta) == 0) {
+                        auctionBuyerPurchaseJpaRepository.save(AuctionBuyerPurchaseEntity.of(auctionId, buyerId, delta));
+                    }
+                } catch (Exception e) {
+                    entry.lock.lock();
+                    try {
+                        entry.pending.addTo(buyerId, delta);
+                    } finally {
+                        entry.lock.unlock();
+                    }
+                    log.error("누적 구매 수량 write-behind 반영 실패. AuctionId: {}, BuyerId: {}", auctionId, buyerId, e);
+                }
+            });
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(long auctionId, long buyerId, int delta) {
+        PurchaseEntry entry = loadedEntryOf(auctionId);
+        entry.lock.lock();
+        try {
+            entry.purchased.addTo(buyerId, delta);
+            entry.pending.addTo(buyerId, delta);
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    private PurchaseEntry loadedEntryOf(long auctionId) {
+        PurchaseEntry entry = entries.get(auctionId);
+        if (entry == null) {
+            throw new IllegalStateException("누적 구매 수량을 읽어 오지 않은 경매입니다. warm 을 먼저 호출해야 합니다. AuctionId: " + auctionId);
+        }
+        return entry;
+    }
+
+    private PurchaseEntry load(long auctionId) {
+        List<AuctionBuyerPurchaseEntity> purchases = auctionBuyerPurchaseJpaRepository.findAllByAuctionId(auctionId);
+        PurchaseEntry entry = new PurchaseEntry(Math.max(expectedBuyers, purchases.size()));
+
+        for (AuctionBuyerPurchaseEntity purchase : purchases) {
+            entry.purchased.addTo(purchase.getBuyerId(), (int) purchase.getQuantity());
+        }
+        return entry;
+    }
+
+    private static final class PurchaseEntry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongIntOpenHashMap purchased;
+        private LongIntOpenHashMap pending;
+
+        private PurchaseEntry(int expectedBuyers) {
+            this.purchased = new LongIntOpenHashMap(expectedBuyers);
+            this.pending = new LongIntOpenHashMap(16);
+        }
+    }
+}
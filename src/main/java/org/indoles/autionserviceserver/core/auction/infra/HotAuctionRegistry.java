@@ -0,0 +1,53 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 곧 시작하거나 진행 중인 경매를 메모리에 보관하는 레지스트리
+ * 구매 경로는 DB 조회와 엔티티 변환, 가격 정책 JSON 파싱 없이 이 레지스트리의 경매로 구매를 검증한다.
+ * 등록된 경매는 생성 시 계산된 가격표(PriceSchedule)를 가지므로 가격 검증도 배열 조회로 끝난다.
+ * 구매 검증에 쓰이는 경매 정보(가격, 가격 정책, 시간, 구매 제한)는 등록 후 바뀌지 않으며, 재고는 재고 장부가 관리한다.
+ */
+
+@Component
+public class HotAuctionRegistry {
+
+    private final ConcurrentMap<Long, Auction> auctions = new ConcurrentHashMap<>();
+
+    public void register(Auction auction) {
+        auctions.put(auction.getId(), auction);
+    }
+
+    public Optional<Auction> find(long auctionId) {
+        return Optional.ofNullable(auctions.get(auctionId));
+    }
+
+    public boolean contains(long auctionId) {
+        return auctions.containsKey(auctionId);
+    }
+
+    /**
+     * 취소된 경매 제거
+     */
+
+    public void evict(long auctionId) {
+        auctions.remove(auctionId);
+    }
+
+    /**
+     * 종료된 경매 정리
+     */
+
+    @Scheduled(fixedDelayString = "${auction.prewarm.eviction-interval-ms:60000}")
+    public void evictFinished() {
+        LocalDateTime now = LocalDateTime.now();
+        auctions.values().removeIf(auction -> auction.getFinishedAt().isBefore(now));
+    }
+}
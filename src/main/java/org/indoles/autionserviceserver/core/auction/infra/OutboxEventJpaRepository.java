@@ -0,0 +1,59 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus;
+import org.indoles.autionserviceserver.core.auction.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    List<OutboxEventEntity> findTop100ByStatusAndNextRetryAtLessThanEqualOrderByIdAsc(OutboxStatus status, LocalDateTime now);
+
+    /**
+     * 전달할 이벤트 선점
+     * 선점한 이벤트는 SENDING 이 되어 취소(cancelPending)되지 않고, leaseUntil 까지 결과가 기록되지 않으면 다시 PENDING 이 된다.
+     *
+     * @return 선점했다면 1(이미 다른 작업자가 선점했거나 취소되었다면 0)
+     */
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEventEntity e set e.status = org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus.SENDING, "
+            + "e.nextRetryAt = :leaseUntil, e.version = e.version + 1 "
+            + "where e.id = :id and e.status = org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus.PENDING")
+    int claim(Long id, LocalDateTime leaseUntil);
+
+    /**
+     * 선점 기한이 지나도록 결과가 기록되지 않은 이벤트(전달 도중 서버 종료 등)를 다시 전달 대상으로 되돌린다.
+     *
+     * @return 되돌린 이벤트 수
+     */
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventEntity e set e.status = org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus.PENDING, "
+            + "e.version = e.version + 1 "
+            + "where e.status = org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus.SENDING and e.nextRetryAt <= :now")
+    int releaseExpiredClaims(LocalDateTime now);
+
+    /**
+     * 아직 전달을 시작하지 않은(선점되지 않은) 이벤트 취소
+     *
+     * @return 취소된 이벤트 수(이미 전달중이거나 전달이 끝났다면 0)
+     */
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventEntity e set e.status = org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus.CANCELLED, "
+            + "e.version = e.version + 1 "
+            + "where e.requestId = :requestId and e.eventType = :eventType "
+            + "and e.status = org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus.PENDING")
+    int cancelPending(UUID requestId, OutboxEventType eventType);
+}
@@ -0,0 +1,88 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 경매 목록 조회용 가격표 캐시(read-through)
+ * 목록에는 경매별 가격표만 필요하므로, 경매 스냅샷(AuctionDetailCache) 대신 가격표만 경매 ID 로 캐시한다.
+ * 무효화 방식은 AuctionDetailCache 와 같다(저장, 삭제 시 즉시, 그리고 트랜잭션 종료 후 한 번 더).
+ * 캐시 통계는 cache=auction.price-schedule 로 노출된다.
+ */
+
+@Component
+public class PriceScheduleCache {
+
+    private static final String CACHE_NAME = "auction.price-schedule";
+
+    private final Cache<Long, PriceSchedule> cache;
+
+    @Autowired
+    public PriceScheduleCache(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${auction.price-schedule-cache.maximum-size:10000}") int maximumSize,
+            @Value("${auction.price-schedule-cache.ttl:PT5M}") Duration ttl
+    ) {
+        this(meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new), maximumSize, ttl);
+    }
+
+    public PriceScheduleCache(MeterRegistry meterRegistry, int maximumSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 가격표 여러 건 조회, 캐시에 없는 경매만 loader 로 한 번에 읽어 캐시에 채운다.
+     * 없는 경매는 결과에서 빠지며 캐시하지 않는다.
+     *
+     * @param auctionIds 경매 ID 목록
+     * @param loader     캐시에 없는 경매 ID 들로 가격표를 만드는 함수
+     * @return 경매 ID 별 가격표
+     */
+
+    public Map<Long, PriceSchedule> getAll(Collection<Long> auctionIds,
+                                           Function<Set<Long>, Map<Long, PriceSchedule>> loader) {
+        return cache.getAll(auctionIds, ids -> loader.apply(Set.copyOf(ids)));
+    }
+
+    /**
+     * 가격표 무효화(저장, 삭제 시)
+     * 진행 중인 트랜잭션이 있다면 트랜잭션이 끝난 뒤에도 한 번 더 무효화한다.
+     *
+     * @param auctionId 경매 ID
+     */
+
+    public void invalidate(long auctionId) {
+        cache.invalidate(auctionId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(auctionId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import org.indoles.autionserviceserver.core.auction.entity.PurchaseIdempotencyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PurchaseIdempotencyJpaRepository extends JpaRepository<PurchaseIdempotencyEntity, Long> {
+
+    Optional<PurchaseIdempotencyEntity> findByBuyerIdAndIdempotencyKey(Long buyerId, String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PurchaseIdempotencyEntity p where p.createdAt < :expiredAt")
+    int deleteExpired(LocalDateTime expiredAt);
+}
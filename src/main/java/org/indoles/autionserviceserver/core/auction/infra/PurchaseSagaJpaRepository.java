@@ -0,0 +1,12 @@
+package org.indoles.autionserviceserver.core.auction.infra;
+
+import org.indoles.autionserviceserver.core.auction.entity.PurchaseSagaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PurchaseSagaJpaRepository extends JpaRepository<PurchaseSagaEntity, Long> {
+
+    Optional<PurchaseSagaEntity> findByRequestId(UUID requestId);
+}
@@ -0,0 +1,82 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerPurchaseIndex;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 곧 시작할 경매를 미리 메모리에 올리는 예열 스케줄러
+ * 시작 시간이 lookahead 안에 있는 경매를 startedAt 인덱스로 조회해 HotAuctionRegistry 에 등록하고,
+ * 재고 장부와 누적 구매 수량을 미리 불러온 뒤 모든 가격 변동 구간에 대해 구매 검증을 미리 실행(JIT 예열)한다.
+ * 경매가 시작되는 순간의 첫 구매도 평소와 같은 지연 시간으로 처리하기 위함이다.
+ */
+
+@Slf4j
+@Component
+public class AuctionPrewarmScheduler {
+
+    private final AuctionRepository auctionRepository;
+    private final HotAuctionRegistry hotAuctionRegistry;
+    private final AuctionStockLedger auctionStockLedger;
+    private final BuyerPurchaseIndex buyerPurchaseIndex;
+    private final Duration lookahead;
+    private final int warmupIterations;
+
+    public AuctionPrewarmScheduler(
+            AuctionRepository auctionRepository,
+            HotAuctionRegistry hotAuctionRegistry,
+            AuctionStockLedger auctionStockLedger,
+            BuyerPurchaseIndex buyerPurchaseIndex,
+            @Value("${auction.prewarm.lookahead:PT10M}") Duration lookahead,
+            @Value("${auction.prewarm.warmup-iterations:2000}") int warmupIterations
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.hotAuctionRegistry = hotAuctionRegistry;
+        this.auctionStockLedger = auctionStockLedger;
+        this.buyerPurchaseIndex = buyerPurchaseIndex;
+        this.lookahead = lookahead;
+        this.warmupIterations = warmupIterations;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.prewarm.interval-ms:30000}")
+    public void prewarm() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Auction> auctions = auctionRepository.findAllStartingBetween(now, now.plus(lookahead));
+
+        for (Auction auction : auctions) {
+            if (hotAuctionRegistry.contains(auction.getId())) {
+                continue;
+            }
+            try {
+                warm(auction);
+                hotAuctionRegistry.register(auction);
+                log.info("경매 예열 완료. AuctionId: {}, 시작 시간: {}", auction.getId(), auction.getStartedAt());
+            } catch (Exception e) {
+                log.warn("경매 예열 실패. AuctionId: {}", auction.getId(), e);
+            }
+        }
+    }
+
+    private void warm(Auction auction) {
+        auctionStockLedger.warm(auction);
+        buyerPurchaseIndex.warm(auction.getId());
+
+        int variationSteps = auction.getPriceSchedule().size();
+        for (int i = 0; i < warmupIterations; i++) {
+            long step = i % variationSteps;
+            LocalDateTime requestTime = auction.getStartedAt().plus(auction.getVariationDuration().multipliedBy(step));
+            long price = auction.getPriceSchedule().priceAt(step);
+            auction.verifyPurchase(price, 1L, requestTime);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
+import org.indoles.autionserviceserver.core.auction.dto.Response.AuctionTickResponse;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경매별 시세(현재 가격, 재고)를 SSE 로 구독자에게 전송하는 서비스
+ * 주기적으로 경매의 가격 변동 구간과 재고 장부를 확인하고, 값이 바뀐 경우에만 이벤트를 한 번 직렬화해 모든 구독자에게 보낸다.
+ * 구독자마다 아직 보내지 못한 이벤트는 최신 이벤트 하나만 유지하므로, 느린 구독자는 중간 시세를 건너뛰고 최신 시세만 받는다.
+ * 전송 스레드 풀이 가득 차 전송 작업을 맡기지 못한 구독자는 다음 주기에 다시 맡긴다(구독 종료 포함).
+ */
+
+@Slf4j
+@Service
+public class AuctionTickerService {
+
+    private static final String EVENT_NAME = "tick";
+
+    private final AuctionRepository auctionRepository;
+    private final HotAuctionRegistry hotAuctionRegistry;
+    private final AuctionStockLedger auctionStockLedger;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor tickerExecutor;
+    private final Duration emitterTimeout;
+    private final int maximumSubscribers;
+    private final ConcurrentMap<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final Set<Subscriber> rescheduling = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public AuctionTickerService(
+            AuctionRepository auctionRepository,
+            HotAuctionRegistry hotAuctionRegistry,
+            AuctionStockLedger auctionStockLedger,
+            ObjectMapper objectMapper,
+            @Qualifier("tickerExecutor") TaskExecutor tickerExecutor,
+            @Value("${auction.ticker.emitter-timeout:PT1H}") Duration emitterTimeout,
+            @Value("${auction.ticker.maximum-subscribers:50000}") int maximumSubscribers
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.hotAuctionRegistry = hotAuctionRegistry;
+        this.auctionStockLedger = auctionStockLedger;
+        this.objectMapper = objectMapper;
+        this.tickerExecutor = tickerExecutor;
+        this.emitterTimeout = emitterTimeout;
+        this.maximumSubscribers = maximumSubscribers;
+    }
+
+    /**
+     * 경매 시세 구독
+     * 구독 즉시 현재 시세를 한 번 전송하고, 이후에는 시세가 바뀔 때마다 전송한다.
+     *
+     * @param auctionId 경매 ID
+     * @param now       구독 시간
+     * @return 시세 이벤트를 전송할 SseEmitter
+     */
+
+    public SseEmitter subscribe(long auctionId, LocalDateTime now) {
+        return subscribe(auctionId, now, new SseEmitter(emitterTimeout.toMillis()));
+    }
+
+    public SseEmitter subscribe(long auctionId, LocalDateTime now, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maximumSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("시세 구독자가 많습니다. 잠시 후 다시 시도해주세요.", ErrorCode.G011);
+        }
+
+        Subscriber subscriber = new Subscriber(emitter);
+        Channel channel;
+        try {
+            Auction auction = Optional.ofNullable(channels.get(auctionId))
+                    .map(current -> current.auction)
+                    .orElseGet(() -> findAuction(auctionId));
+            channel = channels.compute(auctionId, (id, current) -> {
+                Channel target = current != null ? current : new Channel(auction);
+                target.subscribers.add(subscriber);
+                return target;
+            });
+        } catch (RuntimeException e) {
+            subscriberCount.decrementAndGet();
+            throw e;
+        }
+
+        emitter.onCompletion(() -> unsubscribe(channel, subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(channel, subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> unsubscribe(channel, subscriber));
+
+        refresh(channel, now);
+        subscriber.offer(channel.frame);
+        return emitter;
+    }
+
+    /**
+     * 구독 중인 모든 경매의 시세를 확인하고, 바뀐 시세를 구독자에게 전송
+     * 종료된 경매는 마지막 시세를 전송한 뒤 구독을 종료한다.
+     */
+
+    @Scheduled(fixedDelayString = "${auction.ticker.interval-ms:100}")
+    public void tick() {
+        tick(LocalDateTime.now());
+    }
+
+    public void tick(LocalDateTime now) {
+        List<Subscriber> rejected = List.copyOf(rescheduling);
+        rescheduling.removeAll(rejected);
+        rejected.forEach(Subscriber::schedule);
+
+        channels.forEach((auctionId, channel) -> {
+            try {
+                AuctionTickResponse tick = refresh(channel, now);
+                if (tick.status().isFinished()) {
+                    channels.remove(auctionId);
+                    channel.subscribers.forEach(Subscriber::close);
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("경매 시세 전송 실패. AuctionId: {}", auctionId, e);
+            }
+            channels.computeIfPresent(auctionId, (id, current) -> current.subscribers.isEmpty() ? null : current);
+        });
+    }
+
+    private AuctionTickResponse refresh(Channel channel, LocalDateTime now) {
+        channel.lock.lock();
+        try {
+            AuctionTickResponse tick = snapshot(channel.auction, now);
+            if (tick.equals(channel.last)) {
+                return tick;
+            }
+            channel.last = tick;
+            channel.frame = serialize(tick);
+            channel.subscribers.forEach(subscriber -> subscriber.offer(channel.frame));
+            return tick;
+        } finally {
+            channel.lock.unlock();
+        }
+    }
+
+    private AuctionTickResponse snapshot(Auction auction, LocalDateTime now) {
+        AuctionStatus status = auction.currentStatus(now);
+        long variationCount = Duration.between(auction.getStartedAt(), now).dividedBy(auction.getVariationDuration());
+        long currentPrice = auction.getPriceSchedule().priceAt(variationCount);
+        Long currentStock = auction.isShowStock()
+                ? auctionStockLedger.currentStock(auction.getId()).orElse(auction.getCurrentStock())
+                : null;
+
+        return new AuctionTickResponse(auction.getId(), status, currentPrice, currentStock);
+    }
+
+    private Set<DataWithMediaType> serialize(AuctionTickResponse tick) {
+        try {
+            return SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(objectMapper.writeValueAsString(tick))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("경매 시세를 직렬화할 수 없습니다. AuctionId: " + tick.auctionId(), e);
+        }
+    }
+
+    private Auction findAuction(long auctionId) {
+        return hotAuctionRegistry.find(auctionId)
+                .or(() -> auctionRepository.findById(auctionId))
+                .orElseThrow(
+                        () -> new NotFoundException("경매(Auction)를 찾을 수 없습니다. AuctionId: " + auctionId, ErrorCode.A010));
+    }
+
+    private void unsubscribe(Channel channel, Subscriber subscriber) {
+        if (channel.subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+        rescheduling.remove(subscriber);
+    }
+
+    private static final class Channel {
+
+        private final Auction auction;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private AuctionTickResponse last;
+        private volatile Set<DataWithMediaType> frame;
+
+        private Channel(Auction auction) {
+            this.auction = auction;
+        }
+    }
+
+    /**
+     * 구독자별 전송 상태
+     * 전송 중에 들어온 이벤트는 pending 의 최신 이벤트로 덮어쓰며, 전송 작업은 구독자마다 최대 하나만 실행된다.
+     */
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<Set<DataWithMediaType>> pending = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closing;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> frame) {
+            pending.set(frame);
+            schedule();
+        }
+
+        private void close() {
+            closing = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                tickerExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                rescheduling.add(this);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while ((frame = pending.getAndSet(null)) != null) {
+                    emitter.send(frame);
+                }
+                if (closing) {
+                    emitter.complete();
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (pending.get() != null || closing) {
+                schedule();
+            }
+        }
+    }
+}
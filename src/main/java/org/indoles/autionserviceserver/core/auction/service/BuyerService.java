@@ -3,22 +3,33 @@ package org.indoles.autionserviceserver.core.auction.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.indoles.autionserviceserver.core.auction.domain.Auction;
-import org.indoles.autionserviceserver.core.auction.domain.enums.ReceiptStatus;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
 import org.indoles.autionserviceserver.core.auction.dto.Request.*;
 import org.indoles.autionserviceserver.core.auction.dto.Response.*;
 import org.indoles.autionserviceserver.core.auction.infra.AuctionCoreRepository;
-import org.indoles.autionserviceserver.core.auction.utils.MemberFeignClient;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerAuctionListingRow;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
 import org.indoles.autionserviceserver.core.auction.utils.ReceiptFeignClient;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteCallGuard;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteService;
 import org.indoles.autionserviceserver.global.dto.AuctionPurchaseRequestMessage;
+import org.indoles.autionserviceserver.global.dto.PurchaseOutboxMessage;
+import org.indoles.autionserviceserver.global.dto.RefundOutboxMessage;
 import org.indoles.autionserviceserver.global.exception.BadRequestException;
 import org.indoles.autionserviceserver.global.exception.ErrorCode;
 import org.indoles.autionserviceserver.global.exception.NotFoundException;
 import org.indoles.autionserviceserver.global.util.Mapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -28,52 +39,52 @@ import java.util.UUID;
 public class BuyerService {
 
     private final AuctionCoreRepository auctionCoreRepository;
-    private final MemberFeignClient memberFeignClient;
+    private final HotAuctionRegistry hotAuctionRegistry;
+    private final AuctionStockLedger auctionStockLedger;
+    private final StockReservationService stockReservationService;
+    private final PurchaseSagaOrchestrator purchaseSagaOrchestrator;
+    private final PurchaseIdempotencyService purchaseIdempotencyService;
     private final ReceiptFeignClient receiptFeignClient;
+    private final RemoteCallGuard remoteCallGuard;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 경매 상품에 대한 입찰(구매)을 진행하는 서비스 로직
+     * 재고 차감과 구매 Saga 시작(포인트 전송 이벤트 기록)을 하나의 로컬 트랜잭션으로 처리한다.
+     * 이후 단계와 실패 시 보상은 PurchaseSagaOrchestrator 가 진행한다.
+     * 회원/거래 내역 서버의 서킷이 열려 있거나 호출이 몰려 있다면 재고를 차감하기 전에 즉시 거절한다(load shedding).
      *
      * @param message return 구매자용 경매 정보
      */
 
     @Transactional
     public void submitPurchase(AuctionPurchaseRequestMessage message, SignInfoRequest buyerInfo) {
-        Auction auction = findAuctionObject(message.auctionId());
-        auction.submit(message.price(), message.quantity(), message.requestTime());
+        remoteCallGuard.verifyAvailable(RemoteService.MEMBER);
+        remoteCallGuard.verifyAvailable(RemoteService.RECEIPT);
 
-        long buyerId = buyerInfo.id();
-        long sellerId = auction.getSellerId();
-        long totalAmount = message.price() * message.quantity();
-
-        auctionCoreRepository.save(auction);
-
-        TransferPointRequest transferRequest = new TransferPointRequest(sellerId, totalAmount);
-
-        TransferPointRequestWrapper requestWrapper = new TransferPointRequestWrapper(buyerInfo, transferRequest);
-
-        TransferPointResponse transferResponse = memberFeignClient.pointTransfer(requestWrapper);
-
-        if (transferResponse == null || transferResponse.remainingPoints() < 0) {
-            log.error("포인트 전송 실패: {}", transferRequest);
-            throw new RuntimeException("포인트 전송 실패. 판매자 ID: " + sellerId + ", 구매자 ID: " + buyerId);
+        Auction auction = findHotAuctionObject(message.auctionId());
+        if (message.hasIdempotencyKey()) {
+            purchaseIdempotencyService.record(buyerInfo.id(), message.idempotencyKey(), message.requestId());
         }
+        stockReservationService.reserve(auction, buyerInfo.id(), message.price(), message.quantity(), message.requestTime());
 
-        CreateReceiptRequest createReceiptRequest = CreateReceiptRequest.builder()
+        PurchaseOutboxMessage outboxMessage = PurchaseOutboxMessage.builder()
+                .buyerInfo(buyerInfo)
                 .receiptId(UUID.randomUUID())
+                .auctionId(auction.getId())
+                .sellerId(auction.getSellerId())
                 .productName(auction.getProductName())
                 .price(message.price())
                 .quantity(message.quantity())
-                .receiptStatus(ReceiptStatus.PURCHASED)
-                .sellerId(sellerId)
-                .buyerId(buyerId)
-                .auctionId(message.auctionId())
                 .build();
 
-        CreateReceiptRequestWrapper createReceiptRequestWrapper = new CreateReceiptRequestWrapper(buyerInfo, createReceiptRequest);
-        receiptFeignClient.createReceipt(createReceiptRequestWrapper);
+        purchaseSagaOrchestrator.startPurchase(message.requestId(), outboxMessage);
     }
 
+    private Auction findHotAuctionObject(long auctionId) {
+        return hotAuctionRegistry.find(auctionId)
+                .orElseGet(() -> findAuctionObject(auctionId));
+    }
 
     private Auction findAuctionObject(long auctionId) {
         return auctionCoreRepository.findById(auctionId)
@@ -83,48 +94,51 @@ public class BuyerService {
 
     /**
      * 경매 상품에 대한 입찰(구매)을 취소하는 서비스 로직
+     * 거래 내역 조회(원격 호출)는 트랜잭션 밖에서 수행하고,
+     * 재고 복구와 구매 취소 Saga 시작(포인트 환불 이벤트 기록)을 하나의 로컬 트랜잭션으로 처리한다.
      */
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cancelPurchase(AuctionRefundRequestMessage message) {
-        ReceiptInfoResponse receiptInfoResponse = receiptFeignClient.getReceiptById(message.receiptId());
-
-        AuctionInfoRequest auction = this.getAuctionForUpdate(receiptInfoResponse.auctionId());
-        verifyEndAuction(message.requestTime(), auction.finishedAt());
-
-        cacelAuction(receiptInfoResponse.auctionId(), receiptInfoResponse.quantity());
-
-        RefundRequest refundRequest = RefundRequest.builder()
-                .receiverId(receiptInfoResponse.sellerId())
-                .amount(receiptInfoResponse.price() * receiptInfoResponse.quantity())
-                .build();
-
-        RefundPointRequestWrapper requestWrapper = new RefundPointRequestWrapper(message.buyerInfo(), refundRequest);
-
-        RefundResponse refundResponse = memberFeignClient.refundPoint(requestWrapper);
-        log.debug("포인트 환불 완료: {}", refundResponse);
-
-        receiptFeignClient.refundReceipt(message.buyerInfo(), message.receiptId());
-    }
-
-    public void cacelAuction(long auctionId, long quantity) {
-        Auction auction = findAuctionObjectForUpdate(auctionId);
-        auction.refundStock(quantity);
-        auctionCoreRepository.save(auction);
+        ReceiptInfoResponse receiptInfoResponse = remoteCallGuard.call(RemoteService.RECEIPT,
+                () -> receiptFeignClient.getReceiptById(message.receiptId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Auction auction = findAuctionObject(receiptInfoResponse.auctionId());
+            verifyEndAuction(message.requestTime(), auction.getFinishedAt());
+
+            stockReservationService.release(auction, receiptInfoResponse.buyerId(), receiptInfoResponse.quantity());
+
+            RefundOutboxMessage outboxMessage = RefundOutboxMessage.builder()
+                    .buyerInfo(message.buyerInfo())
+                    .receiptId(message.receiptId())
+                    .auctionId(auction.getId())
+                    .sellerId(receiptInfoResponse.sellerId())
+                    .quantity(receiptInfoResponse.quantity())
+                    .amount(receiptInfoResponse.price() * receiptInfoResponse.quantity())
+                    .build();
+
+            purchaseSagaOrchestrator.startCancel(message.receiptId(), outboxMessage);
+        });
     }
 
 
     /**
      * 경매 목록을 조회하는 서비스 로직
+     * 목록의 가격은 마지막 구매 가격이 아니라 조회 시각의 가격이다.
+     * 목록에 필요한 컬럼만 레코드로 조회하고, 가격은 경매별로 이미 만들어 둔 가격표(HotAuctionRegistry, 가격표 캐시)에서 읽는다.
+     * 가격표가 없는 경매만 가격표에 필요한 컬럼을 한 번의 쿼리로 읽어 가격표를 만든다. 그 사이 삭제된 경매는 목록에서 뺀다.
+     * 목록은 읽기 복제본에서, 가격표 캐시에 채울 컬럼은 주 DB 에서 읽도록 두 조회가 트랜잭션(커넥션)을 공유하지 않는다.
      *
-     * @param condition return
+     * @param condition 조회 조건
+     * @param now       조회 시각
      */
 
-    public List<BuyerAuctionSimpleInfoResponse> getBuyerAuctionSimpleInfos(AuctionSearchConditionRequest condition) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BuyerAuctionSimpleInfoResponse> getBuyerAuctionSimpleInfos(AuctionSearchConditionRequest condition,
+                                                                           LocalDateTime now) {
         try {
-            return auctionCoreRepository.findAllBy(condition).stream()
-                    .map(Mapper::convertToBuyerAuctionSimpleInfo)
-                    .toList();
+            return toSimpleInfos(auctionCoreRepository.findBuyerListingBy(condition), now);
         } catch (Exception e) {
             log.error("경매 목록 조회 중 오류 발생", e);
             throw e;
@@ -132,37 +146,96 @@ public class BuyerService {
     }
 
     /**
-     * 경매에 대해 상세 조회하는 서비스 로직
+     * 경매 목록을 커서 기반으로 조회하는 서비스 로직
+     * 다음 페이지 커서는 응답 항목이 아니라 조회한 행으로 만들므로, 그 사이 삭제되어 목록에서 빠진 경매가 있어도 다음 페이지가 끊기지 않는다.
      *
-     * @param auctionId return 구매자용 경매 정보
+     * @param condition 조회 조건(cursor)
+     * @param now       조회 시각
      */
 
-    public BuyerAuctionInfoResponse getBuyerAuction(long auctionId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPageResponse<BuyerAuctionSimpleInfoResponse> getBuyerAuctionSimpleInfoPage(
+            AuctionSearchConditionRequest condition,
+            LocalDateTime now
+    ) {
         try {
-            Auction auction = findAuctionObject(auctionId);
-            return Mapper.convertToBuyerAuctionInfo(auction);
+            List<BuyerAuctionListingRow> rows = auctionCoreRepository.findBuyerListingBy(condition);
+            return CursorPageResponse.of(toSimpleInfos(rows, now), rows, condition.size(), BuyerAuctionListingRow::id);
         } catch (Exception e) {
-            log.error("경매 조회 중 오류 발생", e);
+            log.error("경매 목록 조회 중 오류 발생", e);
             throw e;
         }
     }
 
-    private void verifyEndAuction(LocalDateTime requestTime, LocalDateTime auctionFinishedAt) {
-        if (requestTime.isBefore(auctionFinishedAt)) {
-            throw new BadRequestException("종료된 경매만 환불할 수 있습니다.", ErrorCode.P007);
+    private List<BuyerAuctionSimpleInfoResponse> toSimpleInfos(List<BuyerAuctionListingRow> rows, LocalDateTime now) {
+        Map<Long, PriceSchedule> priceSchedules = findPriceSchedules(rows);
+        long nowEpochNanos = PriceSchedule.toEpochNanos(now);
+
+        return rows.stream()
+                .filter(row -> priceSchedules.containsKey(row.id()))
+                .map(row -> Mapper.convertToBuyerAuctionSimpleInfo(row,
+                        priceSchedules.get(row.id()).priceAtEpochNanos(nowEpochNanos)))
+                .toList();
+    }
+
+    private Map<Long, PriceSchedule> findPriceSchedules(List<BuyerAuctionListingRow> rows) {
+        Map<Long, PriceSchedule> priceSchedules = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (BuyerAuctionListingRow row : rows) {
+            hotAuctionRegistry.find(row.id()).ifPresentOrElse(
+                    auction -> priceSchedules.put(row.id(), auction.getPriceSchedule()),
+                    () -> missing.add(row.id()));
+        }
+        if (!missing.isEmpty()) {
+            priceSchedules.putAll(auctionCoreRepository.findPriceSchedulesByIds(missing));
         }
+        return priceSchedules;
     }
 
+    /**
+     * 경매에 대해 상세 조회하는 서비스 로직
+     * 경매 정보는 상세 조회 캐시에서 읽고(캐시에 없을 때만 DB 조회), 현재 가격은 조회 시각의 가격표에서,
+     * 현재 재고는 재고 장부에서 읽어 덮어쓴다.
+     * 캐시에서 읽는 경우 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행한다.
+     *
+     * @param auctionId 경매 ID
+     * @param now       조회 시각
+     * @return 구매자용 경매 정보
+     */
 
-    public AuctionInfoRequest getAuctionForUpdate(long auctionId) {
-        Auction auction = findAuctionObjectForUpdate(auctionId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BuyerAuctionInfoResponse getBuyerAuction(long auctionId, LocalDateTime now) {
+        try {
+            Auction auction = auctionCoreRepository.findDetailById(auctionId)
+                    .orElseThrow(() -> new NotFoundException(
+                            "경매(Auction)를 찾을 수 없습니다. AuctionId: " + auctionId, ErrorCode.A010));
+            long currentPrice = auction.getPriceSchedule().priceAtEpochNanos(PriceSchedule.toEpochNanos(now));
+            long currentStock = auctionStockLedger.currentStock(auctionId).orElse(auction.getCurrentStock());
+            return Mapper.convertToBuyerAuctionInfo(auction, currentPrice, currentStock);
+        } catch (Exception e) {
+            log.error("경매 조회 중 오류 발생", e);
+            throw e;
+        }
+    }
+
+    /**
+     * 경매의 전체 가격표를 조회하는 서비스 로직
+     * 가격표는 경매 생성 시 정해지고 바뀌지 않으므로, 예열된 경매라면 DB 를 조회하지 않는다.
+     *
+     * @param auctionId 경매 ID
+     * @return 변동 구간별 가격표
+     */
 
-        return Mapper.convertToAuctionInfo(auction);
+    @Transactional(readOnly = true)
+    public PriceScheduleResponse getPriceSchedule(long auctionId) {
+        Auction auction = findHotAuctionObject(auctionId);
+        return Mapper.convertToPriceScheduleInfo(auction);
     }
 
-    private Auction findAuctionObjectForUpdate(long auctionId) {
-        return auctionCoreRepository.findByIdForUpdate(auctionId)
-                .orElseThrow(
-                        () -> new NotFoundException("경매(Auction)를 찾을 수 없습니다. AuctionId: " + auctionId, ErrorCode.A010));
+    private void verifyEndAuction(LocalDateTime requestTime, LocalDateTime auctionFinishedAt) {
+        if (requestTime.isBefore(auctionFinishedAt)) {
+            throw new BadRequestException("종료된 경매만 환불할 수 있습니다.", ErrorCode.P007);
+        }
     }
 }
@@ -0,0 +1,91 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.entity.OutboxEventEntity;
+import org.indoles.autionserviceserver.core.auction.infra.OutboxEventJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 원격 서버로 전달할 이벤트를 호출한 쪽의 로컬 트랜잭션 안에서 OUTBOX_EVENT 테이블에 기록한다.
+ * 기록된 이벤트는 트랜잭션이 커밋된 뒤 OutboxRelay 가 전달한다.
+ */
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 기록
+     *
+     * @param requestId 이벤트가 속한 요청 ID(같은 요청의 이벤트는 기록된 순서대로 전달된다)
+     * @param eventType 이벤트 종류
+     * @param payload   원격 서버로 전달할 내용
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UUID requestId, OutboxEventType eventType, Object payload) {
+        publish(requestId, eventType, payload, null);
+    }
+
+    /**
+     * 전달 기한이 있는 이벤트 기록
+     *
+     * @param deadlineAt 이 시각 이후로는 전달을 시도하지 않고 실패로 처리한다
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UUID requestId, OutboxEventType eventType, Object payload, LocalDateTime deadlineAt) {
+        outboxEventJpaRepository.save(OutboxEventEntity.pending(requestId, eventType, write(payload), deadlineAt));
+    }
+
+    /**
+     * 아직 전달을 시작하지 않은 이벤트 취소
+     * OutboxRelay 가 이미 선점(SENDING)한 이벤트는 취소하지 않는다.
+     *
+     * @return 취소되었다면 true, 이미 전달중이거나 전달이 끝났다면 false
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean cancelPending(UUID requestId, OutboxEventType eventType) {
+        return outboxEventJpaRepository.cancelPending(requestId, eventType) > 0;
+    }
+
+    /**
+     * 전달이 끝난 이벤트에 이어지는 이벤트를 같은 내용으로 기록
+     *
+     * @param event     전달이 끝난 이벤트
+     * @param eventType 이어서 전달할 이벤트 종류
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishNext(OutboxEventEntity event, OutboxEventType eventType) {
+        outboxEventJpaRepository.save(OutboxEventEntity.pending(event.getRequestId(), eventType, event.getPayload()));
+    }
+
+    public <T> T read(OutboxEventEntity event, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(event.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox 이벤트 내용을 읽을 수 없습니다. EventId: " + event.getId(), e);
+        }
+    }
+
+    private String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox 이벤트 내용을 기록할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus;
+import org.indoles.autionserviceserver.core.auction.domain.enums.ReceiptStatus;
+import org.indoles.autionserviceserver.core.auction.dto.Request.*;
+import org.indoles.autionserviceserver.core.auction.dto.Response.TransferPointResponse;
+import org.indoles.autionserviceserver.core.auction.entity.OutboxEventEntity;
+import org.indoles.autionserviceserver.core.auction.infra.OutboxEventJpaRepository;
+import org.indoles.autionserviceserver.core.auction.utils.MemberFeignClient;
+import org.indoles.autionserviceserver.core.auction.utils.ReceiptFeignClient;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteCallGuard;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteService;
+import org.indoles.autionserviceserver.global.dto.PurchaseOutboxMessage;
+import org.indoles.autionserviceserver.global.dto.RefundOutboxMessage;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.BusinessException;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OUTBOX_EVENT 테이블에 기록된 이벤트를 회원 서버/거래 내역 서버로 전달한다.
+ * 주기적으로 전달할 이벤트를 조회해 outboxWorkerExecutor 의 작업자들에게 나누어 전달을 맡긴다.
+ * 작업자는 전달 전에 조건부 UPDATE 로 이벤트를 선점(PENDING → SENDING)하므로, 전달중인 이벤트는 Saga 보상에서 취소되지 않는다.
+ * 결과 기록은 이벤트의 버전(@Version)을 확인하므로, 그 사이 다른 곳에서 바뀐 이벤트를 덮어쓰지 않는다.
+ * 원격 호출은 트랜잭션 밖에서 수행하고, 전달 결과와 그에 따른 Saga 상태 변경은 하나의 로컬 트랜잭션으로 기록한다.
+ * 전달에 실패한 이벤트는 지수 백오프로 재시도하며, 재시도 횟수나 전달 기한을 모두 소진하거나 재시도해도 성공할 수 없는 실패라면
+ * FAILED 로 남기고 PurchaseSagaOrchestrator 에 보상을 맡긴다.
+ * 원격 서버는 receiptId 를 기준으로 같은 이벤트를 중복 처리하지 않아야 한다(at-least-once 전달).
+ */
+
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final long HANDOFF_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final MemberFeignClient memberFeignClient;
+    private final ReceiptFeignClient receiptFeignClient;
+    private final RemoteCallGuard remoteCallGuard;
+    private final ReceiptBatchWriter receiptBatchWriter;
+    private final PurchaseSagaOrchestrator purchaseSagaOrchestrator;
+    private final TaskExecutor outboxWorkerExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRetries;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration sendingLease;
+    private final Duration handoffTimeout;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public OutboxRelay(
+            OutboxEventJpaRepository outboxEventJpaRepository,
+            OutboxEventPublisher outboxEventPublisher,
+            MemberFeignClient memberFeignClient,
+            ReceiptFeignClient receiptFeignClient,
+            RemoteCallGuard remoteCallGuard,
+            ReceiptBatchWriter receiptBatchWriter,
+            PurchaseSagaOrchestrator purchaseSagaOrchestrator,
+            @Qualifier("outboxWorkerExecutor") TaskExecutor outboxWorkerExecutor,
+            TransactionTemplate transactionTemplate,
+            @Value("${auction.outbox.max-retries:10}") int maxRetries,
+            @Value("${auction.outbox.backoff-base:PT0.5S}") Duration backoffBase,
+            @Value("${auction.outbox.backoff-max:PT1M}") Duration backoffMax,
+            @Value("${auction.outbox.sending-lease:PT5M}") Duration sendingLease,
+            @Value("${auction.outbox.handoff-timeout:PT1S}") Duration handoffTimeout
+    ) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.memberFeignClient = memberFeignClient;
+        this.receiptFeignClient = receiptFeignClient;
+        this.remoteCallGuard = remoteCallGuard;
+        this.receiptBatchWriter = receiptBatchWriter;
+        this.purchaseSagaOrchestrator = purchaseSagaOrchestrator;
+        this.outboxWorkerExecutor = outboxWorkerExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.maxRetries = maxRetries;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.sendingLease = sendingLease;
+        this.handoffTimeout = handoffTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.outbox.relay-interval-ms:100}")
+    public void relay() {
+        List<OutboxEventEntity> events = outboxEventJpaRepository
+                .findTop100ByStatusAndNextRetryAtLessThanEqualOrderByIdAsc(OutboxStatus.PENDING, LocalDateTime.now());
+
+        for (OutboxEventEntity event : events) {
+            if (!inFlight.add(event.getId())) {
+                continue;
+            }
+            try {
+                outboxWorkerExecutor.execute(() -> deliver(event.getId()));
+            } catch (TaskRejectedException e) {
+                inFlight.remove(event.getId());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 선점 기한이 지나도록 결과가 기록되지 않은 이벤트를 다시 전달한다(전달 도중 서버가 종료된 경우 등).
+     */
+
+    @Scheduled(fixedDelayString = "${auction.outbox.release-claims-interval-ms:60000}")
+    public void releaseExpiredClaims() {
+        int released = outboxEventJpaRepository.releaseExpiredClaims(LocalDateTime.now());
+        if (released > 0) {
+            log.warn("선점 기한이 지난 Outbox 이벤트를 다시 전달합니다. 이벤트 수: {}", released);
+        }
+    }
+
+    private void deliver(Long eventId) {
+        OutboxEventEntity event;
+        try {
+            event = outboxEventJpaRepository.claim(eventId, LocalDateTime.now().plus(sendingLease)) == 0
+                    ? null
+                    : outboxEventJpaRepository.findById(eventId).orElse(null);
+        } catch (Exception e) {
+            log.error("Outbox 이벤트 선점 실패. EventId: {}", eventId, e);
+            event = null;
+        }
+        if (event == null) {
+            inFlight.remove(eventId);
+            return;
+        }
+
+        OutboxEventEntity sending = event;
+        send(sending)
+                .handleAsync((ignored, e) -> {
+                    record(sending, e);
+                    return null;
+                }, this::executeOnWorker)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.error("Outbox 이벤트 처리 결과 기록 실패. EventId: {}", eventId, e);
+                    }
+                    inFlight.remove(eventId);
+                });
+    }
+
+    private void record(OutboxEventEntity event, Throwable e) {
+        if (e != null) {
+            handleFailure(event, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            event.markSent();
+            outboxEventJpaRepository.save(event);
+            purchaseSagaOrchestrator.onDelivered(event);
+        });
+    }
+
+    /**
+     * 거래 내역 생성은 ReceiptBatchWriter 로 모아서 전달하고, 나머지 이벤트는 작업자 스레드에서 바로 전달한다.
+     */
+
+    private CompletableFuture<Void> send(OutboxEventEntity event) {
+        if (event.isExpired(LocalDateTime.now())) {
+            return CompletableFuture.failedFuture(new TimeoutException("전달 기한이 지났습니다. 기한: " + event.getDeadlineAt()));
+        }
+        if (event.getEventType() == OutboxEventType.PURCHASE_RECEIPT_CREATE) {
+            return receiptBatchWriter.write(createReceiptRequest(outboxEventPublisher.read(event, PurchaseOutboxMessage.class)));
+        }
+        try {
+            sendNow(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void sendNow(OutboxEventEntity event) {
+        switch (event.getEventType()) {
+            case PURCHASE_POINT_TRANSFER -> {
+                PurchaseOutboxMessage message = outboxEventPublisher.read(event, PurchaseOutboxMessage.class);
+                transferPoint(message.buyerInfo(), message.sellerId(), message.totalAmount());
+            }
+            case PURCHASE_RECEIPT_CONFIRM -> {
+                PurchaseOutboxMessage message = outboxEventPublisher.read(event, PurchaseOutboxMessage.class);
+                remoteCallGuard.run(RemoteService.RECEIPT,
+                        () -> receiptFeignClient.confirmReceipt(message.buyerInfo(), message.receiptId()));
+            }
+            case COMPENSATE_PURCHASE_RECEIPT -> {
+                PurchaseOutboxMessage message = outboxEventPublisher.read(event, PurchaseOutboxMessage.class);
+                remoteCallGuard.run(RemoteService.RECEIPT,
+                        () -> receiptFeignClient.cancelReceipt(message.buyerInfo(), message.receiptId()));
+            }
+            case REFUND_POINT -> {
+                RefundOutboxMessage message = outboxEventPublisher.read(event, RefundOutboxMessage.class);
+                refundPoint(message.buyerInfo(), message.sellerId(), message.amount());
+            }
+            case REFUND_RECEIPT -> {
+                RefundOutboxMessage message = outboxEventPublisher.read(event, RefundOutboxMessage.class);
+                remoteCallGuard.run(RemoteService.RECEIPT,
+                        () -> receiptFeignClient.refundReceipt(message.buyerInfo(), message.receiptId()));
+            }
+            case COMPENSATE_PURCHASE_POINT -> {
+                PurchaseOutboxMessage message = outboxEventPublisher.read(event, PurchaseOutboxMessage.class);
+                refundPoint(message.buyerInfo(), message.sellerId(), message.totalAmount());
+            }
+            case COMPENSATE_REFUND_POINT -> {
+                RefundOutboxMessage message = outboxEventPublisher.read(event, RefundOutboxMessage.class);
+                transferPoint(message.buyerInfo(), message.sellerId(), message.amount());
+            }
+            case PURCHASE_RECEIPT_CREATE -> throw new IllegalStateException("거래 내역 생성은 ReceiptBatchWriter 로 전달해야 합니다.");
+        }
+    }
+
+    /**
+     * 전달 결과 기록을 작업자 스레드에 넘긴다.
+     * 거래 내역 생성 결과는 ReceiptBatchWriter 의 flusher 스레드에서 완료되므로, 결과 기록을 그 스레드에서 실행하지 않는다.
+     * 작업자 대기열이 가득 차 있으면 handoffTimeout 까지 기다리며 다시 넘기고, 그래도 넘기지 못하면 포기한다.
+     * 포기한 이벤트는 SENDING 으로 남아 선점 기한이 지나면 다시 전달된다.
+     */
+
+    private void executeOnWorker(Runnable task) {
+        long deadline = System.nanoTime() + handoffTimeout.toNanos();
+        while (true) {
+            try {
+                outboxWorkerExecutor.execute(task);
+                return;
+            } catch (TaskRejectedException e) {
+                if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                LockSupport.parkNanos(HANDOFF_RETRY_NANOS);
+            }
+        }
+    }
+
+    private void transferPoint(SignInfoRequest buyerInfo, long sellerId, long amount) {
+        TransferPointRequest transferRequest = new TransferPointRequest(sellerId, amount);
+        TransferPointResponse transferResponse = remoteCallGuard.call(RemoteService.MEMBER,
+                () -> memberFeignClient.pointTransfer(new TransferPointRequestWrapper(buyerInfo, transferRequest)));
+
+        if (transferResponse == null || transferResponse.remainingPoints() < 0) {
+            throw new BadRequestException("포인트 전송 실패. 판매자 ID: " + sellerId + ", 구매자 ID: " + buyerInfo.id(), ErrorCode.P009);
+        }
+    }
+
+    private CreateReceiptRequestWrapper createReceiptRequest(PurchaseOutboxMessage message) {
+        CreateReceiptRequest createReceiptRequest = CreateReceiptRequest.builder()
+                .receiptId(message.receiptId())
+                .productName(message.productName())
+                .price(message.price())
+                .quantity(message.quantity())
+                .receiptStatus(ReceiptStatus.PENDING)
+                .sellerId(message.sellerId())
+                .buyerId(message.buyerInfo().id())
+                .auctionId(message.auctionId())
+                .build();
+
+        return new CreateReceiptRequestWrapper(message.buyerInfo(), createReceiptRequest);
+    }
+
+    private void refundPoint(SignInfoRequest buyerInfo, long sellerId, long amount) {
+        RefundRequest refundRequest = RefundRequest.builder()
+                .receiverId(sellerId)
+                .amount(amount)
+                .build();
+
+        remoteCallGuard.run(RemoteService.MEMBER,
+                () -> memberFeignClient.refundPoint(new RefundPointRequestWrapper(buyerInfo, refundRequest)));
+    }
+
+    private void handleFailure(OutboxEventEntity event, Throwable e) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextRetryAt = now.plus(backoff(event.getRetryCount()));
+        if (isNotAttempted(e)) {
+            log.warn("원격 서버 보호로 Outbox 이벤트 전달을 미룹니다. EventId: {}, 종류: {}, 재시도 시각: {}, 사유: {}",
+                    event.getId(), event.getEventType(), nextRetryAt, e.getMessage());
+            event.deferTo(now, nextRetryAt);
+            outboxEventJpaRepository.save(event);
+            return;
+        }
+        if (isRetryable(e) && event.getRetryCount() < maxRetries && !event.isExpired(nextRetryAt)) {
+            log.warn("Outbox 이벤트 전달 실패, 재시도 예정. EventId: {}, 종류: {}, 재시도 시각: {}",
+                    event.getId(), event.getEventType(), nextRetryAt, e);
+            event.retryAt(nextRetryAt);
+            outboxEventJpaRepository.save(event);
+            return;
+        }
+
+        log.error("Outbox 이벤트 전달 최종 실패. EventId: {}, 종류: {}, RequestId: {}",
+                event.getId(), event.getEventType(), event.getRequestId(), e);
+        transactionTemplate.executeWithoutResult(status -> {
+            event.markFailed();
+            outboxEventJpaRepository.save(event);
+            purchaseSagaOrchestrator.onFailed(event, e.getMessage());
+        });
+    }
+
+    /**
+     * 서킷이 열려 있거나 bulkhead 가 가득 차 원격 호출을 시도조차 하지 않은 실패
+     * 원격 서버는 이 이벤트를 처리하지 않았으므로 재시도 횟수와 전달 기한을 소모하지 않고, 보상도 시작하지 않는다.
+     */
+
+    private boolean isNotAttempted(Throwable e) {
+        return e instanceof ServiceUnavailableException unavailable
+                && (unavailable.getErrorCode() == ErrorCode.G007 || unavailable.getErrorCode() == ErrorCode.G008);
+    }
+
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof ServiceUnavailableException) {
+            return true;
+        }
+        if (e instanceof BusinessException) {
+            return false;
+        }
+        if (e instanceof FeignException feignException) {
+            int status = feignException.status();
+            return status < 400 || status >= 500 || status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    private Duration backoff(int retryCount) {
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(retryCount, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+}
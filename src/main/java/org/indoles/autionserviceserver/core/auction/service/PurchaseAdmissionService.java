@@ -0,0 +1,153 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.indoles.autionserviceserver.global.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매별 구매 입장 제어(admission control)
+ * 처리 중인 구매 수량의 합이 남은 재고를 넘지 않도록 구매 요청을 받고, 나머지는 DB 커넥션을 잡기 전에 즉시 429 로 거절한다.
+ * 경매 시작 직후처럼 요청이 몰려도 성공할 가능성이 있는 만큼만 구매 처리로 들어간다.
+ * 남은 재고는 재고 장부(AuctionStockLedger)를 기준으로 하며, 장부에 아직 없는 경매는 처음 한 번만 DB 에서 조회한다.
+ */
+
+@Service
+public class PurchaseAdmissionService {
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionStockLedger auctionStockLedger;
+    private final double overcommitRatio;
+    private final long retryAfterSeconds;
+    private final ConcurrentMap<Long, AdmissionGate> gates = new ConcurrentHashMap<>();
+
+    public PurchaseAdmissionService(
+            AuctionRepository auctionRepository,
+            AuctionStockLedger auctionStockLedger,
+            @Value("${auction.admission.overcommit-ratio:1.0}") double overcommitRatio,
+            @Value("${auction.admission.retry-after:PT1S}") Duration retryAfter
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.auctionStockLedger = auctionStockLedger;
+        this.overcommitRatio = overcommitRatio;
+        this.retryAfterSeconds = Math.max(1L, retryAfter.toSeconds());
+    }
+
+    /**
+     * 구매 처리 입장
+     * 반환된 Permit 은 구매 처리가 끝나면(성공/실패 무관) 반드시 닫아야 한다.
+     *
+     * @param auctionId 구매할 경매 ID
+     * @param quantity  구매 수량
+     * @return 처리 중인 구매 수량을 반납하는 Permit
+     */
+
+    public Permit admit(long auctionId, long quantity) {
+        AdmissionGate gate = gateOf(auctionId);
+
+        if (quantity <= 0 || quantity > gate.maximumPurchaseLimitCount()) {
+            String message = String.format("구매 가능 갯수를 초과하거나 0이하의 갯수만큼 구매할 수 없습니다. 요청: %d, 인당구매제한: %d", quantity,
+                    gate.maximumPurchaseLimitCount());
+            throw new BadRequestException(message, ErrorCode.A030);
+        }
+
+        long stock = auctionStockLedger.currentStock(auctionId).orElse(gate.initialStock());
+        if (stock < quantity) {
+            String message = String.format("재고가 부족합니다. 현재 재고: %d, 요청 구매 수량: %d", stock, quantity);
+            throw new SuccessfulOperationException(message, ErrorCode.A012);
+        }
+
+        long capacity = (long) Math.ceil(stock * overcommitRatio);
+        if (!gate.tryAcquire(quantity, capacity)) {
+            throw new TooManyRequestsException("남은 재고만큼의 구매가 이미 처리 중입니다. 잠시 후 다시 시도해주세요.",
+                    ErrorCode.G009, retryAfterSeconds);
+        }
+        return new Permit(gate, quantity);
+    }
+
+    /**
+     * 종료된 경매의 입장 정보를 정리
+     */
+
+    @Scheduled(fixedDelayString = "${auction.admission.eviction-interval-ms:60000}")
+    public void evictFinished() {
+        LocalDateTime now = LocalDateTime.now();
+        gates.values().removeIf(gate -> gate.finishedAt().isBefore(now) && gate.inFlight().get() == 0);
+    }
+
+    /**
+     * 경매의 입장 정보 조회, 없으면 DB 에서 읽어 등록한다.
+     * DB 조회를 맵의 잠금(computeIfAbsent) 안에서 하지 않도록, 읽은 뒤 putIfAbsent 로 등록한다(먼저 등록된 것을 사용한다).
+     */
+
+    private AdmissionGate gateOf(long auctionId) {
+        AdmissionGate gate = gates.get(auctionId);
+        if (gate != null) {
+            return gate;
+        }
+        AdmissionGate opened = openGate(auctionId);
+        AdmissionGate existing = gates.putIfAbsent(auctionId, opened);
+        return existing != null ? existing : opened;
+    }
+
+    private AdmissionGate openGate(long auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new NotFoundException("경매(Auction)를 찾을 수 없습니다. AuctionId: " + auctionId, ErrorCode.A010));
+
+        return new AdmissionGate(auction.getCurrentStock(), auction.getMaximumPurchaseLimitCount(), auction.getFinishedAt(),
+                new AtomicLong());
+    }
+
+    private record AdmissionGate(
+            long initialStock,
+            long maximumPurchaseLimitCount,
+            LocalDateTime finishedAt,
+            AtomicLong inFlight
+    ) {
+
+        private boolean tryAcquire(long quantity, long capacity) {
+            while (true) {
+                long current = inFlight.get();
+                if (current + quantity > capacity) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + quantity)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    public static final class Permit implements AutoCloseable {
+
+        private final AdmissionGate gate;
+        private final long quantity;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AdmissionGate gate, long quantity) {
+            this.gate = gate;
+            this.quantity = quantity;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                gate.inFlight().addAndGet(-quantity);
+            }
+        }
+    }
+}
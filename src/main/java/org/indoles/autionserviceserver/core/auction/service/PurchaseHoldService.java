@@ -0,0 +1,231 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseHoldResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseResponse;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionCoreRepository;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
+import org.indoles.autionserviceserver.global.dto.AuctionPurchaseRequestMessage;
+import org.indoles.autionserviceserver.global.dto.PurchaseOutboxMessage;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 재고 선점 후 확정하는 2단계 구매
+ * 선점(hold)은 재고 장부에서만 재고를 차감하므로 DB 락 없이 처리되고, 확정(confirm) 시 구매 Saga 를 시작해
+ * 포인트 전송 등 느린 원격 호출은 OutboxRelay 에서 락 밖으로 진행된다.
+ * 확정되지 않은 선점은 TTL 이 지나면 타이머 휠에서 만료되어 재고가 복구된다. 테이블을 주기적으로 조회하지 않는다.
+ * 선점은 메모리에만 보관되고 재고 변경은 확정할 때 Saga 시작과 같은 트랜잭션에서 기록되므로,
+ * 서버가 종료되면 확정되지 않은 선점은 DB 재고를 차지하지 않은 채로 사라진다.
+ * 재고 장부와 마찬가지로 하나의 경매는 하나의 서버 인스턴스에서만 처리된다는 전제를 가진다.
+ */
+
+@Slf4j
+@Service
+public class PurchaseHoldService {
+
+    private final AuctionCoreRepository auctionCoreRepository;
+    private final HotAuctionRegistry hotAuctionRegistry;
+    private final StockReservationService stockReservationService;
+    private final PurchaseSagaOrchestrator purchaseSagaOrchestrator;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration tick;
+    private final TimerWheel<PurchaseHold> timerWheel;
+    private final ConcurrentMap<UUID, PurchaseHold> holds = new ConcurrentHashMap<>();
+    private final Thread ticker;
+    private volatile boolean running = true;
+
+    public PurchaseHoldService(
+            AuctionCoreRepository auctionCoreRepository,
+            HotAuctionRegistry hotAuctionRegistry,
+            StockReservationService stockReservationService,
+            PurchaseSagaOrchestrator purchaseSagaOrchestrator,
+            TransactionTemplate transactionTemplate,
+            @Value("${auction.hold.ttl:PT2M}") Duration ttl,
+            @Value("${auction.hold.tick:PT0.1S}") Duration tick,
+            @Value("${auction.hold.wheel-size:512}") int wheelSize
+    ) {
+        this.auctionCoreRepository = auctionCoreRepository;
+        this.hotAuctionRegistry = hotAuctionRegistry;
+        this.stockReservationService = stockReservationService;
+        this.purchaseSagaOrchestrator = purchaseSagaOrchestrator;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.tick = tick;
+        this.timerWheel = new TimerWheel<>(tick, wheelSize, System.nanoTime(), this::expire);
+        this.ticker = new Thread(this::run, "purchase-hold-timer");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    /**
+     * 재고 선점
+     *
+     * @param message   구매 요청 메시지(requestId 가 선점 ID 가 된다)
+     * @param buyerInfo 구매자 정보
+     * @return 선점 ID 와 만료 시간
+     */
+
+    public PurchaseHoldResponse hold(AuctionPurchaseRequestMessage message, SignInfoRequest buyerInfo) {
+        Auction auction = hotAuctionRegistry.find(message.auctionId())
+                .or(() -> auctionCoreRepository.findById(message.auctionId()))
+                .orElseThrow(() -> new NotFoundException("경매(Auction)를 찾을 수 없습니다. AuctionId: " + message.auctionId(), ErrorCode.A010));
+
+        stockReservationService.hold(auction, buyerInfo.id(), message.price(), message.quantity(), message.requestTime());
+
+        PurchaseHold hold = new PurchaseHold(message.requestId(), buyerInfo, auction, message.price(), message.quantity());
+        hold.timeout = timerWheel.schedule(hold, System.nanoTime() + ttl.toNanos());
+        holds.put(hold.holdId, hold);
+
+        return new PurchaseHoldResponse(hold.holdId, hold.quantity, message.requestTime().plus(ttl));
+    }
+
+    /**
+     * 선점 확정
+     * 선점한 재고로 구매 Saga 를 시작한다. 선점 이후 경매가 취소되었거나 종료되었다면, 또는 Saga 시작에 실패하면 선점한 재고를 복구한다.
+     *
+     * @param holdId    선점 ID
+     * @param buyerInfo 구매자 정보
+     * @param now       요청 시간
+     * @return 구매 요청 ID(선점 ID 와 같다)
+     */
+
+    public PurchaseResponse confirm(UUID holdId, SignInfoRequest buyerInfo, LocalDateTime now) {
+        PurchaseHold hold = settle(holdId, buyerInfo);
+
+        try {
+            verifyConfirmable(hold, now);
+        } catch (RuntimeException e) {
+            stockReservationService.releaseHold(hold.auction, hold.buyerInfo.id(), hold.quantity);
+            throw e;
+        }
+
+        PurchaseOutboxMessage outboxMessage = PurchaseOutboxMessage.builder()
+                .buyerInfo(buyerInfo)
+                .receiptId(UUID.randomUUID())
+                .auctionId(hold.auction.getId())
+                .sellerId(hold.auction.getSellerId())
+                .productName(hold.auction.getProductName())
+                .price(hold.price)
+                .quantity(hold.quantity)
+                .build();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                stockReservationService.confirmHold(hold.auction, hold.price, hold.quantity);
+                purchaseSagaOrchestrator.startPurchase(holdId, outboxMessage);
+            });
+        } catch (RuntimeException e) {
+            stockReservationService.releaseHold(hold.auction, hold.buyerInfo.id(), hold.quantity);
+            throw e;
+        }
+        return new PurchaseResponse(holdId);
+    }
+
+    /**
+     * 선점 취소
+     *
+     * @param holdId    선점 ID
+     * @param buyerInfo 구매자 정보
+     */
+
+    public void cancel(UUID holdId, SignInfoRequest buyerInfo) {
+        PurchaseHold hold = settle(holdId, buyerInfo);
+        stockReservationService.releaseHold(hold.auction, hold.buyerInfo.id(), hold.quantity);
+    }
+
+    /**
+     * 서버 종료 시 만료 타이머를 멈춘다.
+     * 확정되지 않은 선점은 재고 변경으로 기록되지 않았으므로 복구할 필요가 없다.
+     */
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        ticker.interrupt();
+    }
+
+    private PurchaseHold settle(UUID holdId, SignInfoRequest buyerInfo) {
+        PurchaseHold hold = holds.get(holdId);
+
+        if (hold == null || !buyerInfo.isSameId(hold.buyerInfo.id()) || !hold.settle()) {
+            throw new NotFoundException("재고 선점을 찾을 수 없거나 이미 만료되었습니다. HoldId: " + holdId, ErrorCode.A040);
+        }
+        holds.remove(holdId);
+        hold.timeout.cancel();
+        return hold;
+    }
+
+    private void verifyConfirmable(PurchaseHold hold, LocalDateTime now) {
+        long auctionId = hold.auction.getId();
+        Auction auction = hotAuctionRegistry.find(auctionId)
+                .or(() -> auctionCoreRepository.findById(auctionId))
+                .orElseThrow(() -> new NotFoundException("경매(Auction)를 찾을 수 없습니다. AuctionId: " + auctionId, ErrorCode.A010));
+
+        if (!now.isBefore(auction.getFinishedAt())) {
+            String message = String.format("종료된 경매의 재고 선점은 확정할 수 없습니다. 종료시간: %s, 요청시간: %s", auction.getFinishedAt(), now);
+            throw new BadRequestException(message, ErrorCode.A013);
+        }
+    }
+
+    private void expire(PurchaseHold hold) {
+        if (!hold.settle()) {
+            return;
+        }
+        holds.remove(hold.holdId);
+        stockReservationService.releaseHold(hold.auction, hold.buyerInfo.id(), hold.quantity);
+        log.info("재고 선점 만료. HoldId: {}, AuctionId: {}, 수량: {}", hold.holdId, hold.auction.getId(), hold.quantity);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Thread.sleep(tick.toMillis());
+                timerWheel.advanceTo(System.nanoTime());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("재고 선점 만료 처리 실패", e);
+            }
+        }
+    }
+
+    private static final class PurchaseHold {
+
+        private final UUID holdId;
+        private final SignInfoRequest buyerInfo;
+        private final Auction auction;
+        private final long price;
+        private final long quantity;
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private volatile TimerWheel.Timeout<PurchaseHold> timeout;
+
+        private PurchaseHold(UUID holdId, SignInfoRequest buyerInfo, Auction auction, long price, long quantity) {
+            this.holdId = holdId;
+            this.buyerInfo = buyerInfo;
+            this.auction = auction;
+            this.price = price;
+            this.quantity = quantity;
+        }
+
+        private boolean settle() {
+            return settled.compareAndSet(false, true);
+        }
+    }
+}
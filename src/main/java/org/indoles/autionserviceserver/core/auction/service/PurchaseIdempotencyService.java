@@ -0,0 +1,177 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseResponse;
+import org.indoles.autionserviceserver.core.auction.entity.PurchaseIdempotencyEntity;
+import org.indoles.autionserviceserver.core.auction.infra.PurchaseIdempotencyJpaRepository;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기준으로 중복 구매 요청을 걸러내는 서비스
+ * 처리한 키는 메모리 캐시(Caffeine, 크기 한도와 TTL 이 있다)와 PURCHASE_IDEMPOTENCY 테이블에 함께 기록되며,
+ * 같은 키로 다시 요청하면 구매를 다시 실행하지 않고 처음 응답(PurchaseResponse)을 그대로 돌려준다.
+ * 테이블 기록은 구매(재고 차감, Saga 시작)와 같은 트랜잭션에서 이루어지므로, 구매가 실패하면 키도 남지 않는다.
+ * 비동기 구매는 접수 시점에 메모리 캐시에 키를 선점하므로, 이후 구매가 실패하면 release 로 선점을 해제해야 한다.
+ * 메모리 캐시가 한도를 넘어 제거한 키도 테이블에서 다시 찾으므로, 캐시는 중복 판단의 정확성이 아니라 DB 조회만 줄인다.
+ */
+
+@Slf4j
+@Service
+public class PurchaseIdempotencyService {
+
+    private static final int MAXIMUM_KEY_LENGTH = 64;
+
+    private final PurchaseIdempotencyJpaRepository purchaseIdempotencyJpaRepository;
+    private final Duration retention;
+    private final ConcurrentMap<IdempotencyKey, UUID> cache;
+
+    public PurchaseIdempotencyService(
+            PurchaseIdempotencyJpaRepository purchaseIdempotencyJpaRepository,
+            @Value("${auction.idempotency.retention:PT24H}") Duration retention,
+            @Value("${auction.idempotency.maximum-entries:100000}") int maximumEntries
+    ) {
+        this.purchaseIdempotencyJpaRepository = purchaseIdempotencyJpaRepository;
+        this.retention = retention;
+        Cache<IdempotencyKey, UUID> requestIds = Caffeine.newBuilder()
+                .maximumSize(maximumEntries)
+                .expireAfterWrite(retention)
+                .executor(Runnable::run)
+                .build();
+        this.cache = requestIds.asMap();
+    }
+
+    /**
+     * 키가 처음 사용된 경우에만 구매를 실행한다
+     *
+     * @param buyerId        구매자 ID
+     * @param idempotencyKey 요청 헤더의 Idempotency-Key
+     * @param requestId      이번 요청의 구매 요청 ID
+     * @param purchase       구매 실행
+     * @return 처음 요청이라면 empty, 이미 처리된 키라면 처음 요청의 응답
+     */
+
+    public Optional<PurchaseResponse> executeOnce(long buyerId, String idempotencyKey, UUID requestId, Runnable purchase) {
+        validateKey(idempotencyKey);
+        IdempotencyKey key = new IdempotencyKey(buyerId, idempotencyKey);
+
+        Optional<PurchaseResponse> original = findOriginal(key);
+        if (original.isPresent()) {
+            return original;
+        }
+
+        UUID previous = cache.putIfAbsent(key, requestId);
+        if (previous != null) {
+            return Optional.of(new PurchaseResponse(previous));
+        }
+
+        try {
+            purchase.run();
+            return Optional.empty();
+        } catch (DataIntegrityViolationException e) {
+            cache.remove(key, requestId);
+            return fromDatabase(key).or(throwing(e));
+        } catch (RuntimeException e) {
+            cache.remove(key, requestId);
+            throw e;
+        }
+    }
+
+    /**
+     * 선점한 키를 해제(비동기 구매 실패 시)
+     * 같은 키를 다른 요청이 이미 차지하고 있다면 해제하지 않는다.
+     *
+     * @param buyerId        구매자 ID
+     * @param idempotencyKey 요청 헤더의 Idempotency-Key
+     * @param requestId      키를 선점한 구매 요청 ID
+     */
+
+    public void release(long buyerId, String idempotencyKey, UUID requestId) {
+        cache.remove(new IdempotencyKey(buyerId, idempotencyKey), requestId);
+    }
+
+    /**
+     * 테이블에 기록된 키의 처음 응답(다른 요청이 먼저 같은 키를 기록해 구매가 롤백된 경우)
+     *
+     * @param buyerId        구매자 ID
+     * @param idempotencyKey 요청 헤더의 Idempotency-Key
+     * @return 기록된 키라면 처음 요청의 응답
+     */
+
+    public Optional<PurchaseResponse> findRecorded(long buyerId, String idempotencyKey) {
+        return fromDatabase(new IdempotencyKey(buyerId, idempotencyKey));
+    }
+
+    /**
+     * 구매 트랜잭션 안에서 처리한 키를 기록
+     * 다른 요청이 같은 키를 먼저 기록했다면 DataIntegrityViolationException 으로 구매 트랜잭션이 롤백된다.
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(long buyerId, String idempotencyKey, UUID requestId) {
+        purchaseIdempotencyJpaRepository.save(PurchaseIdempotencyEntity.builder()
+                .buyerId(buyerId)
+                .idempotencyKey(idempotencyKey)
+                .requestId(requestId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 보관 기간이 지난 키를 테이블에서 삭제(메모리 캐시의 키는 Caffeine 이 TTL 로 제거한다)
+     */
+
+    @Scheduled(fixedDelayString = "${auction.idempotency.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        LocalDateTime expiredAt = LocalDateTime.now().minus(retention);
+        int deleted = purchaseIdempotencyJpaRepository.deleteExpired(expiredAt);
+        log.debug("만료된 Idempotency-Key 삭제: {}", deleted);
+    }
+
+    private Optional<PurchaseResponse> findOriginal(IdempotencyKey key) {
+        UUID cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(new PurchaseResponse(cached));
+        }
+        return fromDatabase(key);
+    }
+
+    private Optional<PurchaseResponse> fromDatabase(IdempotencyKey key) {
+        return purchaseIdempotencyJpaRepository.findByBuyerIdAndIdempotencyKey(key.buyerId(), key.value())
+                .map(entity -> {
+                    cache.putIfAbsent(key, entity.getRequestId());
+                    return new PurchaseResponse(entity.getRequestId());
+                });
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAXIMUM_KEY_LENGTH) {
+            throw new BadRequestException(
+                    "Idempotency-Key 는 비어있을 수 없고 " + MAXIMUM_KEY_LENGTH + "자를 넘을 수 없습니다.", ErrorCode.A036);
+        }
+    }
+
+    private static Supplier<Optional<PurchaseResponse>> throwing(RuntimeException e) {
+        return () -> {
+            throw e;
+        };
+    }
+
+    private record IdempotencyKey(long buyerId, String value) {
+    }
+}
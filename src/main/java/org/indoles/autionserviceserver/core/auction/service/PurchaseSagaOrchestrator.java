@@ -0,0 +1,280 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.domain.enums.PurchaseSagaState;
+import org.indoles.autionserviceserver.core.auction.domain.enums.SagaStepStatus;
+import org.indoles.autionserviceserver.core.auction.domain.enums.SagaType;
+import org.indoles.autionserviceserver.core.auction.entity.OutboxEventEntity;
+import org.indoles.autionserviceserver.core.auction.entity.PurchaseSagaEntity;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionCoreRepository;
+import org.indoles.autionserviceserver.core.auction.infra.PurchaseSagaJpaRepository;
+import org.indoles.autionserviceserver.global.dto.PurchaseOutboxMessage;
+import org.indoles.autionserviceserver.global.dto.RefundOutboxMessage;
+import org.indoles.autionserviceserver.global.exception.BusinessException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType.*;
+import static org.indoles.autionserviceserver.core.auction.domain.enums.PurchaseSagaState.*;
+
+/**
+ * 구매/구매 취소 Saga 상태 머신
+ * 각 단계는 Outbox 이벤트로 전달되며, OutboxRelay 가 전달 결과를 알려주면 다음 단계 또는 보상 단계를 기록한다.
+ * 모든 상태 변경은 전달 결과 기록과 같은 로컬 트랜잭션 안에서 이루어진다.
+ *
+ * 구매: 재고 차감 → (포인트 전송 ∥ 확정 대기 거래 내역 생성) → 거래 내역 확정
+ * - 서로 의존하지 않는 포인트 전송과 거래 내역 생성은 동시에 전달되며, 둘 다 성공하면 거래 내역을 확정한다.
+ * - 둘 중 하나가 실패하면 아직 시작하지 않은 나머지 단계는 취소하고, 이미 성공한 단계는 보상한 뒤 재고를 복구한다.
+ * - 동시에 진행하는 단계는 전달 기한(stepDeadline)이 지나면 더 이상 시도하지 않는다.
+ * 구매 취소: 재고 복구 → 포인트 환불 → 거래 내역 환불 처리
+ * - 포인트 환불 실패: 재고 재차감
+ * - 거래 내역 환불 처리 실패: 판매자에게 포인트 반환 → 재고 재차감
+ */
+
+@Slf4j
+@Component
+public class PurchaseSagaOrchestrator {
+
+    private final PurchaseSagaJpaRepository purchaseSagaJpaRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final AuctionCoreRepository auctionCoreRepository;
+    private final StockReservationService stockReservationService;
+    private final Duration stepDeadline;
+
+    public PurchaseSagaOrchestrator(
+            PurchaseSagaJpaRepository purchaseSagaJpaRepository,
+            OutboxEventPublisher outboxEventPublisher,
+            AuctionCoreRepository auctionCoreRepository,
+            StockReservationService stockReservationService,
+            @Value("${auction.saga.step-deadline:PT30S}") Duration stepDeadline
+    ) {
+        this.purchaseSagaJpaRepository = purchaseSagaJpaRepository;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.auctionCoreRepository = auctionCoreRepository;
+        this.stockReservationService = stockReservationService;
+        this.stepDeadline = stepDeadline;
+    }
+
+    /**
+     * 재고 차감 이후 구매 Saga 시작
+     * 포인트 전송과 확정 대기 거래 내역 생성 이벤트를 함께 기록해 동시에 전달되도록 한다.
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void startPurchase(UUID requestId, PurchaseOutboxMessage message) {
+        purchaseSagaJpaRepository.save(
+                PurchaseSagaEntity.start(requestId, SagaType.PURCHASE, message.buyerInfo().id(), message.auctionId()));
+
+        LocalDateTime deadlineAt = LocalDateTime.now().plus(stepDeadline);
+        outboxEventPublisher.publish(requestId, PURCHASE_POINT_TRANSFER, message, deadlineAt);
+        outboxEventPublisher.publish(requestId, PURCHASE_RECEIPT_CREATE, message, deadlineAt);
+    }
+
+    /**
+     * 재고 복구 이후 구매 취소 Saga 시작
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void startCancel(UUID requestId, RefundOutboxMessage message) {
+        purchaseSagaJpaRepository.save(
+                PurchaseSagaEntity.start(requestId, SagaType.CANCEL, message.buyerInfo().id(), message.auctionId()));
+        outboxEventPublisher.publish(requestId, REFUND_POINT, message);
+    }
+
+    /**
+     * 단계 이벤트 전달 성공
+     *
+     * @param event 전달에 성공한 이벤트
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDelivered(OutboxEventEntity event) {
+        PurchaseSagaEntity saga = findSaga(event.getRequestId());
+        if (saga.getState().isTerminal() && !isPurchaseStep(event.getEventType())) {
+            log.warn("이미 종료된 Saga 의 단계 성공을 무시합니다. RequestId: {}, 종류: {}, 상태: {}",
+                    saga.getRequestId(), event.getEventType(), saga.getState());
+            return;
+        }
+
+        switch (event.getEventType()) {
+            case PURCHASE_POINT_TRANSFER -> {
+                saga.markPointStep(SagaStepStatus.SUCCEEDED);
+                onRemoteStepSucceeded(saga, event, COMPENSATE_PURCHASE_POINT);
+            }
+            case PURCHASE_RECEIPT_CREATE -> {
+                saga.markReceiptStep(SagaStepStatus.SUCCEEDED);
+                onRemoteStepSucceeded(saga, event, COMPENSATE_PURCHASE_RECEIPT);
+            }
+            case COMPENSATE_PURCHASE_POINT -> {
+                saga.markPointStep(SagaStepStatus.COMPENSATED);
+                finishPurchaseCompensation(saga, event);
+            }
+            case COMPENSATE_PURCHASE_RECEIPT -> {
+                saga.markReceiptStep(SagaStepStatus.COMPENSATED);
+                finishPurchaseCompensation(saga, event);
+            }
+            case REFUND_POINT -> proceed(saga, event, POINTS_REFUNDED, REFUND_RECEIPT);
+            case PURCHASE_RECEIPT_CONFIRM, REFUND_RECEIPT -> saga.transitTo(COMPLETED);
+            case COMPENSATE_REFUND_POINT -> reclaimStock(saga, readRefund(event), null);
+        }
+        purchaseSagaJpaRepository.save(saga);
+    }
+
+    /**
+     * 단계 이벤트 최종 실패(재시도 소진, 전달 기한 초과 또는 재시도할 수 없는 실패)
+     *
+     * @param event  실패한 이벤트
+     * @param reason 실패 사유
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onFailed(OutboxEventEntity event, String reason) {
+        PurchaseSagaEntity saga = findSaga(event.getRequestId());
+        if (saga.getState().isTerminal()) {
+            if (event.getEventType().isCompensation()) {
+                log.error("종료된 Saga 의 보상 실패, 수동 처리가 필요합니다. RequestId: {}, 종류: {}, 상태: {}, 사유: {}",
+                        saga.getRequestId(), event.getEventType(), saga.getState(), reason);
+            } else {
+                log.warn("이미 종료된 Saga 의 단계 실패를 무시합니다. RequestId: {}, 종류: {}, 상태: {}",
+                        saga.getRequestId(), event.getEventType(), saga.getState());
+            }
+            return;
+        }
+
+        switch (event.getEventType()) {
+            case PURCHASE_POINT_TRANSFER -> {
+                saga.markPointStep(SagaStepStatus.FAILED);
+                compensatePurchase(saga, event, reason);
+            }
+            case PURCHASE_RECEIPT_CREATE -> {
+                saga.markReceiptStep(SagaStepStatus.FAILED);
+                compensatePurchase(saga, event, reason);
+            }
+            case PURCHASE_RECEIPT_CONFIRM -> compensatePurchase(saga, event, reason);
+            case REFUND_POINT -> reclaimStock(saga, readRefund(event), reason);
+            case REFUND_RECEIPT -> {
+                saga.transitTo(COMPENSATING, reason);
+                outboxEventPublisher.publishNext(event, COMPENSATE_REFUND_POINT);
+            }
+            case COMPENSATE_PURCHASE_POINT, COMPENSATE_PURCHASE_RECEIPT, COMPENSATE_REFUND_POINT -> {
+                log.error("Saga 보상 실패, 수동 처리가 필요합니다. RequestId: {}, 종류: {}", saga.getRequestId(), event.getEventType());
+                saga.transitTo(FAILED, reason);
+            }
+        }
+        purchaseSagaJpaRepository.save(saga);
+    }
+
+    /**
+     * 종료된 Saga 에도 결과를 반영해야 하는 구매 단계(늦게 성공한 원격 단계는 보상하고, 그 보상 결과는 단계 상태에 기록한다)
+     */
+
+    private boolean isPurchaseStep(OutboxEventType eventType) {
+        return switch (eventType) {
+            case PURCHASE_POINT_TRANSFER, PURCHASE_RECEIPT_CREATE,
+                 COMPENSATE_PURCHASE_POINT, COMPENSATE_PURCHASE_RECEIPT -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * 보상이 시작된 뒤(취소 직전에 이미 전달을 시작한 경우 포함) 성공한 단계는 바로 보상한다.
+     */
+
+    private void onRemoteStepSucceeded(PurchaseSagaEntity saga, OutboxEventEntity event, OutboxEventType compensation) {
+        if (saga.isIn(COMPENSATING) || saga.getState().isTerminal()) {
+            outboxEventPublisher.publishNext(event, compensation);
+            return;
+        }
+        if (saga.isRemoteStepsSucceeded()) {
+            saga.transitTo(RECEIPT_CONFIRMING);
+            outboxEventPublisher.publishNext(event, PURCHASE_RECEIPT_CONFIRM);
+        }
+    }
+
+    /**
+     * 구매 보상 시작
+     * 아직 전달을 시작하지 않은 단계는 취소하고, 이미 성공한 단계는 보상 이벤트를 기록한다.
+     * 전달중인(OutboxRelay 가 선점한) 단계는 취소되지 않고 IN_PROGRESS 로 남아, 결과가 도착했을 때(onDelivered) 보상한다.
+     */
+
+    private void compensatePurchase(PurchaseSagaEntity saga, OutboxEventEntity event, String reason) {
+        if (saga.getState().isTerminal()) {
+            return;
+        }
+        if (saga.isIn(COMPENSATING)) {
+            finishPurchaseCompensation(saga, event);
+            return;
+        }
+        saga.transitTo(COMPENSATING, reason);
+
+        if (saga.getPointStep() == SagaStepStatus.IN_PROGRESS
+                && outboxEventPublisher.cancelPending(saga.getRequestId(), PURCHASE_POINT_TRANSFER)) {
+            saga.markPointStep(SagaStepStatus.CANCELLED);
+        }
+        if (saga.getReceiptStep() == SagaStepStatus.IN_PROGRESS
+                && outboxEventPublisher.cancelPending(saga.getRequestId(), PURCHASE_RECEIPT_CREATE)) {
+            saga.markReceiptStep(SagaStepStatus.CANCELLED);
+        }
+        if (saga.getPointStep() == SagaStepStatus.SUCCEEDED) {
+            outboxEventPublisher.publishNext(event, COMPENSATE_PURCHASE_POINT);
+        }
+        if (saga.getReceiptStep() == SagaStepStatus.SUCCEEDED) {
+            outboxEventPublisher.publishNext(event, COMPENSATE_PURCHASE_RECEIPT);
+        }
+        finishPurchaseCompensation(saga, event);
+    }
+
+    private void finishPurchaseCompensation(PurchaseSagaEntity saga, OutboxEventEntity event) {
+        if (!saga.isIn(COMPENSATING) || saga.hasOutstandingStep()) {
+            return;
+        }
+        PurchaseOutboxMessage message = readPurchase(event);
+        stockReservationService.release(findAuction(message.auctionId()), message.buyerInfo().id(), message.quantity());
+        saga.transitTo(COMPENSATED);
+    }
+
+    private void proceed(PurchaseSagaEntity saga, OutboxEventEntity event, PurchaseSagaState next, OutboxEventType nextEvent) {
+        saga.transitTo(next);
+        outboxEventPublisher.publishNext(event, nextEvent);
+    }
+
+    private void reclaimStock(PurchaseSagaEntity saga, RefundOutboxMessage message, String reason) {
+        try {
+            stockReservationService.reclaim(findAuction(message.auctionId()), message.buyerInfo().id(), message.quantity());
+            saga.transitTo(COMPENSATED, reason);
+        } catch (BusinessException | SuccessfulOperationException e) {
+            log.error("Saga 재고 재차감 실패, 수동 처리가 필요합니다. RequestId: {}", saga.getRequestId(), e);
+            saga.transitTo(FAILED, e.getMessage());
+        }
+    }
+
+    private PurchaseSagaEntity findSaga(UUID requestId) {
+        return purchaseSagaJpaRepository.findByRequestId(requestId)
+                .orElseThrow(() -> new IllegalStateException("Saga 를 찾을 수 없습니다. RequestId: " + requestId));
+    }
+
+    private Auction findAuction(long auctionId) {
+        return auctionCoreRepository.findById(auctionId)
+                .orElseThrow(
+                        () -> new NotFoundException("경매(Auction)를 찾을 수 없습니다. AuctionId: " + auctionId, ErrorCode.A010));
+    }
+
+    private PurchaseOutboxMessage readPurchase(OutboxEventEntity event) {
+        return outboxEventPublisher.read(event, PurchaseOutboxMessage.class);
+    }
+
+    private RefundOutboxMessage readRefund(OutboxEventEntity event) {
+        return outboxEventPublisher.read(event, RefundOutboxMessage.class);
+    }
+}
@@ -0,0 +1,231 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 경매 ID 기준으로 샤딩된 단일 작성자(single-writer) 구매 처리기
+ * 같은 경매에 대한 재고 변경은 항상 같은 샤드의 스레드 하나에서 순차적으로 실행되므로 락 없이 순서가 보장된다.
+ * 각 샤드는 미리 할당된 링 버퍼를 가지며, 버퍼가 가득 차면 즉시 요청을 거절한다.
+ * 샤드 스레드는 처리할 명령이 없으면 park 로 대기하고, 명령을 등록한 생산자가 unpark 로 깨운다.
+ * 종료(shutdown)된 후의 요청은 거절하고, 종료 전에 등록된 명령은 모두 실행한 뒤 스레드가 종료된다.
+ */
+
+@Slf4j
+@Component
+public class PurchaseSequencer {
+
+    private final Shard[] shards;
+
+    public PurchaseSequencer(
+            @Value("${auction.sequencer.shard-count:0}") int shardCount,
+            @Value("${auction.sequencer.buffer-size:1024}") int bufferSize
+    ) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i, capacity);
+            shards[i].start();
+        }
+    }
+
+    /**
+     * 경매의 샤드 스레드에서 명령을 실행하고 결과를 기다린다
+     *
+     * @param auctionId 경매 ID
+     * @param command   샤드 스레드에서 실행할 명령
+     * @return 명령의 실행 결과
+     */
+
+    public <T> T execute(long auctionId, Supplier<T> command) {
+        try {
+            return submit(auctionId, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void execute(long auctionId, Runnable command) {
+        execute(auctionId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * 경매의 샤드 링 버퍼에 명령을 등록
+     *
+     * @param auctionId 경매 ID
+     * @param command   샤드 스레드에서 실행할 명령
+     * @return 명령이 실행되면 완료되는 future
+     */
+
+    public <T> CompletableFuture<T> submit(long auctionId, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Shard shard = shards[shardIndex(auctionId)];
+
+        if (!shard.publish(command, future)) {
+            if (shard.isStopped()) {
+                throw new ServiceUnavailableException("구매 처리기가 종료되어 요청을 처리할 수 없습니다. AuctionId: " + auctionId, ErrorCode.G005);
+            }
+            String message = String.format("구매 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. AuctionId: %d", auctionId);
+            throw new ServiceUnavailableException(message, ErrorCode.G005);
+        }
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    private int shardIndex(long auctionId) {
+        return (int) Math.floorMod(Long.hashCode(auctionId) * 0x9E3779B9L, (long) shards.length);
+    }
+
+    /**
+     * 다중 생산자 / 단일 소비자 링 버퍼를 가진 샤드
+     * 슬롯은 생성 시점에 모두 할당되며, 슬롯의 sequence 로 생산자와 소비자가 슬롯의 소유권을 주고받는다.
+     * 종료 시 claimSequence 를 CLOSED 로 바꾸므로 이후의 등록은 실패하고, 이미 확보된 sequence(endSequence 이전)는 모두 실행된다.
+     */
+
+    private static final class Shard implements Runnable {
+
+        private static final long CLOSED = -1L;
+
+        private final Slot[] slots;
+        private final int mask;
+        private final AtomicLong claimSequence = new AtomicLong();
+        private final Thread worker;
+        private long consumeSequence;
+        private volatile long endSequence = Long.MAX_VALUE;
+        private volatile boolean sleeping;
+
+        private Shard(int index, int capacity) {
+            this.slots = new Slot[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new Slot(i);
+            }
+            this.worker = new Thread(this, "purchase-sequencer-" + index);
+            this.worker.setDaemon(true);
+        }
+
+        private void start() {
+            worker.start();
+        }
+
+        private boolean isStopped() {
+            return claimSequence.get() == CLOSED;
+        }
+
+        private void stop() {
+            long claimed = claimSequence.getAndSet(CLOSED);
+            if (claimed == CLOSED) {
+                return;
+            }
+            endSequence = claimed;
+            LockSupport.unpark(worker);
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean publish(Supplier<?> command, CompletableFuture<?> future) {
+            while (true) {
+                long sequence = claimSequence.get();
+                if (sequence == CLOSED) {
+                    return false;
+                }
+                Slot slot = slots[(int) (sequence & mask)];
+                long diff = slot.sequence - sequence;
+
+                if (diff < 0) {
+                    return false;
+                }
+                if (diff == 0 && claimSequence.compareAndSet(sequence, sequence + 1)) {
+                    slot.command = command;
+                    slot.future = future;
+                    slot.sequence = sequence + 1;
+                    if (sleeping) {
+                        LockSupport.unpark(worker);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (consumeSequence < endSequence) {
+                Slot slot = slots[(int) (consumeSequence & mask)];
+
+                if (slot.sequence != consumeSequence + 1) {
+                    awaitPublish(slot);
+                    continue;
+                }
+
+                Supplier<?> command = slot.command;
+                CompletableFuture<?> future = slot.future;
+                slot.command = null;
+                slot.future = null;
+                slot.sequence = consumeSequence + slots.length;
+                consumeSequence++;
+
+                complete(command, future);
+            }
+        }
+
+        /**
+         * sleeping 을 먼저 기록한 뒤 슬롯을 다시 확인하므로, 그 사이에 등록한 생산자는 반드시 unpark 를 호출한다.
+         */
+
+        private void awaitPublish(Slot slot) {
+            sleeping = true;
+            if (slot.sequence != consumeSequence + 1 && consumeSequence < endSequence) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Supplier<?> command, CompletableFuture<?> future) {
+            try {
+                ((CompletableFuture<Object>) future).complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Slot {
+
+        private volatile long sequence;
+        private Supplier<?> command;
+        private CompletableFuture<?> future;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.enums.PurchaseStatus;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseStatusResponse;
+import org.indoles.autionserviceserver.global.dto.AuctionPurchaseRequestMessage;
+import org.indoles.autionserviceserver.global.exception.BusinessException;
+import org.indoles.autionserviceserver.global.exception.CustomException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 비동기 구매 요청을 접수하고 처리 상태를 관리하는 서비스
+ * 처리 결과는 조회를 위해 일정 시간(TTL) 동안만 보관된다.
+ * 실패 사유는 비즈니스 예외의 메시지와 에러 코드만 노출하고, 그 외 예외(원격 서버 응답 등)의 메시지는 로그에만 남긴다.
+ * Idempotency-Key 가 있는 구매가 실패하면 키의 선점을 해제해 같은 키로 다시 구매할 수 있게 하고,
+ * 같은 키의 다른 요청이 먼저 구매를 기록해 실패한 경우에는 그 요청의 구매가 처리된 것으로 응답한다.
+ */
+
+@Slf4j
+@Service
+public class PurchaseStatusService {
+
+    private static final String PURCHASE_FAILED_MESSAGE = "구매 처리 중 오류가 발생했습니다.";
+
+    private final BuyerService buyerService;
+    private final PurchaseAdmissionService purchaseAdmissionService;
+    private final PurchaseIdempotencyService purchaseIdempotencyService;
+    private final TaskExecutor purchaseExecutor;
+    private final Duration retention;
+    private final int maximumEntries;
+    private final ConcurrentMap<UUID, PurchaseResult> results = new ConcurrentHashMap<>();
+
+    public PurchaseStatusService(
+            BuyerService buyerService,
+            PurchaseAdmissionService purchaseAdmissionService,
+            PurchaseIdempotencyService purchaseIdempotencyService,
+            @Qualifier("purchaseExecutor") TaskExecutor purchaseExecutor,
+            @Value("${auction.purchase-status.retention:PT10M}") Duration retention,
+            @Value("${auction.purchase-status.maximum-entries:100000}") int maximumEntries
+    ) {
+        this.buyerService = buyerService;
+        this.purchaseAdmissionService = purchaseAdmissionService;
+        this.purchaseIdempotencyService = purchaseIdempotencyService;
+        this.purchaseExecutor = purchaseExecutor;
+        this.retention = retention;
+        this.maximumEntries = maximumEntries;
+    }
+
+    /**
+     * 구매 요청을 접수하고 즉시 반환한다. 실제 구매는 purchaseExecutor 에서 처리된다.
+     * 남은 재고만큼의 구매가 이미 처리 중이라면 접수하지 않고 즉시 거절한다.
+     *
+     * @param message   구매 요청 메시지
+     * @param buyerInfo 구매자 정보
+     */
+
+    public void accept(AuctionPurchaseRequestMessage message, SignInfoRequest buyerInfo) {
+        if (results.size() >= maximumEntries) {
+            throw new ServiceUnavailableException("처리 대기중인 구매 요청이 많습니다. 잠시 후 다시 시도해주세요.", ErrorCode.G006);
+        }
+        PurchaseAdmissionService.Permit permit = purchaseAdmissionService.admit(message.auctionId(), message.quantity());
+        results.put(message.requestId(), PurchaseResult.pending(buyerInfo.id()));
+
+        try {
+            purchaseExecutor.execute(() -> process(message, buyerInfo, permit));
+        } catch (TaskRejectedException e) {
+            permit.close();
+            results.remove(message.requestId());
+            throw new ServiceUnavailableException("처리 대기중인 구매 요청이 많습니다. 잠시 후 다시 시도해주세요.", ErrorCode.G006);
+        }
+    }
+
+    /**
+     * 구매 요청의 처리 상태 조회
+     *
+     * @param requestId 구매 요청 ID
+     * @param buyerInfo 조회하는 구매자 정보
+     * @return 구매 요청 처리 상태
+     */
+
+    public PurchaseStatusResponse getStatus(UUID requestId, SignInfoRequest buyerInfo) {
+        PurchaseResult result = results.get(requestId);
+
+        if (result == null || !buyerInfo.isSameId(result.buyerId())) {
+            throw new NotFoundException("구매 요청을 찾을 수 없습니다. RequestId: " + requestId, ErrorCode.A035);
+        }
+        return new PurchaseStatusResponse(requestId, result.status(), result.message(),
+                result.errorCode() == null ? null : result.errorCode().name());
+    }
+
+    @Scheduled(fixedDelayString = "${auction.purchase-status.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        Instant expiredAt = Instant.now().minus(retention);
+        results.entrySet().removeIf(entry -> !entry.getValue().status().isPending()
+                && entry.getValue().updatedAt().isBefore(expiredAt));
+    }
+
+    private void process(AuctionPurchaseRequestMessage message, SignInfoRequest buyerInfo,
+                         PurchaseAdmissionService.Permit permit) {
+        try (permit) {
+            buyerService.submitPurchase(message, buyerInfo);
+            results.put(message.requestId(), PurchaseResult.of(buyerInfo.id(), PurchaseStatus.SUCCEEDED, null, null));
+        } catch (Exception e) {
+            Optional<PurchaseResponse> original = releaseIdempotencyKey(message, buyerInfo, e);
+            if (original.isPresent()) {
+                results.put(message.requestId(), PurchaseResult.duplicateOf(buyerInfo.id(), original.get()));
+                return;
+            }
+            log.warn("비동기 구매 처리 실패. RequestId: {}", message.requestId(), e);
+            results.put(message.requestId(), PurchaseResult.failed(buyerInfo.id(), e));
+        }
+    }
+
+    private Optional<PurchaseResponse> releaseIdempotencyKey(AuctionPurchaseRequestMessage message,
+                                                             SignInfoRequest buyerInfo, Exception e) {
+        if (!message.hasIdempotencyKey()) {
+            return Optional.empty();
+        }
+        purchaseIdempotencyService.release(buyerInfo.id(), message.idempotencyKey(), message.requestId());
+
+        if (e instanceof DataIntegrityViolationException) {
+            return purchaseIdempotencyService.findRecorded(buyerInfo.id(), message.idempotencyKey());
+        }
+        return Optional.empty();
+    }
+
+    private record PurchaseResult(
+            long buyerId,
+            PurchaseStatus status,
+            String message,
+            ErrorCode errorCode,
+            Instant updatedAt
+    ) {
+
+        private static PurchaseResult pending(long buyerId) {
+            return of(buyerId, PurchaseStatus.PENDING, null, null);
+        }
+
+        private static PurchaseResult duplicateOf(long buyerId, PurchaseResponse original) {
+            return of(buyerId, PurchaseStatus.SUCCEEDED,
+                    "같은 Idempotency-Key 의 구매가 이미 처리되었습니다. PurchaseId: " + original.purchaseId(), null);
+        }
+
+        private static PurchaseResult failed(long buyerId, Exception e) {
+            if (e instanceof BusinessException businessException) {
+                return of(buyerId, PurchaseStatus.FAILED, businessException.getMessage(), businessException.getErrorCode());
+            }
+            if (e instanceof SuccessfulOperationException successfulOperationException) {
+                return of(buyerId, PurchaseStatus.FAILED, successfulOperationException.getMessage(),
+                        successfulOperationException.getErrorCode());
+            }
+            if (e instanceof CustomException customException) {
+                return of(buyerId, PurchaseStatus.FAILED, PURCHASE_FAILED_MESSAGE, customException.getErrorCode());
+            }
+            return of(buyerId, PurchaseStatus.FAILED, PURCHASE_FAILED_MESSAGE, ErrorCode.SERVER_ERROR);
+        }
+
+        private static PurchaseResult of(long buyerId, PurchaseStatus status, String message, ErrorCode errorCode) {
+            return new PurchaseResult(buyerId, status, message, errorCode, Instant.now());
+        }
+    }
+}
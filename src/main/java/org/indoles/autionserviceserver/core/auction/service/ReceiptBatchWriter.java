@@ -0,0 +1,163 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.dto.Request.CreateReceiptRequestWrapper;
+import org.indoles.autionserviceserver.core.auction.utils.ReceiptFeignClient;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteCallGuard;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 생성 요청을 모아서 한 번의 bulk 호출로 거래 내역 서버에 전달한다.
+ * 첫 요청이 들어온 뒤 linger 시간이 지나거나 maxBatchSize 만큼 모이면 전송한다.
+ * 대기열이 가득 차면 요청을 즉시 거절하며(backpressure), 호출한 쪽은 나중에 다시 시도해야 한다.
+ * bulk 호출이 실패하면 묶인 요청 모두가 실패로 완료되므로, 거래 내역 서버는 receiptId 기준으로 중복 생성을 막아야 한다.
+ * 종료 시에는 먼저 요청 접수를 멈추고 진행중인 bulk 호출이 끝나기를 기다린 뒤, 남은 요청을 전달한다.
+ */
+
+@Slf4j
+@Component
+public class ReceiptBatchWriter {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final ReceiptFeignClient receiptFeignClient;
+    private final RemoteCallGuard remoteCallGuard;
+    private final BlockingQueue<PendingReceipt> queue;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ReceiptBatchWriter(
+            ReceiptFeignClient receiptFeignClient,
+            RemoteCallGuard remoteCallGuard,
+            @Value("${auction.receipt-batch.max-batch-size:100}") int maxBatchSize,
+            @Value("${auction.receipt-batch.linger:PT0.005S}") Duration linger,
+            @Value("${auction.receipt-batch.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.receiptFeignClient = receiptFeignClient;
+        this.remoteCallGuard = remoteCallGuard;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.flusher = new Thread(this::run, "receipt-batch-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 거래 내역 생성 요청 등록
+     *
+     * @param request 거래 내역 생성 요청
+     * @return 요청이 포함된 bulk 호출이 끝나면 완료되는 future
+     */
+
+    public CompletableFuture<Void> write(CreateReceiptRequestWrapper request) {
+        PendingReceipt pending = new PendingReceipt(request, new CompletableFuture<>());
+
+        if (!running || !queue.offer(pending)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("거래 내역 생성 대기열이 가득 찼습니다."));
+        }
+        return pending.future();
+    }
+
+    /**
+     * 요청 접수를 멈추고, 진행중인 bulk 호출이 끝나면 남은 요청을 전달한다.
+     * 진행중인 호출을 중단하지 않도록 flusher 는 종료 제한 시간이 지나도 끝나지 않을 때만 인터럽트한다.
+     */
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+            if (flusher.isAlive()) {
+                log.warn("거래 내역 bulk 호출이 종료 제한 시간 안에 끝나지 않아 중단합니다.");
+                flusher.interrupt();
+                flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingReceipt> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += maxBatchSize) {
+            send(remaining.subList(from, Math.min(from + maxBatchSize, remaining.size())));
+        }
+    }
+
+    private void run() {
+        List<PendingReceipt> batch = new ArrayList<>(maxBatchSize);
+
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+            }
+            if (!batch.isEmpty()) {
+                send(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 요청을 batch 에 모은다. 대기열이 비어 있으면 IDLE_POLL_MILLIS 마다 깨어나 종료 여부를 확인한다.
+     */
+
+    private void collect(List<PendingReceipt> batch) throws InterruptedException {
+        PendingReceipt first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingReceipt next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void send(List<PendingReceipt> batch) {
+        try {
+            List<CreateReceiptRequestWrapper> requests = batch.stream().map(PendingReceipt::request).toList();
+            remoteCallGuard.run(RemoteService.RECEIPT, () -> receiptFeignClient.createReceipts(requests));
+            batch.forEach(pending -> pending.future().complete(null));
+        } catch (Exception e) {
+            log.warn("거래 내역 bulk 생성 실패. 요청 수: {}", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    private record PendingReceipt(
+            CreateReceiptRequestWrapper request,
+            CompletableFuture<Void> future
+    ) {
+    }
+}
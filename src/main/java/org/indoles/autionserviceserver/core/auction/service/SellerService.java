@@ -11,6 +11,7 @@ import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionIn
 import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
 import org.indoles.autionserviceserver.core.auction.infra.AuctionCoreRepository;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
 import org.indoles.autionserviceserver.global.exception.AuthorizationException;
 import org.indoles.autionserviceserver.global.exception.BadRequestException;
 import org.indoles.autionserviceserver.global.exception.ErrorCode;
@@ -28,6 +29,8 @@ import java.util.List;
 public class SellerService {
 
     private final AuctionCoreRepository auctionCoreRepository;
+    private final HotAuctionRegistry hotAuctionRegistry;
+    private final WaitingRoomService waitingRoomService;
 
     /**
      * 경매에 상품을 등록하는 서비스 로직
@@ -86,6 +89,8 @@ public class SellerService {
             }
 
             auctionCoreRepository.deleteById(command.auctionId());
+            hotAuctionRegistry.evict(command.auctionId());
+            waitingRoomService.close(command.auctionId());
         } catch (Exception e) {
             log.error("경매 취소 중 오류 발생", e);
             throw e;
@@ -100,15 +105,14 @@ public class SellerService {
 
     /**
      * 경매 목록을 조회하는 서비스 로직(판매자용)
+     * 목록에 필요한 컬럼만 응답 레코드로 바로 조회한다.
      *
      * @param condition return 판매자용 경매 정보
      */
 
     public List<SellerAuctionSimpleInfoResponse> getSellerAuctionSimpleInfos(SellerAuctionSearchConditionRequest condition) {
         try {
-            return auctionCoreRepository.findAllBy(condition).stream()
-                    .map(Mapper::convertToSellerAuctionSimpleInfo)
-                    .toList();
+            return auctionCoreRepository.findSellerListingBy(condition);
         } catch (Exception e) {
             log.error("경매 목록 조회 중 오류 발생", e);
             throw e;
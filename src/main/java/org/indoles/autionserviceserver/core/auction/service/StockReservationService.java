@@ -0,0 +1,166 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerPurchaseIndex;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 장부(AuctionStockLedger)와 구매자별 누적 구매 수량(BuyerPurchaseIndex)에 대한 차감/복구를 경매별 Sequencer 를 통해 수행한다.
+ * 장부의 메모리 재고는 트랜잭션에 참여하지 않으므로, 호출한 트랜잭션이 롤백되면 반대 연산으로 장부를 되돌린다.
+ * 재고 변경량은 호출한 트랜잭션 안에서 재고 장부에 기록(AUCTION_STOCK_JOURNAL)되어 구매/취소와 함께 커밋된다.
+ * 재고와 누적 구매 수량은 Sequencer 에 작업을 넘기기 전에 호출한 스레드에서 읽어 두어 Sequencer 스레드가 DB 조회로 멈추지 않게 한다.
+ */
+
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final AuctionStockLedger auctionStockLedger;
+    private final PurchaseSequencer purchaseSequencer;
+    private final BuyerPurchaseIndex buyerPurchaseIndex;
+
+    /**
+     * 구매 요청 검증 후 재고 차감
+     *
+     * @param auction     구매할 경매
+     * @param buyerId     구매자 ID
+     * @param price       구매 가격
+     * @param quantity    구매 수량
+     * @param requestTime 구매 요청 시간
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Auction auction, long buyerId, long price, long quantity, LocalDateTime requestTime) {
+        take(auction, buyerId, price, quantity, requestTime);
+        runOnRollback(() -> increase(auction, buyerId, quantity));
+        auctionStockLedger.recordDecrease(auction.getId(), quantity, price);
+    }
+
+    /**
+     * 구매 요청 검증 후 재고 선점(hold)
+     * 선점은 장부의 메모리 재고에서만 차감되고 재고 변경 기록은 남기지 않는다. 확정(confirmHold)될 때 기록되므로,
+     * 서버가 종료되어 확정되지 않은 선점이 사라져도 AUCTION 재고는 그대로다.
+     * 확정되지 않고 만료되면 releaseHold 로 되돌린다.
+     *
+     * @param auction     구매할 경매
+     * @param buyerId     구매자 ID
+     * @param price       구매 가격
+     * @param quantity    구매 수량
+     * @param requestTime 구매 요청 시간
+     */
+
+    public void hold(Auction auction, long buyerId, long price, long quantity, LocalDateTime requestTime) {
+        take(auction, buyerId, price, quantity, requestTime);
+    }
+
+    /**
+     * 선점 확정
+     * 이미 메모리에서 차감한 선점 재고를 호출한 트랜잭션(구매 Saga 시작)과 함께 재고 변경으로 기록한다.
+     * 트랜잭션이 롤백되면 선점은 그대로 남으므로, 호출한 쪽에서 releaseHold 로 되돌려야 한다.
+     *
+     * @param auction  구매할 경매
+     * @param price    구매 가격
+     * @param quantity 구매 수량
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void confirmHold(Auction auction, long price, long quantity) {
+        auctionStockLedger.recordDecrease(auction.getId(), quantity, price);
+    }
+
+    /**
+     * 만료되거나 취소된(확정되지 않은) 선점 재고 복구
+     *
+     * @param auction  재고를 복구할 경매
+     * @param buyerId  구매자 ID
+     * @param quantity 복구 수량
+     */
+
+    public void releaseHold(Auction auction, long buyerId, long quantity) {
+        increase(auction, buyerId, quantity);
+    }
+
+    /**
+     * 구매자의 재고 복구(구매 취소, 구매 보상)
+     * 구매자의 누적 구매 수량도 함께 줄인다.
+     *
+     * @param auction  재고를 복구할 경매
+     * @param buyerId  구매자 ID
+     * @param quantity 복구 수량
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Auction auction, long buyerId, long quantity) {
+        increase(auction, buyerId, quantity);
+        runOnRollback(() -> decrease(auction, buyerId, quantity));
+        auctionStockLedger.recordIncrease(auction.getId(), quantity);
+    }
+
+    /**
+     * 복구했던 재고를 다시 차감(구매 취소 보상)
+     * 그 사이 재고가 다시 판매되었다면 예외가 발생한다.
+     *
+     * 구매자의 누적 구매 수량도 함께 되돌리며, 인당 구매 제한은 다시 검증하지 않는다.
+     *
+     * @param auction  재고를 차감할 경매
+     * @param buyerId  구매자 ID
+     * @param quantity 차감 수량
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reclaim(Auction auction, long buyerId, long quantity) {
+        decrease(auction, buyerId, quantity);
+        runOnRollback(() -> increase(auction, buyerId, quantity));
+        auctionStockLedger.recordDecrease(auction.getId(), quantity, auction.getCurrentPrice());
+    }
+
+    private void take(Auction auction, long buyerId, long price, long quantity, LocalDateTime requestTime) {
+        warm(auction);
+        purchaseSequencer.execute(auction.getId(), () -> {
+            auction.verifyPurchase(price, quantity, requestTime);
+            buyerPurchaseIndex.verifyLimit(auction, buyerId, quantity);
+            auctionStockLedger.decrease(auction.getId(), quantity);
+            buyerPurchaseIndex.increase(auction.getId(), buyerId, quantity);
+        });
+    }
+
+    private void increase(Auction auction, long buyerId, long quantity) {
+        warm(auction);
+        purchaseSequencer.execute(auction.getId(), () -> {
+            auctionStockLedger.increase(auction.getId(), quantity);
+            buyerPurchaseIndex.decrease(auction.getId(), buyerId, quantity);
+        });
+    }
+
+    private void decrease(Auction auction, long buyerId, long quantity) {
+        warm(auction);
+        purchaseSequencer.execute(auction.getId(), () -> {
+            auctionStockLedger.decrease(auction.getId(), quantity);
+            buyerPurchaseIndex.increase(auction.getId(), buyerId, quantity);
+        });
+    }
+
+    private void warm(Auction auction) {
+        auctionStockLedger.warm(auction);
+        buyerPurchaseIndex.warm(auction.getId());
+    }
+
+    private void runOnRollback(Runnable compensation) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 해시드 타이머 휠(hashed timer wheel)
+ * 만료 시각을 tick 단위 버킷에 나눠 담아, 한 tick 의 만료 처리 비용이 전체 대기 건수가 아니라 해당 버킷의 크기에만 비례한다.
+ * schedule 은 여러 스레드에서 호출할 수 있고, advanceTo 는 하나의 스레드에서만 호출해야 한다.
+ *
+ * @param <T> 만료 시 전달할 대상
+ */
+
+@Slf4j
+public class TimerWheel<T> {
+
+    private final long startNanos;
+    private final long tickNanos;
+    private final int mask;
+    private final List<ArrayDeque<Timeout<T>>> buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> onExpire;
+    private long processedTick;
+
+    public TimerWheel(Duration tick, int wheelSize, long startNanos, Consumer<T> onExpire) {
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.startNanos = startNanos;
+        this.tickNanos = tick.toNanos();
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.onExpire = onExpire;
+    }
+
+    /**
+     * 만료 예약
+     *
+     * @param target        만료 대상
+     * @param deadlineNanos 만료 시각(System.nanoTime 기준)
+     * @return 예약을 취소할 수 있는 Timeout
+     */
+
+    public Timeout<T> schedule(T target, long deadlineNanos) {
+        Timeout<T> timeout = new Timeout<>(target, deadlineNanos);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 주어진 시각까지 지난 tick 을 처리하고, 만료된 대상을 onExpire 로 전달한다.
+     *
+     * @param nowNanos 현재 시각(System.nanoTime 기준)
+     */
+
+    public void advanceTo(long nowNanos) {
+        long targetTick = (nowNanos - startNanos) / tickNanos;
+        while (processedTick < targetTick) {
+            processedTick++;
+            transferPending();
+            expire(buckets.get((int) (processedTick & mask)));
+        }
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long deadlineTick = Math.max(processedTick, Math.ceilDiv(timeout.deadlineNanos - startNanos, tickNanos));
+            timeout.remainingRounds = (deadlineTick - processedTick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).addLast(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout<T>> bucket) {
+        for (int i = bucket.size(); i > 0; i--) {
+            Timeout<T> timeout = bucket.pollFirst();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.addLast(timeout);
+                continue;
+            }
+            try {
+                onExpire.accept(timeout.target);
+            } catch (Exception e) {
+                log.error("타이머 만료 처리 실패. 대상: {}", timeout.target, e);
+            }
+        }
+    }
+
+    public static final class Timeout<T> {
+
+        private final T target;
+        private final long deadlineNanos;
+        private volatile boolean cancelled;
+        private long remainingRounds;
+
+        private Timeout(T target, long deadlineNanos) {
+            this.target = target;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.indoles.autionserviceserver.core.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.WaitingRoomEntryResponse;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.global.exception.AuthorizationException;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.indoles.autionserviceserver.global.exception.TooManyRequestsException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구매 요청이 몰리는 경매를 위한 가상 대기열
+ * 판매자가 대기열을 열면 구매자는 입장 순번을 받고, 경매가 시작된 뒤 설정된 속도(초당 입장 인원)로 순서대로 구매 처리에 입장한다.
+ * 대기 순서는 경매별 발급 순번과 입장 허용 순번 두 값으로만 관리되므로 대기 위치 조회는 O(1) 이다.
+ * 재고 장부와 마찬가지로 하나의 경매는 하나의 서버 인스턴스에서만 처리된다는 전제를 가진다.
+ */
+
+@Slf4j
+@Service
+public class WaitingRoomService {
+
+    private final AuctionRepository auctionRepository;
+    private final ConcurrentMap<Long, WaitingRoom> rooms = new ConcurrentHashMap<>();
+
+    public WaitingRoomService(AuctionRepository auctionRepository) {
+        this.auctionRepository = auctionRepository;
+    }
+
+    /**
+     * 경매 대기열 열기(판매자 전용)
+     * 이미 열려 있다면 초당 입장 인원만 변경한다.
+     *
+     * @param sellerInfo          판매자 정보
+     * @param auctionId           경매 ID
+     * @param admissionsPerSecond 초당 입장 인원
+     * @param now                 요청 시간
+     */
+
+    public void open(SignInfoRequest sellerInfo, long auctionId, long admissionsPerSecond, LocalDateTime now) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new NotFoundException("경매(Auction)를 찾을 수 없습니다. AuctionId: " + auctionId, ErrorCode.A010));
+
+        if (!auction.isSeller(sellerInfo.id())) {
+            throw new AuthorizationException("자신이 등록한 경매에만 대기열을 열 수 있습니다.", ErrorCode.A037);
+        }
+        if (admissionsPerSecond < 1 || !now.isBefore(auction.getFinishedAt())) {
+            String message = String.format("대기열을 열 수 없습니다. 초당 입장 인원: %d, 경매 종료 시간: %s",
+                    admissionsPerSecond, auction.getFinishedAt());
+            throw new BadRequestException(message, ErrorCode.A038);
+        }
+
+        rooms.compute(auctionId, (id, room) -> {
+            if (room == null) {
+                return new WaitingRoom(auction.getStartedAt(), auction.getFinishedAt(), admissionsPerSecond, now);
+            }
+            room.admissionsPerSecond = admissionsPerSecond;
+            return room;
+        });
+        log.info("경매 대기열 설정. AuctionId: {}, 초당 입장 인원: {}", auctionId, admissionsPerSecond);
+    }
+
+    /**
+     * 대기열 입장(입장 순번 발급)
+     * 이미 순번을 받은 구매자는 같은 순번을 다시 받는다.
+     *
+     * @param buyerInfo 구매자 정보
+     * @param auctionId 경매 ID
+     * @return 입장 순번과 대기 상태
+     */
+
+    public WaitingRoomEntryResponse enter(SignInfoRequest buyerInfo, long auctionId) {
+        WaitingRoom room = findRoom(auctionId);
+        long sequence = room.sequences.computeIfAbsent(buyerInfo.id(), id -> room.issued.getAndIncrement());
+        return room.toResponse(auctionId, sequence);
+    }
+
+    /**
+     * 대기 위치 조회
+     *
+     * @param buyerInfo 구매자 정보
+     * @param auctionId 경매 ID
+     * @return 입장 순번과 대기 상태
+     */
+
+    public WaitingRoomEntryResponse getEntry(SignInfoRequest buyerInfo, long auctionId) {
+        WaitingRoom room = findRoom(auctionId);
+        Long sequence = room.sequences.get(buyerInfo.id());
+
+        if (sequence == null) {
+            throw new NotFoundException("대기열 입장 순번이 없습니다. AuctionId: " + auctionId, ErrorCode.A039);
+        }
+        return room.toResponse(auctionId, sequence);
+    }
+
+    /**
+     * 구매 처리 입장 가능 여부 검증
+     * 대기열이 열리지 않은 경매는 항상 통과한다.
+     *
+     * @param buyerId   구매자 ID
+     * @param auctionId 경매 ID
+     */
+
+    public void verifyAdmitted(long buyerId, long auctionId) {
+        WaitingRoom room = rooms.get(auctionId);
+        if (room == null) {
+            return;
+        }
+
+        Long sequence = room.sequences.get(buyerId);
+        if (sequence == null) {
+            throw new NotFoundException("대기열이 열린 경매입니다. 대기열 입장 후 구매할 수 있습니다. AuctionId: " + auctionId, ErrorCode.A039);
+        }
+        if (!room.isAdmitted(sequence)) {
+            throw new TooManyRequestsException("아직 입장 순서가 되지 않았습니다. 남은 대기 인원: " + room.positionOf(sequence),
+                    ErrorCode.G010, Math.max(1L, room.estimatedWaitSeconds(sequence)));
+        }
+    }
+
+    /**
+     * 경매가 시작된 대기열의 입장 허용 순번을 초당 입장 인원만큼 늘린다.
+     * 종료된 경매의 대기열은 정리한다.
+     */
+
+    @Scheduled(fixedDelayString = "${auction.waiting-room.tick-interval-ms:100}")
+    public void advance() {
+        advance(LocalDateTime.now());
+    }
+
+    /**
+     * 주어진 시각 기준으로 입장 허용 순번을 늘린다.
+     *
+     * @param now 기준 시각
+     */
+
+    public void advance(LocalDateTime now) {
+        rooms.values().removeIf(room -> !now.isBefore(room.finishedAt));
+        rooms.values().forEach(room -> room.advance(now));
+    }
+
+    /**
+     * 취소된 경매의 대기열 제거
+     *
+     * @param auctionId 경매 ID
+     */
+
+    public void close(long auctionId) {
+        rooms.remove(auctionId);
+    }
+
+    private WaitingRoom findRoom(long auctionId) {
+        WaitingRoom room = rooms.get(auctionId);
+        if (room == null) {
+            throw new NotFoundException("대기열이 열려있지 않은 경매입니다. AuctionId: " + auctionId, ErrorCode.A039);
+        }
+        return room;
+    }
+
+    private static final class WaitingRoom {
+
+        private final LocalDateTime startedAt;
+        private final LocalDateTime finishedAt;
+        private final AtomicLong issued = new AtomicLong();
+        private final ConcurrentMap<Long, Long> sequences = new ConcurrentHashMap<>();
+        private volatile long admissionsPerSecond;
+        private volatile long admittedUpTo;
+        private LocalDateTime lastAdvancedAt;
+        private long carriedNanos;
+
+        private WaitingRoom(LocalDateTime startedAt, LocalDateTime finishedAt, long admissionsPerSecond, LocalDateTime openedAt) {
+            this.startedAt = startedAt;
+            this.finishedAt = finishedAt;
+            this.admissionsPerSecond = admissionsPerSecond;
+            this.lastAdvancedAt = openedAt.isAfter(startedAt) ? openedAt : startedAt;
+        }
+
+        /**
+         * 스케줄러 스레드에서만 호출된다.
+         * 입장 허용 순번은 발급된 순번을 넘지 않으므로, 대기자가 없는 동안 입장 허용량이 쌓여 한 번에 몰리지 않는다.
+         */
+
+        private void advance(LocalDateTime now) {
+            if (now.isBefore(startedAt)) {
+                return;
+            }
+            long elapsedNanos = Math.max(0L, Duration.between(lastAdvancedAt, now).toNanos()) + carriedNanos;
+            lastAdvancedAt = now;
+
+            long nanosPerAdmission = Duration.ofSeconds(1).toNanos() / admissionsPerSecond;
+            long admissions = elapsedNanos / nanosPerAdmission;
+            carriedNanos = elapsedNanos % nanosPerAdmission;
+
+            long waiting = issued.get() - admittedUpTo;
+            if (admissions >= waiting) {
+                admittedUpTo += waiting;
+                carriedNanos = 0;
+            } else {
+                admittedUpTo += admissions;
+            }
+        }
+
+        private boolean isAdmitted(long sequence) {
+            return sequence < admittedUpTo;
+        }
+
+        private long positionOf(long sequence) {
+            return Math.max(0L, sequence - admittedUpTo);
+        }
+
+        private long estimatedWaitSeconds(long sequence) {
+            return (positionOf(sequence) + admissionsPerSecond - 1) / admissionsPerSecond;
+        }
+
+        private WaitingRoomEntryResponse toResponse(long auctionId, long sequence) {
+            boolean admitted = isAdmitted(sequence);
+            return new WaitingRoomEntryResponse(auctionId, sequence + 1, admitted ? 0L : positionOf(sequence),
+                    admitted, admitted ? 0L : estimatedWaitSeconds(sequence));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.indoles.autionserviceserver.core.auction.dto.Response.ReceiptInfoResp
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "receipt-service", url = "${receipt-service.url}")
@@ -16,11 +17,28 @@ public interface ReceiptFeignClient {
             @RequestBody CreateReceiptRequestWrapper createReceiptRequestWrapper
             );
 
+    @PostMapping("/receipts/create/bulk")
+    void createReceipts(
+            @RequestBody List<CreateReceiptRequestWrapper> createReceiptRequestWrappers
+    );
+
     @GetMapping("/receipts/find/{receiptId}")
     ReceiptInfoResponse getReceiptById(
             @PathVariable("receiptId") UUID receiptId
     );
 
+    @PutMapping("/receipts/confirm/{receiptId}")
+    void confirmReceipt(
+            @RequestBody SignInfoRequest signInfoRequest,
+            @PathVariable("receiptId") UUID receiptId
+    );
+
+    @PutMapping("/receipts/cancel/{receiptId}")
+    void cancelReceipt(
+            @RequestBody SignInfoRequest signInfoRequest,
+            @PathVariable("receiptId") UUID receiptId
+    );
+
     @PutMapping("/receipts/refund/{receiptId}")
     void refundReceipt(
             @RequestBody SignInfoRequest signInfoRequest,
@@ -0,0 +1,125 @@
+package org.indoles.autionserviceserver.core.auction.utils;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.indoles.autionserviceserver.global.exception.BusinessException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 원격 서버(MemberFeignClient, ReceiptFeignClient) 호출을 서버별 bulkhead 와 서킷 브레이커로 감싼다.
+ * 서버마다 동시 호출 수가 따로 제한되므로 한 서버가 느려져도 다른 서버 호출과 조회 API 는 영향을 받지 않는다.
+ * 서킷이 열려 있거나 동시 호출 한도를 넘으면 원격 호출 없이 즉시 ServiceUnavailableException 이 발생한다.
+ * 동시 호출 한도는 outbox 작업자 수(auction.outbox.worker-pool-size)보다 작아야 원격 서버가 느려졌을 때 한도가 차고
+ * verifyAvailable 이 새 구매를 거절할 수 있다.
+ */
+
+@Component
+public class RemoteCallGuard {
+
+    private final Map<RemoteService, CircuitBreaker> circuitBreakers = new EnumMap<>(RemoteService.class);
+    private final Map<RemoteService, Bulkhead> bulkheads = new EnumMap<>(RemoteService.class);
+
+    public RemoteCallGuard(
+            @Value("${auction.remote.member.max-concurrent-calls:12}") int memberMaxConcurrentCalls,
+            @Value("${auction.remote.receipt.max-concurrent-calls:12}") int receiptMaxConcurrentCalls,
+            @Value("${auction.remote.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${auction.remote.circuit-breaker.slow-call-duration:PT2S}") Duration slowCallDuration,
+            @Value("${auction.remote.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${auction.remote.circuit-breaker.wait-duration-in-open-state:PT10S}") Duration waitDurationInOpenState
+    ) {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.max(1, slidingWindowSize / 2))
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(Math.max(1, slidingWindowSize / 10))
+                .recordException(RemoteCallGuard::isServerFailure)
+                .build();
+
+        for (RemoteService service : RemoteService.values()) {
+            int maxConcurrentCalls = service == RemoteService.MEMBER ? memberMaxConcurrentCalls : receiptMaxConcurrentCalls;
+            BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                    .maxConcurrentCalls(maxConcurrentCalls)
+                    .maxWaitDuration(Duration.ZERO)
+                    .build();
+
+            circuitBreakers.put(service, CircuitBreaker.of(service.getServiceName(), circuitBreakerConfig));
+            bulkheads.put(service, Bulkhead.of(service.getServiceName(), bulkheadConfig));
+        }
+    }
+
+    /**
+     * 원격 호출 실행
+     *
+     * @param service 호출할 원격 서버
+     * @param call    원격 호출
+     * @return 원격 호출 결과
+     */
+
+    public <T> T call(RemoteService service, Supplier<T> call) {
+        Supplier<T> guarded = Bulkhead.decorateSupplier(bulkheads.get(service),
+                CircuitBreaker.decorateSupplier(circuitBreakers.get(service), call));
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException e) {
+            throw new ServiceUnavailableException(service.getDescription() + " 장애로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", ErrorCode.G007);
+        } catch (BulkheadFullException e) {
+            throw new ServiceUnavailableException(service.getDescription() + " 호출이 몰려 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", ErrorCode.G008);
+        }
+    }
+
+    public void run(RemoteService service, Runnable call) {
+        call(service, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * 새 구매를 받아도 되는지 미리 확인한다(load shedding)
+     * 서킷이 열려 있거나 bulkhead 가 가득 찼다면 재고를 차감하기 전에 요청을 거절한다.
+     *
+     * @param service 구매 처리에 필요한 원격 서버
+     */
+
+    public void verifyAvailable(RemoteService service) {
+        if (!circuitBreakers.get(service).tryAcquirePermission()) {
+            throw new ServiceUnavailableException(service.getDescription() + " 장애로 구매를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", ErrorCode.G007);
+        }
+        circuitBreakers.get(service).releasePermission();
+
+        if (bulkheads.get(service).getMetrics().getAvailableConcurrentCalls() == 0) {
+            throw new ServiceUnavailableException(service.getDescription() + " 호출이 몰려 구매를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", ErrorCode.G008);
+        }
+    }
+
+    public CircuitBreaker.State getState(RemoteService service) {
+        return circuitBreakers.get(service).getState();
+    }
+
+    private static boolean isServerFailure(Throwable e) {
+        if (e instanceof BusinessException) {
+            return false;
+        }
+        if (e instanceof FeignException feignException) {
+            int status = feignException.status();
+            return status < 400 || status >= 500 || status == 408 || status == 429;
+        }
+        return true;
+    }
+}
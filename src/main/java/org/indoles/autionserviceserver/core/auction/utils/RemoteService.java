@@ -0,0 +1,18 @@
+package org.indoles.autionserviceserver.core.auction.utils;
+
+import lombok.Getter;
+
+@Getter
+public enum RemoteService {
+
+    MEMBER("member-service", "회원 서버"),
+    RECEIPT("receipt-service", "거래 내역 서버");
+
+    private final String serviceName;
+    private final String description;
+
+    RemoteService(String serviceName, String description) {
+        this.serviceName = serviceName;
+        this.description = description;
+    }
+}
@@ -0,0 +1,79 @@
+package org.indoles.autionserviceserver.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 라우팅 설정(auction.datasource.replica.jdbc-url 이 있는 경우에만 적용)
+ * 주 DB 커넥션 풀은 spring.datasource.*, 복제본 커넥션 풀은 auction.datasource.replica.* (HikariCP 설정)로 만든다.
+ * 두 풀은 각각 primary, replica 라는 이름의 HikariCP 풀이므로 hikaricp.connections.* 지표가 풀별로 수집된다.
+ * 복제본은 ReplicaRoutingDataSource.readFromReplica 로 명시한 조회(경매 목록)에서만 사용한다.
+ * 로컬에서는 두 개의 H2 인메모리 DB(jdbc:h2:mem:primary, jdbc:h2:mem:replica)로 확인할 수 있다.
+ */
+
+@Configuration
+@ConditionalOnProperty(prefix = "auction.datasource.replica", name = "jdbc-url")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("auction.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${auction.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${auction.datasource.replica.maximum-lag:PT1S}") Duration maximumLag,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maximumLag,
+                meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * JPA 가 사용하는 DataSource
+     * 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 등록되므로, 첫 쿼리 시점까지 커넥션 획득을 미룬다.
+     */
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
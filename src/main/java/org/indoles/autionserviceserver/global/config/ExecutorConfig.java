@@ -0,0 +1,87 @@
+package org.indoles.autionserviceserver.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    private final boolean virtualThreads;
+
+    public ExecutorConfig(@Value("${auction.virtual-threads.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * 비동기 구매 요청을 처리하는 스레드 풀
+     * 대기열이 가득 차면 TaskRejectedException 이 발생한다.
+     */
+
+    @Bean
+    public ThreadPoolTaskExecutor purchaseExecutor(
+            @Value("${auction.purchase-executor.pool-size:32}") int poolSize,
+            @Value("${auction.purchase-executor.queue-capacity:10000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        applyThreadFactory(executor, "purchase-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Outbox 이벤트를 원격 서버로 전달하는 작업자 스레드 풀
+     * 대기열이 가득 차면 남은 이벤트는 다음 주기에 다시 조회된다.
+     */
+
+    @Bean
+    public ThreadPoolTaskExecutor outboxWorkerExecutor(
+            @Value("${auction.outbox.worker-pool-size:16}") int poolSize,
+            @Value("${auction.outbox.worker-queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        applyThreadFactory(executor, "outbox-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 경매 시세(SSE) 이벤트를 구독자에게 전송하는 스레드 풀
+     * 구독자마다 대기중인 전송 작업은 최대 하나이므로, 대기열이 가득 차면 다음 시세 변경 시 다시 전송한다.
+     */
+
+    @Bean
+    public ThreadPoolTaskExecutor tickerExecutor(
+            @Value("${auction.ticker.pool-size:16}") int poolSize,
+            @Value("${auction.ticker.queue-capacity:100000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        applyThreadFactory(executor, "ticker-");
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드에서는 풀의 작업자를 가상 스레드로 만든다.
+     * 풀 크기와 대기열은 그대로 동시 실행 수 제한과 backpressure 역할을 한다.
+     */
+
+    private void applyThreadFactory(ThreadPoolTaskExecutor executor, String prefix) {
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(prefix, 1).factory());
+            return;
+        }
+        executor.setThreadNamePrefix(prefix);
+    }
+}
@@ -0,0 +1,102 @@
+package org.indoles.autionserviceserver.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본(replica)의 복제 지연을 주기적으로 확인한다.
+ * lagQuery 는 복제본에서 실행되어 첫 번째 컬럼으로 지연 시간(ms)을 반환해야 한다.
+ * (PostgreSQL 예: SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)::bigint)
+ * lagQuery 가 없으면 연결이 유효한지만 확인한다.
+ * 지연이 maximumLag 를 넘거나 확인에 실패하면 다음 확인에서 회복될 때까지 읽기 트랜잭션을 주 DB 로 보낸다.
+ * 첫 확인 전에는 복제본을 사용하지 않는다.
+ */
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+    private static final long UNKNOWN_LAG = -1L;
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maximumLagMillis;
+    private volatile boolean available;
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maximumLag,
+                             MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maximumLagMillis = maximumLag.toMillis();
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 복제본 사용 가능 여부
+     *
+     * @return 마지막 확인에서 복제 지연이 허용 범위 안이었다면 true
+     */
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            long lag = measureLag(connection);
+            boolean withinLimit = lag <= maximumLagMillis;
+
+            if (available && !withinLimit) {
+                log.warn("복제본 지연이 허용 범위를 넘어 읽기 트랜잭션을 주 DB 로 보냅니다. 지연: {}ms", lag);
+            }
+            lagMillis = lag;
+            available = withinLimit;
+        } catch (SQLException | RuntimeException e) {
+            if (available) {
+                log.warn("복제본 상태 확인 실패. 읽기 트랜잭션을 주 DB 로 보냅니다.", e);
+            }
+            lagMillis = UNKNOWN_LAG;
+            available = false;
+        }
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("복제본 연결이 유효하지 않습니다.");
+            }
+            return 0L;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("복제 지연 조회 결과가 없습니다.");
+            }
+            long lag = resultSet.getLong(1);
+            if (resultSet.wasNull()) {
+                throw new SQLException("복제 지연을 알 수 없습니다.");
+            }
+            return lag;
+        }
+    }
+}
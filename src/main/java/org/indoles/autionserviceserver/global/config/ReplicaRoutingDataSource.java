@@ -0,0 +1,98 @@
+package org.indoles.autionserviceserver.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * readFromReplica 로 명시한 조회만 읽기 복제본으로, 나머지를 모두 주 DB 로 보내는 DataSource
+ * readOnly 트랜잭션만으로는 복제본을 사용하지 않는다. SimpleJpaRepository.findById 처럼 readOnly 로 실행되는 조회 중에는
+ * 방금 커밋한 값을 읽어야 하는 경우(캐시 적재, Outbox 재조회, 구매 검증)가 있기 때문이다.
+ * 명시한 조회라도 읽기-쓰기 트랜잭션 안에서는 주 DB 를 사용하고, 복제 지연이 허용 범위를 넘으면 주 DB 로 보낸다.
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 등록되므로, 반드시 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 쿼리를 실행할 때 커넥션을 고르도록 해야 한다. 트랜잭션의 커넥션은 첫 쿼리에서 정해지므로,
+ * 복제본 조회는 다른 조회와 트랜잭션을 공유하지 않는 곳에서 사용해야 한다.
+ */
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                    ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryRoutes = meterRegistry.counter("datasource.routing", "pool", Pool.PRIMARY.tag);
+        this.replicaRoutes = meterRegistry.counter("datasource.routing", "pool", Pool.REPLICA.tag);
+        this.fallbacks = meterRegistry.counter("datasource.routing.fallback");
+
+        setTargetDataSources(Map.of(Pool.PRIMARY, primaryDataSource, Pool.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 복제본에서 읽어도 되는 조회 실행(목록 조회 등, 복제 지연만큼 오래된 값을 허용하는 경우)
+     * 복제본 라우팅이 설정되지 않았다면 그대로 주 DB 에서 실행된다.
+     *
+     * @param query 조회
+     * @return 조회 결과
+     */
+
+    public static <T> T readFromReplica(Supplier<T> query) {
+        Boolean previous = REPLICA_READ.get();
+        REPLICA_READ.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                REPLICA_READ.remove();
+            } else {
+                REPLICA_READ.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isReplicaRead()) {
+            primaryRoutes.increment();
+            return Pool.PRIMARY;
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            fallbacks.increment();
+            primaryRoutes.increment();
+            return Pool.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Pool.REPLICA;
+    }
+
+    private boolean isReplicaRead() {
+        if (REPLICA_READ.get() == null) {
+            return false;
+        }
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private enum Pool {
+        PRIMARY("primary"),
+        REPLICA("replica");
+
+        private final String tag;
+
+        Pool(String tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.indoles.autionserviceserver.global.config;
+
+import feign.Client;
+import feign.http2client.Http2Client;
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드(auction.virtual-threads.enabled=true 인 경우에만 적용)
+ * 요청 처리(Tomcat)와 Feign 호출이 가상 스레드에서 실행되어, JDBC/원격 호출로 블로킹되는 동안 플랫폼 스레드를 점유하지 않는다.
+ * 구매/Outbox 작업자 스레드 풀의 가상 스레드 전환은 ExecutorConfig 에서 같은 설정으로 결정한다.
+ */
+
+@Configuration
+@ConditionalOnProperty(name = "auction.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * 요청마다 가상 스레드를 만드는 Tomcat 실행기
+     * 스레드 수 대신 동시 연결 수(maxConnections)로 동시 요청을 제한한다.
+     */
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+            @Value("${auction.virtual-threads.max-connections:20000}") int maxConnections
+    ) {
+        return protocolHandler -> {
+            protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            if (protocolHandler instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxConnections(maxConnections);
+            }
+        };
+    }
+
+    /**
+     * MemberFeignClient, ReceiptFeignClient 가 사용하는 HTTP 클라이언트
+     * 기본 클라이언트(HttpURLConnection)는 연결 재사용 구간에서 synchronized 로 가상 스레드를 고정(pinning)시키므로,
+     * java.net.http.HttpClient 기반 클라이언트로 교체한다.
+     */
+
+    @Bean
+    public Client feignClient(
+            @Value("${auction.virtual-threads.feign-connect-timeout:PT3S}") Duration connectTimeout
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(connectTimeout)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        return new Http2Client(httpClient);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${auction.virtual-threads.pinning-threshold:PT0.02S}") Duration threshold
+    ) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+}
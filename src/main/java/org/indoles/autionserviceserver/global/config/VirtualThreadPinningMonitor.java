@@ -0,0 +1,70 @@
+package org.indoles.autionserviceserver.global.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 구간을 JFR(jdk.VirtualThreadPinned) 이벤트로 감시한다.
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹된 시간이 threshold 를 넘으면 위치와 함께 경고 로그를 남긴다.
+ * 이 서비스의 코드는 synchronized 를 사용하지 않는다. 여러 스레드가 공유하는 상태(BuyerPurchaseIndex, AuctionTickerService 의 채널 등)는
+ * ReentrantLock 이나 원자 연산으로 보호하며, JDBC 드라이버(PostgreSQL 42.6+)도 ReentrantLock 을 사용한다.
+ * 로컬 프로필의 H2 드라이버는 synchronized 를 사용하므로 고정이 감지될 수 있다.
+ */
+
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAME_COUNT = 5;
+
+    private final Duration threshold;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    public void close() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        log.warn("가상 스레드 고정(pinning) 감지. 고정 시간: {}ms, 위치: {}", event.getDuration().toMillis(), topFrames(event.getStackTrace()));
+    }
+
+    private String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "알 수 없음";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAME_COUNT)
+                .map(this::format)
+                .collect(Collectors.joining(" <- "));
+    }
+
+    private String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
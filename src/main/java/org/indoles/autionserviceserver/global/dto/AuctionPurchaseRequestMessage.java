@@ -12,6 +12,11 @@ public record AuctionPurchaseRequestMessage(
         Long auctionId,
         Long price,
         Long quantity,
-        LocalDateTime requestTime
+        LocalDateTime requestTime,
+        String idempotencyKey
 ) {
+
+    public boolean hasIdempotencyKey() {
+        return idempotencyKey != null;
+    }
 }
@@ -0,0 +1,26 @@
+package org.indoles.autionserviceserver.global.dto;
+
+import lombok.Builder;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+
+import java.util.UUID;
+
+/**
+ * 구매 확정 후 회원 서버(포인트 전송)와 거래 내역 서버(거래 내역 생성)에 전달할 내용
+ */
+
+@Builder
+public record PurchaseOutboxMessage(
+        SignInfoRequest buyerInfo,
+        UUID receiptId,
+        long auctionId,
+        long sellerId,
+        String productName,
+        long price,
+        long quantity
+) {
+
+    public long totalAmount() {
+        return price * quantity;
+    }
+}
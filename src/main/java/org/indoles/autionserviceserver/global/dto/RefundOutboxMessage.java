@@ -0,0 +1,21 @@
+package org.indoles.autionserviceserver.global.dto;
+
+import lombok.Builder;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+
+import java.util.UUID;
+
+/**
+ * 구매 취소 후 회원 서버(포인트 환불)와 거래 내역 서버(거래 내역 환불 처리)에 전달할 내용
+ */
+
+@Builder
+public record RefundOutboxMessage(
+        SignInfoRequest buyerInfo,
+        UUID receiptId,
+        long auctionId,
+        long sellerId,
+        long quantity,
+        long amount
+) {
+}
@@ -37,6 +37,13 @@ public enum ErrorCode {
     A032("경매 입찰 시, 경매를 찾을 수 없는 경우 예외가 발생합니다."),
     A033("경매 입찰 시 구매자를 찾을 수 없는 경우 예외가 발생합니다."),
     A034("경매 입찰 시, 판매자를 찾을 수 없는 경우 예외가 발생합니다."),
+    A035("구매 요청 상태 조회 시, 구매 요청을 찾을 수 없는 경우 예외가 발생합니다."),
+    A036("경매 입찰 요청 시, Idempotency-Key 가 비어있거나 허용 길이를 넘는 경우 예외가 발생합니다."),
+    A037("대기열 설정 시, 요청한 판매자가 경매를 등록한 판매자가 아닌 경우 예외가 발생합니다."),
+    A038("대기열 설정 시, 초당 입장 인원이 1 미만이거나 이미 종료된 경매인 경우 예외가 발생합니다."),
+    A039("대기열 입장 및 조회 시, 대기열이 열려있지 않거나 입장 순번이 없는 경우 예외가 발생합니다."),
+    A040("재고 선점 확정 및 취소 시, 선점을 찾을 수 없거나 이미 만료된 경우 예외가 발생합니다."),
+    A041("경매 입찰 시, 구매자의 누적 구매 수량이 인당 구매 제한을 넘는 경우 예외가 발생합니다."),
 
     // Member 관련 예외 코드
     M000("로그인(회원가입) 시, 이미 존재하는 회원 아이디로 로그인을 시도한 경우 예외가 발생합니다."),
@@ -75,6 +82,15 @@ public enum ErrorCode {
     G002("offset 값이 0보다 작을 수 없습니다."),
     G003("Lock 획득 시, TimeOut 시간을 초과하면 예외가 발생합니다."),
     G004("Lock 획득 시, 시스템 문제로 락을 획득하지 못한 경우 예외가 발생합니다."),
+    G005("구매 요청 처리 시, 경매의 구매 처리 대기열이 가득 찬 경우 예외가 발생합니다."),
+    G006("비동기 구매 요청 시, 처리 대기열이 가득 찬 경우 예외가 발생합니다."),
+    G007("원격 서버 호출 시, 서킷 브레이커가 열려 있는 경우 예외가 발생합니다."),
+    G008("원격 서버 호출 시, 동시 호출 한도(bulkhead)를 초과한 경우 예외가 발생합니다."),
+    G009("경매 입찰 시, 남은 재고만큼의 구매가 이미 처리 중인 경우 예외가 발생합니다."),
+    G010("대기열이 열린 경매 입찰 시, 아직 입장 순서가 되지 않은 경우 예외가 발생합니다."),
+    G011("경매 시세 구독 시, 구독자 수가 한도를 초과한 경우 예외가 발생합니다."),
+    G012("목록 조회 시, 커서 값이 올바르지 않은 경우 예외가 발생합니다."),
+    G013("목록 조회 시, 상태 필터나 정렬 조건이 올바르지 않은 경우 예외가 발생합니다."),
 
     // 서버 예외
     SERVER_ERROR("서버에서 예기치 못한 예외가 발생한 경우");
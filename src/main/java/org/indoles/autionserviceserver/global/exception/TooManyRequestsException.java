@@ -0,0 +1,17 @@
+package org.indoles.autionserviceserver.global.exception;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+public class TooManyRequestsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(final String message, final ErrorCode errorCode, final long retryAfterSeconds) {
+        super(message, TOO_MANY_REQUESTS.value(), errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -7,9 +7,13 @@ import org.indoles.autionserviceserver.core.auction.domain.Auction;
 import org.indoles.autionserviceserver.core.auction.dto.Request.AuctionInfoRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Response.BuyerAuctionInfoResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Response.BuyerAuctionSimpleInfoResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PriceScheduleResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionInfoResponse;
 import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 import org.indoles.autionserviceserver.core.auction.entity.AuctionEntity;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerAuctionListingRow;
+
+import java.util.Arrays;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -32,7 +36,11 @@ public class Mapper {
     }
 
     public static BuyerAuctionInfoResponse convertToBuyerAuctionInfo(Auction auction) {
-        Long currentStock = auction.isShowStock() ? auction.getCurrentStock() : null;
+        return convertToBuyerAuctionInfo(auction, auction.getCurrentPrice(), auction.getCurrentStock());
+    }
+
+    public static BuyerAuctionInfoResponse convertToBuyerAuctionInfo(Auction auction, long price, long stock) {
+        Long currentStock = auction.isShowStock() ? stock : null;
         Long originStock = auction.isShowStock() ? auction.getOriginStock() : null;
 
         return BuyerAuctionInfoResponse.builder()
@@ -40,7 +48,7 @@ public class Mapper {
                 .sellerId(auction.getSellerId())
                 .productName(auction.getProductName())
                 .originPrice(auction.getOriginPrice())
-                .currentPrice(auction.getCurrentPrice())
+                .currentPrice(price)
                 .originStock(originStock)
                 .currentStock(currentStock)
                 .maximumPurchaseLimitCount(auction.getMaximumPurchaseLimitCount())
@@ -51,6 +59,16 @@ public class Mapper {
                 .build();
     }
 
+    public static PriceScheduleResponse convertToPriceScheduleInfo(Auction auction) {
+        return PriceScheduleResponse.builder()
+                .auctionId(auction.getId())
+                .startedAt(auction.getStartedAt())
+                .finishedAt(auction.getFinishedAt())
+                .variationDuration(auction.getVariationDuration())
+                .prices(Arrays.stream(auction.getPriceSchedule().toArray()).boxed().toList())
+                .build();
+    }
+
     public static SellerAuctionInfoResponse convertToSellerAuctionInfo(Auction auction) {
         return SellerAuctionInfoResponse.builder()
                 .auctionId(auction.getId())
@@ -115,6 +133,16 @@ public class Mapper {
         );
     }
 
+    public static BuyerAuctionSimpleInfoResponse convertToBuyerAuctionSimpleInfo(BuyerAuctionListingRow row, long price) {
+        return new BuyerAuctionSimpleInfoResponse(
+                row.id(),
+                row.productName(),
+                price,
+                row.startedAt(),
+                row.finishedAt()
+        );
+    }
+
     public static SellerAuctionSimpleInfoResponse convertToSellerAuctionSimpleInfo(Auction auction) {
         return new SellerAuctionSimpleInfoResponse(
                 auction.getId(),
@@ -0,0 +1,45 @@
+package org.indoles.autionserviceserver.global.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 조회(keyset 페이지네이션)에 사용하는 커서 변환
+ * 클라이언트는 커서의 내용을 해석하지 않고 다음 페이지 요청에 그대로 전달한다.
+ */
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    private static final String PREFIX = "id:";
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode 로 만든 커서
+     * @return 커서가 가리키는 ID (커서가 없으면 null)
+     */
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("올바르지 않은 커서입니다. cursor: " + cursor, ErrorCode.G012);
+        }
+    }
+}
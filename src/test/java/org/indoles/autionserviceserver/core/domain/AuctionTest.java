@@ -8,7 +8,6 @@ import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
 import org.indoles.autionserviceserver.global.exception.BadRequestException;
 import org.indoles.autionserviceserver.global.exception.ErrorCode;
-import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -399,121 +398,17 @@ class AuctionTest {
     }
 
     @Nested
-    @DisplayName("환불 메소드는")
-    class refundStock_Method {
-
-        @Test
-        @DisplayName("정상적인 요청이 오면 성공한다.")
-        void refundStock_Success() {
-            // given
-            long originStock = 999999L;
-            long currentStock = 999998L;
-            LocalDateTime now = LocalDateTime.now();
-            Auction auction = Auction.builder()
-                    .sellerId(1L)
-                    .productName("상품이름")
-                    .originPrice(10000)
-                    .currentPrice(10000)
-                    .originStock(originStock)
-                    .currentStock(currentStock)
-                    .pricePolicy(new ConstantPricePolicy(1000))
-                    .maximumPurchaseLimitCount(10)
-                    .variationDuration(Duration.ofMinutes(10L))
-                    .startedAt(now.minusMinutes(30))
-                    .finishedAt(now.plusMinutes(30))
-                    .isShowStock(true)
-                    .build();
-
-            // when
-            auction.refundStock(1L);
-
-            // then
-            assertThat(auction.getCurrentStock()).isEqualTo(999999L);
-        }
-    }
-
-    @Nested
-    @DisplayName("환불할 재고량이 0 이하라면")
-    class refundStock_ISLessThanZero {
-
-        @Test
-        @DisplayName("예외가 발생한다.")
-        void throwsException_IfStockIsLessThanZero() {
-            // given
-            long originStock = 999999L;
-            long currentStock = 0L;
-            LocalDateTime now = LocalDateTime.now();
-            Auction auction = Auction.builder()
-                    .sellerId(1L)
-                    .productName("상품이름")
-                    .originPrice(10000)
-                    .currentPrice(10000)
-                    .originStock(originStock)
-                    .currentStock(currentStock)
-                    .pricePolicy(new ConstantPricePolicy(1000))
-                    .maximumPurchaseLimitCount(10)
-                    .variationDuration(Duration.ofMinutes(10L))
-                    .startedAt(now.minusMinutes(30L))
-                    .finishedAt(now.plusMinutes(30L))
-                    .isShowStock(true)
-                    .build();
-
-            // expect
-            assertThatThrownBy(() -> auction.refundStock(-1L))
-                    .isInstanceOf(BadRequestException.class)
-                    .hasMessage("환불할 재고는 1보다 작을 수 없습니다. inputStock=-1")
-                    .satisfies(exception -> assertThat(exception).hasFieldOrPropertyWithValue("errorCode",
-                            ErrorCode.A015));
-        }
-    }
-
-    @Nested
-    @DisplayName("환불 후 재고가 원래 재고보다 많다면")
-    class refundStock_IsMoreThanOriginStock {
-
-        @Test
-        @DisplayName("예외가 발생한다.")
-        void throwsException_IfStockIsMoreThanOriginStock() {
-            // given
-            long originStock = 999999L;
-            long currentStock = 999999L;
-            LocalDateTime now = LocalDateTime.now();
-            Auction auction = Auction.builder()
-                    .sellerId(1L)
-                    .productName("상품이름")
-                    .originPrice(10000)
-                    .currentPrice(10000)
-                    .originStock(originStock)
-                    .currentStock(currentStock)
-                    .pricePolicy(new ConstantPricePolicy(1000))
-                    .maximumPurchaseLimitCount(10)
-                    .variationDuration(Duration.ofMinutes(10L))
-                    .startedAt(now.minusMinutes(30L))
-                    .finishedAt(now.plusMinutes(30L))
-                    .isShowStock(true)
-                    .build();
-
-            // expect
-            assertThatThrownBy(() -> auction.refundStock(1L))
-                    .isInstanceOf(BadRequestException.class)
-                    .hasMessage("환불 후 재고는 원래 재고보다 많을 수 없습니다. inputStock=1")
-                    .satisfies(exception -> assertThat(exception).hasFieldOrPropertyWithValue("errorCode",
-                            ErrorCode.A016));
-        }
-    }
-
-    @Nested
-    @DisplayName("입찰 메소드는")
-    class submit_Method {
+    @DisplayName("입찰 검증 메소드는")
+    class verifyPurchase_Method {
 
         @Test
         @DisplayName("경매 상태가 진행중이 아니라면 예외가 발생한다.")
-        void submit_NotWaitingAuction_ThrowException() {
+        void verifyPurchase_NotWaitingAuction_ThrowException() {
             // given
             Auction auction = AuctionFixture.createWaitingAuction();
 
             // expect
-            assertThatThrownBy(() -> auction.submit(2000, 10, LocalDateTime.now()))
+            assertThatThrownBy(() -> auction.verifyPurchase(2000, 10, LocalDateTime.now()))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessage("진행 중인 경매에만 입찰할 수 있습니다. 현재상태: " + AuctionStatus.WAITING)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A013);
@@ -521,7 +416,7 @@ class AuctionTest {
 
         @Test
         @DisplayName("입찰 요청 시간 기준 현재 가격과 사용자가 요청한 가격이 다르다면 예외가 발생한다.")
-        void submit_InvalidTimeAndPrice_ThrowException() {
+        void verifyPurchase_InvalidTimeAndPrice_ThrowException() {
             // given
             LocalDateTime now = LocalDateTime.now();
             Auction auction = Auction.builder()
@@ -541,7 +436,7 @@ class AuctionTest {
             LocalDateTime requestTime = now.minusMinutes(30).plusMinutes(33);
 
             // expect
-            assertThatThrownBy(() -> auction.submit(7001L, 10, requestTime))
+            assertThatThrownBy(() -> auction.verifyPurchase(7001L, 10, requestTime))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessage(String.format("입력한 가격으로 상품을 구매할 수 없습니다. 현재가격: %d 입력가격: %d", 7000L, 7001L))
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A022);
@@ -550,7 +445,7 @@ class AuctionTest {
         @ParameterizedTest
         @ValueSource(longs = {0L, 31L, 101L})
         @DisplayName("최대 구매 가능 수량보다 큰 구매 요청이 오면 예외가 발생한다.")
-        void submit_InvalidQuantity_ThrowException(long requestQuantity) {
+        void verifyPurchase_InvalidQuantity_ThrowException(long requestQuantity) {
             // given
             LocalDateTime now = LocalDateTime.now();
             Auction auction = Auction.builder()
@@ -569,68 +464,11 @@ class AuctionTest {
                     .build();
 
             // expect
-            assertThatThrownBy(() -> auction.submit(7000L, requestQuantity, now))
+            assertThatThrownBy(() -> auction.verifyPurchase(7000L, requestQuantity, now))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessage(String.format("구매 가능 갯수를 초과하거나 0이하의 갯수만큼 구매할 수 없습니다. 요청: %d, 인당구매제한: %d",
                             requestQuantity, auction.getMaximumPurchaseLimitCount()))
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A030);
         }
-
-        @ParameterizedTest
-        @ValueSource(longs = {11L, 12L, 30L})
-        @DisplayName("현재 재고보다 요청한 수량이 많다면 예외가 발생한다.")
-        void submit_InvalidStock_ThrowException(long requestQuantity) {
-            // given
-            LocalDateTime now = LocalDateTime.now();
-            Auction auction = Auction.builder()
-                    .sellerId(1L)
-                    .productName("productName")
-                    .originPrice(10000L)
-                    .currentPrice(10000L)
-                    .originStock(100L)
-                    .currentStock(10L)
-                    .maximumPurchaseLimitCount(30L)
-                    .pricePolicy(new ConstantPricePolicy(1000L))
-                    .variationDuration(Duration.ofMinutes(10L))
-                    .startedAt(now.minusMinutes(30))
-                    .finishedAt(now.plusMinutes(30))
-                    .isShowStock(true)
-                    .build();
-
-            // expect
-            assertThatThrownBy(() -> auction.submit(7000L, requestQuantity, now))
-                    .isInstanceOf(SuccessfulOperationException.class)
-                    .hasMessage(String.format("재고가 부족합니다. 현재 재고: %d, 요청 구매 수량: %d", auction.getCurrentStock(),
-                            requestQuantity))
-                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A012);
-        }
-
-        @Test
-        @DisplayName("정상적인 구매 요청이 들어오면 상품의 현재 재고가 차감된다.")
-        void submit_Success() {
-            // given
-            LocalDateTime now = LocalDateTime.now();
-            Auction auction = Auction.builder()
-                    .sellerId(1L)
-                    .productName("productName")
-                    .originPrice(10000L)
-                    .currentPrice(10000L)
-                    .originStock(100L)
-                    .currentStock(100L)
-                    .maximumPurchaseLimitCount(30L)
-                    .pricePolicy(new ConstantPricePolicy(1000L))
-                    .variationDuration(Duration.ofMinutes(10L))
-                    .startedAt(now.minusMinutes(30))
-                    .finishedAt(now.plusMinutes(30))
-                    .isShowStock(true)
-                    .build();
-            LocalDateTime requestTime = now.minusMinutes(30).plusMinutes(33);
-
-            // when
-            auction.submit(7000L, 10, requestTime);
-
-            // then
-            assertThat(auction.getCurrentStock()).isEqualTo(90L);
-        }
     }
 }
@@ -0,0 +1,89 @@
+package org.indoles.autionserviceserver.core.domain;
+
+import org.indoles.autionserviceserver.core.auction.domain.ConstantPricePolicy;
+import org.indoles.autionserviceserver.core.auction.domain.PercentagePricePolicy;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceScheduleTest {
+
+    private final LocalDateTime startedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.1, 1.0, 3.3, 7.5, 10.0, 12.345, 33.3, 50.0})
+    @DisplayName("비율 할인 가격표는 모든 구간에서 calculatePriceAtVariation 과 같은 가격을 가진다")
+    void compile_PercentagePricePolicy_SameAsLoop(double discountRate) {
+        // given
+        PercentagePricePolicy pricePolicy = new PercentagePricePolicy(discountRate);
+        long[] originPrices = {1L, 999L, 10000L, 123_456_789L, Long.MAX_VALUE / 2};
+
+        for (long originPrice : originPrices) {
+            // when
+            PriceSchedule priceSchedule = PriceSchedule.compile(pricePolicy, originPrice,
+                    startedAt, startedAt.plusMinutes(60), Duration.ofSeconds(1));
+
+            // then
+            assertThat(priceSchedule.size()).isEqualTo(3600);
+            for (int step = 0; step < priceSchedule.size(); step++) {
+                assertThat(priceSchedule.priceAt(step))
+                        .isEqualTo(pricePolicy.calculatePriceAtVariation(originPrice, step));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("고정 할인 가격표는 모든 구간에서 calculatePriceAtVariation 과 같은 가격을 가진다")
+    void compile_ConstantPricePolicy_SameAsCalculation() {
+        // given
+        ConstantPricePolicy pricePolicy = new ConstantPricePolicy(100L);
+
+        // when
+        PriceSchedule priceSchedule = PriceSchedule.compile(pricePolicy, 10000L,
+                startedAt, startedAt.plusMinutes(60), Duration.ofMinutes(10));
+
+        // then
+        assertThat(priceSchedule.size()).isEqualTo(6);
+        for (int step = 0; step < priceSchedule.size(); step++) {
+            assertThat(priceSchedule.priceAt(step)).isEqualTo(pricePolicy.calculatePriceAtVariation(10000L, step));
+        }
+        assertThat(priceSchedule.lastPrice()).isEqualTo(9500L);
+    }
+
+    @Test
+    @DisplayName("경매 기간을 벗어난 구간은 가장 가까운 구간의 가격을 반환한다")
+    void priceAt_OutOfRange_NearestStep() {
+        // given
+        PriceSchedule priceSchedule = PriceSchedule.compile(new ConstantPricePolicy(100L), 10000L,
+                startedAt, startedAt.plusMinutes(60), Duration.ofMinutes(10));
+
+        // expect
+        assertThat(priceSchedule.priceAt(-1)).isEqualTo(10000L);
+        assertThat(priceSchedule.priceAt(100)).isEqualTo(9500L);
+    }
+
+    @Test
+    @DisplayName("시각으로 조회하면 그 시각이 속한 변동 구간의 가격을 반환한다")
+    void priceAtEpochNanos_Success() {
+        // given
+        PriceSchedule priceSchedule = PriceSchedule.compile(new ConstantPricePolicy(100L), 10000L,
+                startedAt, startedAt.plusMinutes(60), Duration.ofMinutes(10));
+
+        // expect
+        assertThat(priceSchedule.priceAtEpochNanos(PriceSchedule.toEpochNanos(startedAt.minusSeconds(1))))
+                .isEqualTo(10000L);
+        assertThat(priceSchedule.priceAtEpochNanos(PriceSchedule.toEpochNanos(startedAt.plusMinutes(10).minusNanos(1))))
+                .isEqualTo(10000L);
+        assertThat(priceSchedule.priceAtEpochNanos(PriceSchedule.toEpochNanos(startedAt.plusMinutes(10))))
+                .isEqualTo(9900L);
+        assertThat(priceSchedule.priceAtEpochNanos(PriceSchedule.toEpochNanos(startedAt.plusMinutes(59))))
+                .isEqualTo(9500L);
+    }
+}
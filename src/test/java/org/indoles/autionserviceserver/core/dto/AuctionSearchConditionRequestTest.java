@@ -1,5 +1,7 @@
 package org.indoles.autionserviceserver.core.dto;
 
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionSort;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.core.auction.dto.Request.AuctionSearchConditionRequest;
 import org.indoles.autionserviceserver.global.exception.BadRequestException;
 import org.indoles.autionserviceserver.global.exception.ErrorCode;
@@ -8,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -50,4 +54,32 @@ class AuctionSearchConditionRequestTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G002);
     }
+
+    @Test
+    @DisplayName("정렬 조건이 없으면 최신 등록순으로 조회한다")
+    void auctionSearchCondition_DefaultSort() {
+        // when
+        AuctionSearchConditionRequest condition = AuctionSearchConditionRequest.of(0, 10, AuctionStatus.RUNNING, null, LocalDateTime.now());
+
+        // then
+        assertThat(condition.sort()).isEqualTo(AuctionSort.LATEST);
+    }
+
+    @Test
+    @DisplayName("커서는 최신 등록순이 아닌 정렬 조건과 함께 사용하면 예외가 발생한다")
+    void auctionSearchCondition_CursorWithSort_ThrowsException() {
+
+        assertThatThrownBy(() -> new AuctionSearchConditionRequest(0, 10, 5L, null, AuctionSort.ENDING_SOON, LocalDateTime.now()))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G013);
+    }
+
+    @Test
+    @DisplayName("상태 필터가 있는데 조회 기준 시간이 없으면 예외가 발생한다")
+    void auctionSearchCondition_StatusWithoutNow_ThrowsException() {
+
+        assertThatThrownBy(() -> AuctionSearchConditionRequest.of(0, 10, AuctionStatus.RUNNING, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G013);
+    }
 }
@@ -0,0 +1,48 @@
+package org.indoles.autionserviceserver.core.dto;
+
+import org.indoles.autionserviceserver.core.auction.dto.Response.CursorPageResponse;
+import org.indoles.autionserviceserver.global.util.PageCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageResponseTest {
+
+    @Test
+    @DisplayName("요청한 크기만큼 조회되었다면 마지막 항목의 ID 로 다음 페이지 커서를 만든다")
+    void of_FullPage_NextCursor() {
+        // when
+        CursorPageResponse<Long> response = CursorPageResponse.of(List.of(5L, 4L, 3L), 3, Long::longValue);
+
+        // then
+        assertThat(PageCursor.decode(response.nextCursor())).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("요청한 크기보다 적게 조회되었다면 마지막 페이지다")
+    void of_LastPage_NoNextCursor() {
+        // when
+        CursorPageResponse<Long> response = CursorPageResponse.of(List.of(5L, 4L), 3, Long::longValue);
+
+        // then
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회한 행 중 일부가 응답에서 빠져도 조회한 행으로 다음 페이지 커서를 만든다")
+    void of_FilteredItems_NextCursorFromRows() {
+        // given
+        List<Long> rows = List.of(5L, 4L, 3L);
+        List<String> items = List.of("5", "4");
+
+        // when
+        CursorPageResponse<String> response = CursorPageResponse.of(items, rows, 3, Long::longValue);
+
+        // then
+        assertThat(response.items()).containsExactly("5", "4");
+        assertThat(PageCursor.decode(response.nextCursor())).isEqualTo(3L);
+    }
+}
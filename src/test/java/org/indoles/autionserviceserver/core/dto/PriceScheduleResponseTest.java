@@ -0,0 +1,62 @@
+package org.indoles.autionserviceserver.core.dto;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.domain.PercentagePricePolicy;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PriceScheduleResponse;
+import org.indoles.autionserviceserver.global.util.Mapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceScheduleResponseTest {
+
+    private final LocalDateTime startedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("경매의 변동 구간별 가격을 모두 담는다")
+    void convertToPriceScheduleInfo_Success() {
+        // given
+        Auction auction = createAuction(10000L);
+
+        // when
+        PriceScheduleResponse response = Mapper.convertToPriceScheduleInfo(auction);
+
+        // then
+        assertThat(response.prices()).containsExactly(10000L, 9000L, 8100L, 7290L, 6561L, 5904L);
+    }
+
+    @Test
+    @DisplayName("가격표가 같으면 ETag 도 같고, 다르면 ETag 도 다르다")
+    void eTag_DependsOnContent() {
+        // given
+        PriceScheduleResponse response = Mapper.convertToPriceScheduleInfo(createAuction(10000L));
+        PriceScheduleResponse same = Mapper.convertToPriceScheduleInfo(createAuction(10000L));
+        PriceScheduleResponse other = Mapper.convertToPriceScheduleInfo(createAuction(20000L));
+
+        // expect
+        assertThat(response.eTag()).isEqualTo(same.eTag());
+        assertThat(response.eTag()).isNotEqualTo(other.eTag());
+    }
+
+    private Auction createAuction(long originPrice) {
+        return Auction.builder()
+                .id(1L)
+                .sellerId(1L)
+                .productName("productName")
+                .originPrice(originPrice)
+                .currentPrice(originPrice)
+                .originStock(100L)
+                .currentStock(100L)
+                .maximumPurchaseLimitCount(10L)
+                .pricePolicy(new PercentagePricePolicy(10))
+                .variationDuration(Duration.ofMinutes(10L))
+                .startedAt(startedAt)
+                .finishedAt(startedAt.plusMinutes(60))
+                .isShowStock(true)
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package org.indoles.autionserviceserver.core.fixture;
 
 import org.indoles.autionserviceserver.core.auction.domain.Auction;
 import org.indoles.autionserviceserver.core.auction.domain.ConstantPricePolicy;
+import org.indoles.autionserviceserver.core.auction.domain.PercentagePricePolicy;
+import org.indoles.autionserviceserver.core.auction.domain.PricePolicy;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -83,4 +85,62 @@ public class AuctionFixture {
                 .isShowStock(true)
                 .build();
     }
+
+    /**
+     * 진행중인 경매(ID 지정, 재고 100, 인당 구매 제한 10)
+     */
+
+    public static Auction createRunningAuction(long id) {
+        return createRunningAuction(id, 100L);
+    }
+
+    public static Auction createRunningAuction(long id, long currentStock) {
+        return createRunningAuction(id, currentStock, 100L);
+    }
+
+    public static Auction createRunningAuction(long id, long currentStock, long originStock) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return createAuction(id, currentStock, originStock, 10L, new ConstantPricePolicy(1000L),
+                now.minusMinutes(30), now.plusMinutes(30));
+    }
+
+    /**
+     * 진행중인 경매(ID, 인당 구매 제한 지정)
+     */
+
+    public static Auction createPurchaseLimitedAuction(long id, long maximumPurchaseLimitCount) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return createAuction(id, 100L, 100L, maximumPurchaseLimitCount, new ConstantPricePolicy(1000L),
+                now.minusMinutes(30), now.plusMinutes(30));
+    }
+
+    /**
+     * startedAt 에 시작해 60분 동안 진행되고, 10분마다 가격이 10%씩 내려가는 경매(시작 가격 10000)
+     */
+
+    public static Auction createAuctionStartingAt(long id, LocalDateTime startedAt) {
+        return createAuction(id, 100L, 100L, 10L, new PercentagePricePolicy(10),
+                startedAt, startedAt.plusMinutes(60));
+    }
+
+    private static Auction createAuction(long id, long currentStock, long originStock, long maximumPurchaseLimitCount,
+                                         PricePolicy pricePolicy, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        return Auction.builder()
+                .id(id)
+                .sellerId(1L)
+                .productName("productName")
+                .originPrice(10000L)
+                .currentPrice(10000L)
+                .originStock(originStock)
+                .currentStock(currentStock)
+                .maximumPurchaseLimitCount(maximumPurchaseLimitCount)
+                .pricePolicy(pricePolicy)
+                .variationDuration(Duration.ofMinutes(10L))
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .isShowStock(true)
+                .build();
+    }
 }
@@ -2,10 +2,15 @@ package org.indoles.autionserviceserver.core.infra;
 
 import org.indoles.autionserviceserver.core.auction.domain.Auction;
 import org.indoles.autionserviceserver.core.auction.domain.ConstantPricePolicy;
+import org.indoles.autionserviceserver.core.auction.domain.PriceSchedule;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionSort;
+import org.indoles.autionserviceserver.core.auction.domain.enums.AuctionStatus;
 import org.indoles.autionserviceserver.core.auction.dto.Request.AuctionSearchConditionRequest;
 import org.indoles.autionserviceserver.core.auction.dto.Request.SellerAuctionSearchConditionRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.SellerAuctionSimpleInfoResponse;
 import org.indoles.autionserviceserver.core.auction.entity.AuctionEntity;
 import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerAuctionListingRow;
 import org.indoles.autionserviceserver.core.context.RepositoryTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +23,8 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -245,6 +252,304 @@ class AuctionCoreRepositoryTest extends RepositoryTest {
             assertThat(auctions).isEmpty();
         }
 
+        @Test
+        @DisplayName("커서가 주어지면 커서보다 작은 ID 의 경매를 ID 내림차순으로 조회한다")
+        void findAllBy_BuyerAuctionSearchCondition_Cursor() {
+            // given
+            createAuctions(5);
+            List<Auction> firstPage = auctionRepository.findAllBy(AuctionSearchConditionRequest.ofCursor(null, 2));
+            long cursor = firstPage.get(firstPage.size() - 1).getId();
+
+            // when
+            List<Auction> secondPage = auctionRepository.findAllBy(AuctionSearchConditionRequest.ofCursor(cursor, 2));
+
+            // then
+            assertThat(secondPage)
+                    .extracting(Auction::getId)
+                    .containsExactly(cursor - 1, cursor - 2);
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "WAITING, 1, 'productName3,productName2'",
+                "RUNNING, 1, 'productName1'",
+                "FINISHED, 3, 'productName2,productName1'"
+        })
+        @DisplayName("상태 필터가 주어지면 기준 시간에 해당 상태인 경매만 조회한다")
+        void findAllBy_BuyerAuctionSearchCondition_Status(AuctionStatus status, long hours, String expected) {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            createAuctions(3);
+            AuctionSearchConditionRequest condition = AuctionSearchConditionRequest.of(0, 10, status, null, now.plusHours(hours));
+
+            // when
+            List<Auction> auctions = auctionRepository.findAllBy(condition);
+
+            // then
+            assertThat(auctions)
+                    .extracting(Auction::getProductName)
+                    .containsExactly(expected.split(","));
+        }
+
+        @Test
+        @DisplayName("시작 임박순으로 조회하면 대기 중인 경매를 시작 시간 순으로 조회한다")
+        void findAllBy_BuyerAuctionSearchCondition_StartingSoon() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            createAuctions(3);
+            AuctionSearchConditionRequest condition = AuctionSearchConditionRequest.of(0, 10, null, AuctionSort.STARTING_SOON, now.plusHours(1));
+
+            // when
+            List<Auction> auctions = auctionRepository.findAllBy(condition);
+
+            // then
+            assertThat(auctions)
+                    .extracting(Auction::getProductName)
+                    .containsExactly("productName2", "productName3");
+        }
+
+        @Test
+        @DisplayName("종료 임박순으로 조회하면 진행 중인 경매를 종료 시간 순으로 조회한다")
+        void findAllBy_BuyerAuctionSearchCondition_EndingSoon() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            createAuctions(3);
+            AuctionSearchConditionRequest condition = AuctionSearchConditionRequest.of(0, 10, null, AuctionSort.ENDING_SOON, now.plusHours(1));
+
+            // when
+            List<Auction> auctions = auctionRepository.findAllBy(condition);
+
+            // then
+            assertThat(auctions)
+                    .extracting(Auction::getProductName)
+                    .containsExactly("productName1");
+        }
+
+    }
+
+    @Nested
+    class decreaseStock_Method {
+
+        @Test
+        @DisplayName("재고가 충분하면 재고를 차감하고 현재 가격을 갱신한다")
+        void decreaseStock_Success() {
+            // given
+            createAuctions(1);
+            long auctionId = auctionJpaRepository.findAll().get(0).getId();
+
+            // when
+            int updated = auctionRepository.decreaseStock(auctionId, 30L, 7000L);
+
+            // then
+            Auction auction = auctionRepository.findById(auctionId).get();
+            assertAll(
+                    () -> assertThat(updated).isEqualTo(1),
+                    () -> assertThat(auction.getCurrentStock()).isEqualTo(70L),
+                    () -> assertThat(auction.getCurrentPrice()).isEqualTo(7000L)
+            );
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 아무것도 변경하지 않는다")
+        void decreaseStock_NotEnoughStock() {
+            // given
+            createAuctions(1);
+            long auctionId = auctionJpaRepository.findAll().get(0).getId();
+
+            // when
+            int updated = auctionRepository.decreaseStock(auctionId, 101L, 7000L);
+
+            // then
+            Auction auction = auctionRepository.findById(auctionId).get();
+            assertAll(
+                    () -> assertThat(updated).isZero(),
+                    () -> assertThat(auction.getCurrentStock()).isEqualTo(100L),
+                    () -> assertThat(auction.getCurrentPrice()).isEqualTo(10000L)
+            );
+        }
+    }
+
+    @Nested
+    class increaseStock_Method {
+
+        @Test
+        @DisplayName("복구 후 재고가 원래 재고 이하라면 재고를 복구한다")
+        void increaseStock_Success() {
+            // given
+            createAuctions(1);
+            long auctionId = auctionJpaRepository.findAll().get(0).getId();
+            auctionRepository.decreaseStock(auctionId, 30L, 7000L);
+
+            // when
+            int updated = auctionRepository.increaseStock(auctionId, 10L);
+
+            // then
+            assertAll(
+                    () -> assertThat(updated).isEqualTo(1),
+                    () -> assertThat(auctionRepository.findById(auctionId).get().getCurrentStock()).isEqualTo(80L)
+            );
+        }
+
+        @Test
+        @DisplayName("복구 후 재고가 원래 재고보다 많아지면 아무것도 변경하지 않는다")
+        void increaseStock_OverOriginStock() {
+            // given
+            createAuctions(1);
+            long auctionId = auctionJpaRepository.findAll().get(0).getId();
+
+            // when
+            int updated = auctionRepository.increaseStock(auctionId, 1L);
+
+            // then
+            assertAll(
+                    () -> assertThat(updated).isZero(),
+                    () -> assertThat(auctionRepository.findById(auctionId).get().getCurrentStock()).isEqualTo(100L)
+            );
+        }
+    }
+
+    @Nested
+    class findDetailById_Method {
+
+        @Test
+        @DisplayName("삭제된 경매는 상세 조회 캐시에서도 조회되지 않는다")
+        void findDetailById_AfterDelete_Empty() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Auction saved = auctionRepository.save(Auction.builder()
+                    .sellerId(2L)
+                    .productName("상품 이름")
+                    .originPrice(1000L)
+                    .currentPrice(1000L)
+                    .originStock(100L)
+                    .currentStock(100L)
+                    .maximumPurchaseLimitCount(10L)
+                    .pricePolicy(new ConstantPricePolicy(10L))
+                    .variationDuration(Duration.ofMinutes(10L))
+                    .startedAt(now)
+                    .finishedAt(now.plusHours(1))
+                    .isShowStock(true)
+                    .build());
+            auctionRepository.findDetailById(saved.getId());
+
+            // when
+            auctionRepository.deleteById(saved.getId());
+
+            // then
+            assertThat(auctionRepository.findDetailById(saved.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    class findAllStartingBetween_Method {
+
+        @Test
+        @DisplayName("시작 시간이 주어진 구간에 있는 경매만 조회한다")
+        void findAllStartingBetween_Success() {
+            // given
+            createAuctions(3);
+            LocalDateTime now = LocalDateTime.now();
+
+            // when
+            List<Auction> auctions = auctionRepository.findAllStartingBetween(now, now.plusHours(1));
+
+            // then
+            assertThat(auctions).hasSize(1)
+                    .extracting(Auction::getProductName)
+                    .containsExactly("productName1");
+        }
+    }
+
+    @Nested
+    class findListingBy_Method {
+
+        @Test
+        @DisplayName("구매자 경매 목록은 필요한 컬럼만 조회한다")
+        void findBuyerListingBy_Success() {
+            // given
+            createAuctions(3);
+            AuctionSearchConditionRequest condition = new AuctionSearchConditionRequest(0, 10);
+
+            // when
+            List<BuyerAuctionListingRow> rows = auctionRepository.findBuyerListingBy(condition);
+
+            // then
+            BuyerAuctionListingRow first = rows.get(0);
+            assertAll(
+                    () -> assertThat(rows).extracting(BuyerAuctionListingRow::productName)
+                            .containsExactly("productName3", "productName2", "productName1"),
+                    () -> assertThat(first.finishedAt()).isAfter(first.startedAt())
+            );
+        }
+
+        @Test
+        @DisplayName("여러 경매의 스냅샷을 한 번에 조회하면 각 경매의 가격표로 조회 시각의 가격을 계산할 수 있다")
+        void findDetailsByIds_Success() {
+            // given
+            createAuctions(3);
+            List<Long> ids = auctionRepository.findBuyerListingBy(new AuctionSearchConditionRequest(0, 10)).stream()
+                    .map(BuyerAuctionListingRow::id)
+                    .toList();
+
+            // when
+            Map<Long, Auction> auctions = auctionRepository.findDetailsByIds(ids);
+
+            // then
+            Auction first = auctions.get(ids.get(0));
+            assertAll(
+                    () -> assertThat(auctions).containsOnlyKeys(ids),
+                    () -> assertThat(first.getPriceSchedule()
+                            .priceAtEpochNanos(PriceSchedule.toEpochNanos(first.getStartedAt().plusMinutes(25))))
+                            .isEqualTo(28000L)
+            );
+        }
+
+        @Test
+        @DisplayName("여러 경매의 가격표를 가격 컬럼만으로 한 번에 만들고, 없는 경매는 결과에서 뺀다")
+        void findPriceSchedulesByIds_Success() {
+            // given
+            createAuctions(3);
+            List<BuyerAuctionListingRow> rows = auctionRepository.findBuyerListingBy(new AuctionSearchConditionRequest(0, 10));
+            List<Long> ids = rows.stream()
+                    .map(BuyerAuctionListingRow::id)
+                    .toList();
+            long deletedId = ids.get(ids.size() - 1) + 100;
+
+            // when
+            Map<Long, PriceSchedule> priceSchedules = auctionRepository.findPriceSchedulesByIds(
+                    Stream.concat(ids.stream(), Stream.of(deletedId)).toList());
+
+            // then
+            BuyerAuctionListingRow first = rows.get(0);
+            assertAll(
+                    () -> assertThat(priceSchedules).containsOnlyKeys(ids),
+                    () -> assertThat(priceSchedules.get(first.id())
+                            .priceAtEpochNanos(PriceSchedule.toEpochNanos(first.startedAt().plusMinutes(25))))
+                            .isEqualTo(28000L)
+            );
+        }
+
+        @Test
+        @DisplayName("판매자 경매 목록은 응답 레코드로 바로 조회한다")
+        void findSellerListingBy_Success() {
+            // given
+            createAuctions(3);
+            SellerAuctionSearchConditionRequest condition = new SellerAuctionSearchConditionRequest(2L, 0, 10);
+
+            // when
+            List<SellerAuctionSimpleInfoResponse> infos = auctionRepository.findSellerListingBy(condition);
+
+            // then
+            assertThat(infos).hasSize(1);
+            SellerAuctionSimpleInfoResponse info = infos.get(0);
+            assertAll(
+                    () -> assertThat(info.title()).isEqualTo("productName2"),
+                    () -> assertThat(info.originPrice()).isEqualTo(20000L),
+                    () -> assertThat(info.currentPrice()).isEqualTo(20000L),
+                    () -> assertThat(info.totalStock()).isEqualTo(200L),
+                    () -> assertThat(info.currentStock()).isEqualTo(200L)
+            );
+        }
     }
 
     private void createAuctions(int count) {
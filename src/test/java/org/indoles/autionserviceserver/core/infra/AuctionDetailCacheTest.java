@@ -0,0 +1,143 @@
+package org.indoles.autionserviceserver.core.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionDetailCache;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionDetailCacheTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final LongFunction<Optional<Auction>> loader = id -> {
+        loadCount.incrementAndGet();
+        return Optional.of(AuctionFixture.createRunningAuction(id));
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionDetailCache auctionDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        auctionDetailCache = new AuctionDetailCache(meterRegistry, 2, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 경매는 다시 읽지 않는다")
+    void get_Cached_LoadOnce() {
+        // when
+        auctionDetailCache.get(1L, loader);
+        auctionDetailCache.get(1L, loader);
+        auctionDetailCache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(2);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 경매는 다음 조회 때 다시 읽는다")
+    void invalidate_LoadAgain() {
+        // given
+        auctionDetailCache.get(1L, loader);
+
+        // when
+        auctionDetailCache.invalidate(1L);
+        auctionDetailCache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 경매는 캐시하지 않는다")
+    void get_NotFound_NotCached() {
+        // when
+        auctionDetailCache.get(1L, id -> Optional.empty());
+        Optional<Auction> result = auctionDetailCache.get(1L, loader);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 건을 조회하면 캐시에 없는 경매만 한 번에 읽는다")
+    void getAll_LoadMissingOnly() {
+        // given
+        auctionDetailCache.get(1L, loader);
+        List<Set<Long>> requested = new ArrayList<>();
+
+        // when
+        Map<Long, Auction> auctions = auctionDetailCache.getAll(List.of(1L, 2L), ids -> {
+            requested.add(ids);
+            return ids.stream().collect(Collectors.toMap(id -> id, AuctionFixture::createRunningAuction));
+        });
+
+        // then
+        assertThat(auctions).containsOnlyKeys(1L, 2L);
+        assertThat(requested).containsExactly(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("크기가 한도를 넘으면 경매를 제거해 한도를 유지한다")
+    void get_OverMaximumSize_Evict() {
+        // when
+        auctionDetailCache.get(1L, loader);
+        auctionDetailCache.get(2L, loader);
+        auctionDetailCache.get(3L, loader);
+
+        // then
+        assertThat(meterRegistry.get("cache.size").tag("cache", "auction.detail").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "auction.detail").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화된 경매는 읽은 값을 캐시에 남기지 않는다")
+    void invalidate_DuringLoad_NotCached() throws InterruptedException {
+        // given
+        Thread[] invalidator = new Thread[1];
+        LongFunction<Optional<Auction>> racingLoader = id -> {
+            invalidator[0] = new Thread(() -> auctionDetailCache.invalidate(id));
+            invalidator[0].start();
+            awaitBlocked(invalidator[0]);
+            return loader.apply(id);
+        };
+
+        // when
+        auctionDetailCache.get(1L, racingLoader);
+        invalidator[0].join();
+        auctionDetailCache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private void awaitBlocked(Thread thread) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.WAITING
+                && thread.isAlive() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tags("cache", "auction.detail", "result", result).functionCounter().count();
+    }
+}
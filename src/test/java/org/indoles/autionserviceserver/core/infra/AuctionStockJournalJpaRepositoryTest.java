@@ -0,0 +1,51 @@
+package org.indoles.autionserviceserver.core.infra;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.entity.AuctionStockJournalEntity;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockJournalJpaRepository;
+import org.indoles.autionserviceserver.core.context.RepositoryTest;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionStockJournalJpaRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private AuctionStockJournalJpaRepository auctionStockJournalJpaRepository;
+
+    @Test
+    @DisplayName("AUCTION 재고에 아직 반영되지 않은 변경량을 더한 재고를 조회한다")
+    void findJournaledStock_Success() {
+        // given
+        Auction auction = auctionRepository.save(AuctionFixture.createRunningAuction());
+        auctionStockJournalJpaRepository.save(AuctionStockJournalEntity.decrease(auction.getId(), 5L, 9000L));
+        auctionStockJournalJpaRepository.save(AuctionStockJournalEntity.increase(auction.getId(), 2L));
+        auctionStockJournalJpaRepository.save(AuctionStockJournalEntity.decrease(auction.getId() + 1, 10L, 9000L));
+
+        // when
+        long stock = auctionStockJournalJpaRepository.findJournaledStock(auction.getId()).get();
+
+        // then
+        assertThat(stock).isEqualTo(97L);
+    }
+
+    @Test
+    @DisplayName("기록이 없는 경매는 AUCTION 재고를 그대로 조회한다")
+    void findJournaledStock_NoJournal() {
+        // given
+        Auction auction = auctionRepository.save(AuctionFixture.createRunningAuction());
+
+        // when
+        long stock = auctionStockJournalJpaRepository.findJournaledStock(auction.getId()).get();
+
+        // then
+        assertThat(stock).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,270 @@
+package org.indoles.autionserviceserver.core.infra;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.entity.AuctionStockJournalEntity;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockJournalJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class AuctionStockLedgerTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionStockJournalJpaRepository auctionStockJournalJpaRepository;
+    private AuctionStockLedger auctionStockLedger;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        auctionStockJournalJpaRepository = mock(AuctionStockJournalJpaRepository.class);
+        auctionStockLedger = new AuctionStockLedger(auctionRepository, auctionStockJournalJpaRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 3);
+    }
+
+    @Nested
+    class warm_Method {
+
+        @Test
+        @DisplayName("AUCTION 재고에 아직 반영되지 않은 변경량을 더한 값으로 장부를 시작한다")
+        void warm_StartFromJournaledStock() {
+            // given
+            Auction auction = AuctionFixture.createRunningAuction(1L, 10L, 100L);
+            when(auctionStockJournalJpaRepository.findJournaledStock(1L)).thenReturn(Optional.of(7L));
+
+            // when
+            auctionStockLedger.warm(auction);
+            auctionStockLedger.warm(auction);
+
+            // then
+            assertThat(auctionStockLedger.currentStock(1L)).contains(7L);
+            verify(auctionStockJournalJpaRepository, times(1)).findJournaledStock(1L);
+        }
+
+        @Test
+        @DisplayName("불러오지 않은 경매의 재고는 차감할 수 없다")
+        void decrease_NotWarmed_ThrowException() {
+            // expect
+            assertThatThrownBy(() -> auctionStockLedger.decrease(1L, 1L))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class decrease_Method {
+
+        @Test
+        @DisplayName("동시에 구매 요청이 들어와도 재고 이상으로 차감되지 않는다")
+        void decrease_Concurrently_NeverOversell() throws InterruptedException {
+            // given
+            auctionStockLedger.warm(AuctionFixture.createRunningAuction(1L, 50L, 100L));
+            int requestCount = 200;
+            AtomicInteger successCount = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(requestCount);
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+
+            // when
+            for (int i = 0; i < requestCount; i++) {
+                executor.execute(() -> {
+                    try {
+                        auctionStockLedger.decrease(1L, 1L);
+                        successCount.incrementAndGet();
+                    } catch (SuccessfulOperationException ignored) {
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // then
+            assertThat(successCount.get()).isEqualTo(50);
+            assertThat(auctionStockLedger.currentStock(1L)).contains(0L);
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 예외가 발생한다")
+        void decrease_NotEnoughStock_ThrowException() {
+            // given
+            auctionStockLedger.warm(AuctionFixture.createRunningAuction(1L, 5L, 100L));
+
+            // expect
+            assertThatThrownBy(() -> auctionStockLedger.decrease(1L, 6L))
+                    .isInstanceOf(SuccessfulOperationException.class)
+                    .hasMessage(String.format("재고가 부족합니다. 현재 재고: %d, 요청 구매 수량: %d", 5L, 6L))
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A012);
+        }
+    }
+
+    @Nested
+    class increase_Method {
+
+        @Test
+        @DisplayName("복구 후 재고가 원래 재고보다 많아지면 예외가 발생한다")
+        void increase_OverOriginStock_ThrowException() {
+            // given
+            auctionStockLedger.warm(AuctionFixture.createRunningAuction(1L, 100L, 100L));
+
+            // expect
+            assertThatThrownBy(() -> auctionStockLedger.increase(1L, 1L))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A016);
+        }
+
+        @Test
+        @DisplayName("복구할 재고가 0 이하라면 예외가 발생한다")
+        void increase_NotPositive_ThrowException() {
+            // given
+            auctionStockLedger.warm(AuctionFixture.createRunningAuction(1L, 10L, 100L));
+
+            // expect
+            assertThatThrownBy(() -> auctionStockLedger.increase(1L, -1L))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("환불할 재고는 1보다 작을 수 없습니다. inputStock=-1")
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A015);
+        }
+    }
+
+    @Nested
+    class flush_Method {
+
+        @Test
+        @DisplayName("기록된 변경량을 합쳐 한 번에 반영하고, 반영한 기록을 삭제한다")
+        void flush_ApplyAndDeleteJournals() {
+            // given
+            givenJournals(
+                    journal(1L, AuctionStockJournalEntity.decrease(1L, 3L, 1000L)),
+                    journal(2L, AuctionStockJournalEntity.decrease(1L, 2L, 900L)),
+                    journal(3L, AuctionStockJournalEntity.increase(1L, 1L)));
+            when(auctionRepository.decreaseStock(anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+            // when
+            auctionStockLedger.flush();
+
+            // then
+            verify(auctionRepository, times(1)).decreaseStock(1L, 4L, 900L);
+            verify(auctionStockJournalJpaRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        }
+
+        @Test
+        @DisplayName("환불로 재고가 늘었다면 증가량을 DB 에 반영한다")
+        void flush_NetIncrease() {
+            // given
+            givenJournals(journal(1L, AuctionStockJournalEntity.increase(1L, 2L)));
+            when(auctionRepository.increaseStock(anyLong(), anyLong())).thenReturn(1);
+
+            // when
+            auctionStockLedger.flush();
+
+            // then
+            verify(auctionRepository, times(1)).increaseStock(1L, 2L);
+            verify(auctionStockJournalJpaRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("DB 반영에 실패하면 기록을 남겨 다음 주기에 다시 반영한다")
+        void flush_Fail_KeepJournals() {
+            // given
+            givenJournals(journal(1L, AuctionStockJournalEntity.decrease(1L, 3L, 1000L)));
+            when(auctionRepository.decreaseStock(anyLong(), anyLong(), anyLong()))
+                    .thenThrow(new RuntimeException("DB 장애"))
+                    .thenReturn(1);
+
+            // when
+            auctionStockLedger.flush();
+
+            // then
+            verify(auctionStockJournalJpaRepository, never()).deleteAllByIdInBatch(any());
+
+            // when
+            auctionStockLedger.flush();
+
+            // then
+            verify(auctionRepository, times(2)).decreaseStock(1L, 3L, 1000L);
+            verify(auctionStockJournalJpaRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 가 반영되지 않으면 기록을 삭제하지 않는다")
+        void flush_ConditionMismatch_KeepJournals() {
+            // given
+            givenJournals(journal(1L, AuctionStockJournalEntity.decrease(1L, 3L, 1000L)));
+            when(auctionRepository.decreaseStock(anyLong(), anyLong(), anyLong())).thenReturn(0);
+
+            // when
+            auctionStockLedger.flush();
+
+            // then
+            verify(auctionStockJournalJpaRepository, never()).deleteAllByIdInBatch(any());
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 가 정해진 횟수만큼 반영되지 않으면 경매를 격리해 더 이상 반영하지 않는다")
+        void flush_RepeatedMismatch_Quarantine() {
+            // given
+            givenJournals(journal(1L, AuctionStockJournalEntity.decrease(1L, 3L, 1000L)));
+            when(auctionRepository.decreaseStock(anyLong(), anyLong(), anyLong())).thenReturn(0);
+            when(auctionRepository.existsById(1L)).thenReturn(true);
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                auctionStockLedger.flush();
+            }
+
+            // then
+            verify(auctionRepository, times(3)).decreaseStock(1L, 3L, 1000L);
+            verify(auctionStockJournalJpaRepository, never()).deleteAllByIdInBatch(any());
+        }
+
+        @Test
+        @DisplayName("삭제된 경매의 기록은 반영하지 않고 버린다")
+        void flush_AuctionDeleted_DropJournals() {
+            // given
+            auctionStockLedger.warm(AuctionFixture.createRunningAuction(1L, 10L, 100L));
+            givenJournals(journal(1L, AuctionStockJournalEntity.decrease(1L, 3L, 1000L)));
+            when(auctionRepository.decreaseStock(anyLong(), anyLong(), anyLong())).thenReturn(0);
+            when(auctionRepository.existsById(1L)).thenReturn(false);
+
+            // when
+            auctionStockLedger.flush();
+
+            // then
+            verify(auctionStockJournalJpaRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+            assertThat(auctionStockLedger.currentStock(1L)).isEmpty();
+        }
+    }
+
+    private void givenJournals(AuctionStockJournalEntity... journals) {
+        when(auctionStockJournalJpaRepository.findPendingAuctionIds()).thenReturn(List.of(1L));
+        when(auctionStockJournalJpaRepository.findAllByAuctionIdOrderByIdAsc(1L)).thenReturn(List.of(journals));
+    }
+
+    private AuctionStockJournalEntity journal(long id, AuctionStockJournalEntity journal) {
+        ReflectionTestUtils.setField(journal, "id", id);
+        return journal;
+    }
+}
@@ -0,0 +1,106 @@
+package org.indoles.autionserviceserver.core.infra;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.entity.AuctionBuyerPurchaseEntity;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionBuyerPurchaseJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerPurchaseIndex;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BuyerPurchaseIndexTest {
+
+    private final Auction auction = AuctionFixture.createPurchaseLimitedAuction(1L, 5L);
+
+    private AuctionBuyerPurchaseJpaRepository auctionBuyerPurchaseJpaRepository;
+    private BuyerPurchaseIndex buyerPurchaseIndex;
+
+    @BeforeEach
+    void setUp() {
+        auctionBuyerPurchaseJpaRepository = mock(AuctionBuyerPurchaseJpaRepository.class);
+        buyerPurchaseIndex = new BuyerPurchaseIndex(auctionBuyerPurchaseJpaRepository, 16);
+    }
+
+    @Test
+    @DisplayName("누적 구매 수량이 인당 구매 제한을 넘으면 예외가 발생한다")
+    void verifyLimit_Accumulated_ThrowException() {
+        // given
+        buyerPurchaseIndex.warm(1L);
+        buyerPurchaseIndex.increase(1L, 10L, 3L);
+        buyerPurchaseIndex.increase(1L, 10L, 2L);
+
+        // expect
+        assertThatThrownBy(() -> buyerPurchaseIndex.verifyLimit(auction, 10L, 1L))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A041);
+        assertThatNoException().isThrownBy(() -> buyerPurchaseIndex.verifyLimit(auction, 11L, 5L));
+    }
+
+    @Test
+    @DisplayName("구매를 취소하면 다시 구매할 수 있다")
+    void decrease_AfterCancel_Allowed() {
+        // given
+        buyerPurchaseIndex.warm(1L);
+        buyerPurchaseIndex.increase(1L, 10L, 5L);
+
+        // when
+        buyerPurchaseIndex.decrease(1L, 10L, 2L);
+
+        // then
+        assertThatNoException().isThrownBy(() -> buyerPurchaseIndex.verifyLimit(auction, 10L, 2L));
+    }
+
+    @Test
+    @DisplayName("예열한 경매는 테이블에 저장된 누적 구매 수량을 한 번만 읽어 온다")
+    void warm_LoadPersistedOnce() {
+        // given
+        when(auctionBuyerPurchaseJpaRepository.findAllByAuctionId(1L))
+                .thenReturn(List.of(AuctionBuyerPurchaseEntity.of(1L, 10L, 5L)));
+
+        // when
+        buyerPurchaseIndex.warm(1L);
+        buyerPurchaseIndex.warm(1L);
+
+        // then
+        assertThatThrownBy(() -> buyerPurchaseIndex.verifyLimit(auction, 10L, 1L))
+                .isInstanceOf(BadRequestException.class);
+        verify(auctionBuyerPurchaseJpaRepository, times(1)).findAllByAuctionId(1L);
+    }
+
+    @Test
+    @DisplayName("읽어 오지 않은 경매는 Sequencer 스레드에서 DB 를 조회하지 않고 예외가 발생한다")
+    void verifyLimit_NotWarmed_ThrowException() {
+        // expect
+        assertThatThrownBy(() -> buyerPurchaseIndex.verifyLimit(auction, 10L, 1L))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(auctionBuyerPurchaseJpaRepository);
+    }
+
+    @Test
+    @DisplayName("마지막 반영 이후의 변경량만 반영하고, 행이 없다면 새로 저장한다")
+    void flush_OnlyPendingDelta() {
+        // given
+        buyerPurchaseIndex.warm(1L);
+        buyerPurchaseIndex.increase(1L, 10L, 3L);
+        buyerPurchaseIndex.decrease(1L, 10L, 1L);
+        when(auctionBuyerPurchaseJpaRepository.addQuantity(1L, 10L, 2L)).thenReturn(0);
+
+        // when
+        buyerPurchaseIndex.flush();
+        buyerPurchaseIndex.flush();
+
+        // then
+        verify(auctionBuyerPurchaseJpaRepository, times(1)).addQuantity(1L, 10L, 2L);
+        verify(auctionBuyerPurchaseJpaRepository, times(1)).save(any(AuctionBuyerPurchaseEntity.class));
+    }
+}
@@ -0,0 +1,87 @@
+package org.indoles.autionserviceserver.core.infra;
+
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus;
+import org.indoles.autionserviceserver.core.auction.entity.OutboxEventEntity;
+import org.indoles.autionserviceserver.core.auction.infra.OutboxEventJpaRepository;
+import org.indoles.autionserviceserver.core.context.RepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxEventJpaRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Nested
+    class claim_Method {
+
+        @Test
+        @DisplayName("PENDING 이벤트를 선점하면 SENDING 이 되고 취소되지 않는다")
+        void claim_Success() {
+            // given
+            OutboxEventEntity event = savePendingEvent();
+
+            // when
+            int claimed = outboxEventJpaRepository.claim(event.getId(), LocalDateTime.now().plusMinutes(5));
+            int cancelled = outboxEventJpaRepository.cancelPending(event.getRequestId(), event.getEventType());
+
+            // then
+            assertThat(claimed).isEqualTo(1);
+            assertThat(cancelled).isZero();
+            assertThat(outboxEventJpaRepository.findById(event.getId()).get().getStatus()).isEqualTo(OutboxStatus.SENDING);
+        }
+
+        @Test
+        @DisplayName("이미 선점되었거나 취소된 이벤트는 선점하지 못한다")
+        void claim_NotPending() {
+            // given
+            OutboxEventEntity claimedEvent = savePendingEvent();
+            OutboxEventEntity cancelledEvent = savePendingEvent();
+            outboxEventJpaRepository.claim(claimedEvent.getId(), LocalDateTime.now().plusMinutes(5));
+            outboxEventJpaRepository.cancelPending(cancelledEvent.getRequestId(), cancelledEvent.getEventType());
+
+            // when
+            int claimedAgain = outboxEventJpaRepository.claim(claimedEvent.getId(), LocalDateTime.now().plusMinutes(5));
+            int claimedCancelled = outboxEventJpaRepository.claim(cancelledEvent.getId(), LocalDateTime.now().plusMinutes(5));
+
+            // then
+            assertThat(claimedAgain).isZero();
+            assertThat(claimedCancelled).isZero();
+        }
+    }
+
+    @Nested
+    class releaseExpiredClaims_Method {
+
+        @Test
+        @DisplayName("선점 기한이 지난 이벤트만 다시 PENDING 으로 되돌린다")
+        void releaseExpiredClaims_Success() {
+            // given
+            OutboxEventEntity expired = savePendingEvent();
+            OutboxEventEntity leased = savePendingEvent();
+            outboxEventJpaRepository.claim(expired.getId(), LocalDateTime.now().minusSeconds(1));
+            outboxEventJpaRepository.claim(leased.getId(), LocalDateTime.now().plusMinutes(5));
+
+            // when
+            int released = outboxEventJpaRepository.releaseExpiredClaims(LocalDateTime.now());
+
+            // then
+            assertThat(released).isEqualTo(1);
+            assertThat(outboxEventJpaRepository.findById(expired.getId()).get().getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(outboxEventJpaRepository.findById(leased.getId()).get().getStatus()).isEqualTo(OutboxStatus.SENDING);
+        }
+    }
+
+    private OutboxEventEntity savePendingEvent() {
+        return outboxEventJpaRepository.save(
+                OutboxEventEntity.pending(UUID.randomUUID(), OutboxEventType.PURCHASE_POINT_TRANSFER, "{}"));
+    }
+}
@@ -0,0 +1,73 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionBuyerPurchaseJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockJournalJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerPurchaseIndex;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
+import org.indoles.autionserviceserver.core.auction.service.AuctionPrewarmScheduler;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuctionPrewarmSchedulerTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionBuyerPurchaseJpaRepository auctionBuyerPurchaseJpaRepository;
+    private HotAuctionRegistry hotAuctionRegistry;
+    private AuctionStockLedger auctionStockLedger;
+    private AuctionPrewarmScheduler auctionPrewarmScheduler;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        auctionBuyerPurchaseJpaRepository = mock(AuctionBuyerPurchaseJpaRepository.class);
+        hotAuctionRegistry = new HotAuctionRegistry();
+        auctionStockLedger = new AuctionStockLedger(auctionRepository, mock(AuctionStockJournalJpaRepository.class),
+                mock(TransactionTemplate.class), 5);
+        auctionPrewarmScheduler = new AuctionPrewarmScheduler(auctionRepository, hotAuctionRegistry, auctionStockLedger,
+                new BuyerPurchaseIndex(auctionBuyerPurchaseJpaRepository, 16), Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    @DisplayName("곧 시작할 경매를 레지스트리와 재고 장부에 미리 올린다")
+    void prewarm_RegisterUpcomingAuction() {
+        // given
+        Auction auction = AuctionFixture.createAuctionStartingAt(1L, LocalDateTime.now().plusMinutes(5));
+        when(auctionRepository.findAllStartingBetween(any(), any())).thenReturn(List.of(auction));
+
+        // when
+        auctionPrewarmScheduler.prewarm();
+
+        // then
+        assertThat(hotAuctionRegistry.find(1L)).containsSame(auction);
+        assertThat(auctionStockLedger.currentStock(1L)).contains(100L);
+        verify(auctionBuyerPurchaseJpaRepository, times(1)).findAllByAuctionId(1L);
+    }
+
+    @Test
+    @DisplayName("이미 예열한 경매는 다시 예열하지 않는다")
+    void prewarm_AlreadyRegistered_Skip() {
+        // given
+        when(auctionRepository.findAllStartingBetween(any(), any())).thenReturn(List.of(AuctionFixture.createAuctionStartingAt(1L, LocalDateTime.now().plusMinutes(5))));
+        auctionPrewarmScheduler.prewarm();
+
+        // when
+        auctionPrewarmScheduler.prewarm();
+
+        // then
+        verify(auctionBuyerPurchaseJpaRepository, times(1)).findAllByAuctionId(1L);
+    }
+}
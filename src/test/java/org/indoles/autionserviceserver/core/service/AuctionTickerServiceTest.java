@@ -0,0 +1,207 @@
+package org.indoles.autionserviceserver.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockJournalJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
+import org.indoles.autionserviceserver.core.auction.service.AuctionTickerService;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AuctionTickerServiceTest {
+
+    private final LocalDateTime startedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private boolean rejecting;
+
+    private AuctionStockLedger auctionStockLedger;
+    private AuctionTickerService auctionTickerService;
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        HotAuctionRegistry hotAuctionRegistry = new HotAuctionRegistry();
+        auctionStockLedger = new AuctionStockLedger(mock(AuctionRepository.class),
+                mock(AuctionStockJournalJpaRepository.class), mock(TransactionTemplate.class), 5);
+        auctionTickerService = new AuctionTickerService(mock(AuctionRepository.class), hotAuctionRegistry,
+                auctionStockLedger, new ObjectMapper(), this::execute, Duration.ofHours(1), 2);
+        auction = AuctionFixture.createAuctionStartingAt(1L, startedAt);
+        hotAuctionRegistry.register(auction);
+    }
+
+    @Test
+    @DisplayName("구독하면 현재 시세를 바로 전송한다")
+    void subscribe_SendCurrentTick() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        auctionTickerService.subscribe(1L, startedAt.plusMinutes(1), emitter);
+        runTasks();
+
+        // then
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.get(0))
+                .contains("event:tick")
+                .contains("\"currentPrice\":10000")
+                .contains("\"currentStock\":100");
+    }
+
+    @Test
+    @DisplayName("가격 변동 구간이 바뀌지 않았다면 이벤트를 보내지 않는다")
+    void tick_SamePrice_NoEvent() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        auctionTickerService.subscribe(1L, startedAt.plusMinutes(1), emitter);
+        runTasks();
+
+        // when
+        auctionTickerService.tick(startedAt.plusMinutes(5));
+        runTasks();
+
+        // then
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("구매로 재고가 바뀌면 바뀐 재고를 전송한다")
+    void tick_StockChanged_SendEvent() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        auctionTickerService.subscribe(1L, startedAt.plusMinutes(1), emitter);
+        runTasks();
+        auctionStockLedger.warm(auction);
+        auctionStockLedger.decrease(1L, 3L);
+
+        // when
+        auctionTickerService.tick(startedAt.plusMinutes(2));
+        runTasks();
+
+        // then
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1)).contains("\"currentStock\":97");
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 구독자는 중간 시세를 건너뛰고 최신 시세만 받는다")
+    void tick_SlowSubscriber_Coalesce() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        auctionTickerService.subscribe(1L, startedAt.plusMinutes(1), emitter);
+
+        // when
+        auctionTickerService.tick(startedAt.plusMinutes(10));
+        auctionTickerService.tick(startedAt.plusMinutes(20));
+        runTasks();
+
+        // then
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.get(0)).contains("\"currentPrice\":8100");
+    }
+
+    @Test
+    @DisplayName("구독자 수가 한도를 초과하면 예외가 발생한다")
+    void subscribe_OverMaximumSubscribers_ThrowException() {
+        // given
+        auctionTickerService.subscribe(1L, startedAt, new RecordingEmitter());
+        auctionTickerService.subscribe(1L, startedAt, new RecordingEmitter());
+
+        // expect
+        assertThatThrownBy(() -> auctionTickerService.subscribe(1L, startedAt, new RecordingEmitter()))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G011);
+    }
+
+    @Test
+    @DisplayName("전송 스레드 풀이 가득 차 맡기지 못한 구독 종료는 다음 주기에 다시 맡긴다")
+    void tick_CloseRejected_RetryNextTick() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        auctionTickerService.subscribe(1L, startedAt.plusMinutes(1), emitter);
+        runTasks();
+
+        // when
+        rejecting = true;
+        auctionTickerService.tick(startedAt.plusMinutes(60));
+        rejecting = false;
+        auctionTickerService.tick(startedAt.plusMinutes(61));
+        runTasks();
+
+        // then
+        assertThat(emitter.completed).isTrue();
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1)).contains("\"status\":\"FINISHED\"");
+    }
+
+    @Test
+    @DisplayName("전송 스레드 풀이 가득 차 맡기지 못한 시세는 값이 바뀌지 않아도 다음 주기에 전송한다")
+    void tick_OfferRejected_RetryNextTick() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        rejecting = true;
+        auctionTickerService.subscribe(1L, startedAt.plusMinutes(1), emitter);
+        rejecting = false;
+
+        // when
+        auctionTickerService.tick(startedAt.plusMinutes(1));
+        runTasks();
+
+        // then
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    private void execute(Runnable task) {
+        if (rejecting) {
+            throw new TaskRejectedException("rejected");
+        }
+        tasks.add(task);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            events.add(items.stream()
+                    .map(item -> item.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
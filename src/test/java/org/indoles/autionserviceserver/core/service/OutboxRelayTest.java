@@ -0,0 +1,183 @@
+package org.indoles.autionserviceserver.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxStatus;
+import org.indoles.autionserviceserver.core.auction.domain.enums.Role;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.TransferPointResponse;
+import org.indoles.autionserviceserver.core.auction.entity.OutboxEventEntity;
+import org.indoles.autionserviceserver.core.auction.infra.OutboxEventJpaRepository;
+import org.indoles.autionserviceserver.core.auction.service.OutboxEventPublisher;
+import org.indoles.autionserviceserver.core.auction.service.OutboxRelay;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseSagaOrchestrator;
+import org.indoles.autionserviceserver.core.auction.service.ReceiptBatchWriter;
+import org.indoles.autionserviceserver.core.auction.utils.MemberFeignClient;
+import org.indoles.autionserviceserver.core.auction.utils.ReceiptFeignClient;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteCallGuard;
+import org.indoles.autionserviceserver.global.dto.PurchaseOutboxMessage;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+    private MemberFeignClient memberFeignClient;
+    private PurchaseSagaOrchestrator purchaseSagaOrchestrator;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventJpaRepository = mock(OutboxEventJpaRepository.class);
+        memberFeignClient = mock(MemberFeignClient.class);
+        purchaseSagaOrchestrator = mock(PurchaseSagaOrchestrator.class);
+        outboxRelay = new OutboxRelay(
+                outboxEventJpaRepository,
+                new OutboxEventPublisher(outboxEventJpaRepository, objectMapper),
+                memberFeignClient,
+                mock(ReceiptFeignClient.class),
+                new RemoteCallGuard(32, 32, 50f, Duration.ofSeconds(2), 50, Duration.ofSeconds(10)),
+                mock(ReceiptBatchWriter.class),
+                purchaseSagaOrchestrator,
+                new SyncTaskExecutor(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                3,
+                Duration.ofMillis(500),
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(1)
+        );
+    }
+
+    @Test
+    @DisplayName("전달에 성공하면 이벤트는 SENT 가 되고 Saga 에 성공을 알린다")
+    void relay_Success_NotifySaga() throws Exception {
+        // given
+        OutboxEventEntity event = createPointTransferEvent();
+        givenPendingEvents(List.of(event));
+        when(memberFeignClient.pointTransfer(any())).thenReturn(new TransferPointResponse(1L, 2L, 1000L, 0L));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+        verify(purchaseSagaOrchestrator).onDelivered(event);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 전달에 실패하면 재시도를 예약한다")
+    void relay_TransientFailure_RetryLater() throws Exception {
+        // given
+        OutboxEventEntity event = createPointTransferEvent();
+        givenPendingEvents(List.of(event));
+        when(memberFeignClient.pointTransfer(any())).thenThrow(new RuntimeException("연결 실패"));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        verifyNoInteractions(purchaseSagaOrchestrator);
+    }
+
+    @Test
+    @DisplayName("포인트가 부족해 전송에 실패하면 재시도하지 않고 Saga 에 실패를 알린다")
+    void relay_PointTransferRejected_NotifySaga() throws Exception {
+        // given
+        OutboxEventEntity event = createPointTransferEvent();
+        givenPendingEvents(List.of(event));
+        when(memberFeignClient.pointTransfer(any())).thenReturn(new TransferPointResponse(1L, 2L, 1000L, -1L));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(purchaseSagaOrchestrator).onFailed(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 전달을 시도하지 못하면 재시도 횟수와 전달 기한을 소모하지 않고 미룬다")
+    void relay_CircuitOpen_DeferWithoutRetryCount() throws Exception {
+        // given
+        OutboxEventEntity event = createPointTransferEvent();
+        givenPendingEvents(List.of(event));
+        when(memberFeignClient.pointTransfer(any()))
+                .thenThrow(new ServiceUnavailableException("회원 서버 장애", ErrorCode.G007));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getRetryCount()).isZero();
+        assertThat(event.getNextRetryAt()).isAfter(LocalDateTime.now());
+        verifyNoInteractions(purchaseSagaOrchestrator);
+    }
+
+    @Test
+    @DisplayName("다른 작업자가 선점했거나 취소된 이벤트는 전달하지 않는다")
+    void relay_NotClaimed_Skip() throws Exception {
+        // given
+        OutboxEventEntity event = createPointTransferEvent();
+        givenPendingEvents(List.of(event));
+        when(outboxEventJpaRepository.claim(eq(event.getId()), any())).thenReturn(0);
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verifyNoInteractions(memberFeignClient, purchaseSagaOrchestrator);
+        verify(outboxEventJpaRepository, never()).save(any());
+    }
+
+    private void givenPendingEvents(List<OutboxEventEntity> events) {
+        when(outboxEventJpaRepository.findTop100ByStatusAndNextRetryAtLessThanEqualOrderByIdAsc(any(), any()))
+                .thenReturn(events);
+        events.forEach(event -> {
+            when(outboxEventJpaRepository.claim(eq(event.getId()), any())).thenReturn(1);
+            when(outboxEventJpaRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        });
+    }
+
+    private OutboxEventEntity createPointTransferEvent() throws Exception {
+        PurchaseOutboxMessage message = PurchaseOutboxMessage.builder()
+                .buyerInfo(new SignInfoRequest(1L, Role.BUYER))
+                .receiptId(UUID.randomUUID())
+                .auctionId(1L)
+                .sellerId(2L)
+                .productName("productName")
+                .price(500L)
+                .quantity(2L)
+                .build();
+
+        return OutboxEventEntity.builder()
+                .id(1L)
+                .requestId(UUID.randomUUID())
+                .eventType(OutboxEventType.PURCHASE_POINT_TRANSFER)
+                .payload(objectMapper.writeValueAsString(message))
+                .status(OutboxStatus.PENDING)
+                .build();
+    }
+}
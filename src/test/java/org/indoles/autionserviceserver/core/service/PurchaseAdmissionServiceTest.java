@@ -0,0 +1,95 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockJournalJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseAdmissionService;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.indoles.autionserviceserver.global.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class PurchaseAdmissionServiceTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionStockLedger auctionStockLedger;
+    private PurchaseAdmissionService purchaseAdmissionService;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        auctionStockLedger = new AuctionStockLedger(auctionRepository, mock(AuctionStockJournalJpaRepository.class),
+                mock(TransactionTemplate.class), 5);
+        purchaseAdmissionService = new PurchaseAdmissionService(auctionRepository, auctionStockLedger, 1.0, Duration.ofSeconds(2));
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(AuctionFixture.createRunningAuction(1L, 3L)));
+    }
+
+    @Test
+    @DisplayName("처리 중인 구매 수량이 남은 재고에 도달하면 Retry-After 와 함께 거절한다")
+    void admit_InFlightReachStock_ThrowException() {
+        // given
+        purchaseAdmissionService.admit(1L, 2L);
+        purchaseAdmissionService.admit(1L, 1L);
+
+        // expect
+        assertThatThrownBy(() -> purchaseAdmissionService.admit(1L, 1L))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G009)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 2L);
+    }
+
+    @Test
+    @DisplayName("구매 처리가 끝나 Permit 을 반납하면 다시 입장할 수 있다")
+    void admit_AfterClose_Admitted() {
+        // given
+        PurchaseAdmissionService.Permit permit = purchaseAdmissionService.admit(1L, 3L);
+
+        // when
+        permit.close();
+        permit.close();
+
+        // then
+        assertThatNoException().isThrownBy(() -> purchaseAdmissionService.admit(1L, 3L));
+        assertThatThrownBy(() -> purchaseAdmissionService.admit(1L, 1L))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("남은 재고는 재고 장부를 기준으로 하며, 경매는 한 번만 조회한다")
+    void admit_UseLedgerStock() {
+        // given
+        Auction auction = AuctionFixture.createRunningAuction(1L, 3L);
+        auctionStockLedger.warm(auction);
+        auctionStockLedger.decrease(1L, 3L);
+
+        // expect
+        assertThatThrownBy(() -> purchaseAdmissionService.admit(1L, 1L))
+                .isInstanceOf(SuccessfulOperationException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A012);
+        assertThatThrownBy(() -> purchaseAdmissionService.admit(1L, 1L))
+                .isInstanceOf(SuccessfulOperationException.class);
+        verify(auctionRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("인당 구매 제한을 넘는 수량은 구매 처리 전에 거절한다")
+    void admit_OverPurchaseLimit_ThrowException() {
+        // expect
+        assertThatThrownBy(() -> purchaseAdmissionService.admit(1L, 11L))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A030);
+    }
+}
@@ -0,0 +1,169 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.domain.enums.Role;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseHoldResponse;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionCoreRepository;
+import org.indoles.autionserviceserver.core.auction.infra.HotAuctionRegistry;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseHoldService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseSagaOrchestrator;
+import org.indoles.autionserviceserver.core.auction.service.StockReservationService;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.dto.AuctionPurchaseRequestMessage;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PurchaseHoldServiceTest {
+
+    private final SignInfoRequest buyerInfo = new SignInfoRequest(1L, Role.BUYER);
+    private final Auction auction = AuctionFixture.createRunningAuction(1L);
+    private final StockReservationService stockReservationService = mock(StockReservationService.class);
+    private final PurchaseSagaOrchestrator purchaseSagaOrchestrator = mock(PurchaseSagaOrchestrator.class);
+    private final AuctionCoreRepository auctionCoreRepository = mock(AuctionCoreRepository.class);
+
+    private PurchaseHoldService purchaseHoldService;
+
+    @AfterEach
+    void tearDown() {
+        purchaseHoldService.shutdown();
+    }
+
+    @Test
+    @DisplayName("확정하지 않은 선점은 TTL 이 지나면 만료되어 재고가 복구된다")
+    void hold_NotConfirmed_ExpireAndRelease() {
+        // given
+        purchaseHoldService = createService(Duration.ofMillis(50));
+        PurchaseHoldResponse hold = purchaseHoldService.hold(createMessage(), buyerInfo);
+
+        // expect
+        verify(stockReservationService, timeout(2000)).releaseHold(auction, buyerInfo.id(), 2L);
+        assertThatThrownBy(() -> purchaseHoldService.confirm(hold.holdId(), buyerInfo, LocalDateTime.now()))
+                .isInstanceOf(NotFoundException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A040);
+        verify(purchaseSagaOrchestrator, never()).startPurchase(any(), any());
+    }
+
+    @Test
+    @DisplayName("확정한 선점은 구매 Saga 를 시작하고 만료되지 않는다")
+    void confirm_StartPurchaseSaga() {
+        // given
+        purchaseHoldService = createService(Duration.ofMillis(100));
+        PurchaseHoldResponse hold = purchaseHoldService.hold(createMessage(), buyerInfo);
+
+        // when
+        purchaseHoldService.confirm(hold.holdId(), buyerInfo, LocalDateTime.now());
+
+        // then
+        verify(stockReservationService).confirmHold(auction, 10000L, 2L);
+        verify(purchaseSagaOrchestrator).startPurchase(eq(hold.holdId()), any());
+        verify(stockReservationService, after(300).never()).releaseHold(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Saga 시작에 실패하면 선점한 재고를 복구한다")
+    void confirm_StartFailed_ReleaseHold() {
+        // given
+        purchaseHoldService = createService(Duration.ofMinutes(1));
+        PurchaseHoldResponse hold = purchaseHoldService.hold(createMessage(), buyerInfo);
+        doThrow(new IllegalStateException("DB 장애")).when(purchaseSagaOrchestrator).startPurchase(any(), any());
+
+        // expect
+        assertThatThrownBy(() -> purchaseHoldService.confirm(hold.holdId(), buyerInfo, LocalDateTime.now()))
+                .isInstanceOf(IllegalStateException.class);
+        verify(stockReservationService).releaseHold(auction, buyerInfo.id(), 2L);
+    }
+
+    @Test
+    @DisplayName("서버가 종료되면 확정되지 않은 선점은 재고 변경으로 기록하지 않고 버린다")
+    void shutdown_DropUnconfirmedHolds() {
+        // given
+        purchaseHoldService = createService(Duration.ofMinutes(1));
+        purchaseHoldService.hold(createMessage(), buyerInfo);
+
+        // when
+        purchaseHoldService.shutdown();
+
+        // then
+        verify(stockReservationService, never()).confirmHold(any(), anyLong(), anyLong());
+        verify(stockReservationService, never()).releaseHold(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 구매자의 선점은 확정할 수 없다")
+    void confirm_OtherBuyer_ThrowException() {
+        // given
+        purchaseHoldService = createService(Duration.ofMinutes(1));
+        PurchaseHoldResponse hold = purchaseHoldService.hold(createMessage(), buyerInfo);
+
+        // expect
+        assertThatThrownBy(() -> purchaseHoldService.confirm(hold.holdId(), new SignInfoRequest(2L, Role.BUYER), LocalDateTime.now()))
+                .isInstanceOf(NotFoundException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A040);
+    }
+
+    @Test
+    @DisplayName("선점 이후 경매가 종료되었다면 확정하지 않고 선점한 재고를 복구한다")
+    void confirm_AuctionFinished_ReleaseHold() {
+        // given
+        purchaseHoldService = createService(Duration.ofMinutes(1));
+        PurchaseHoldResponse hold = purchaseHoldService.hold(createMessage(), buyerInfo);
+
+        // expect
+        assertThatThrownBy(() -> purchaseHoldService.confirm(hold.holdId(), buyerInfo, auction.getFinishedAt()))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A013);
+        verify(stockReservationService).releaseHold(auction, buyerInfo.id(), 2L);
+        verify(purchaseSagaOrchestrator, never()).startPurchase(any(), any());
+    }
+
+    @Test
+    @DisplayName("선점 이후 경매를 찾을 수 없다면 확정하지 않고 선점한 재고를 복구한다")
+    void confirm_AuctionDeleted_ReleaseHold() {
+        // given
+        purchaseHoldService = createService(Duration.ofMinutes(1));
+        PurchaseHoldResponse hold = purchaseHoldService.hold(createMessage(), buyerInfo);
+        when(auctionCoreRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        // expect
+        assertThatThrownBy(() -> purchaseHoldService.confirm(hold.holdId(), buyerInfo, LocalDateTime.now()))
+                .isInstanceOf(NotFoundException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A010);
+        verify(stockReservationService).releaseHold(auction, buyerInfo.id(), 2L);
+        verify(purchaseSagaOrchestrator, never()).startPurchase(any(), any());
+    }
+
+    private PurchaseHoldService createService(Duration ttl) {
+        when(auctionCoreRepository.findById(anyLong())).thenReturn(Optional.of(auction));
+
+        return new PurchaseHoldService(auctionCoreRepository, new HotAuctionRegistry(), stockReservationService, purchaseSagaOrchestrator,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), ttl, Duration.ofMillis(10), 64);
+    }
+
+    private AuctionPurchaseRequestMessage createMessage() {
+        return AuctionPurchaseRequestMessage.builder()
+                .requestId(UUID.randomUUID())
+                .buyerId(buyerInfo.id())
+                .auctionId(1L)
+                .price(10000L)
+                .quantity(2L)
+                .requestTime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseResponse;
+import org.indoles.autionserviceserver.core.auction.entity.PurchaseIdempotencyEntity;
+import org.indoles.autionserviceserver.core.auction.infra.PurchaseIdempotencyJpaRepository;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseIdempotencyService;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PurchaseIdempotencyServiceTest {
+
+    private static final long BUYER_ID = 1L;
+    private static final String KEY = "idempotency-key";
+
+    private PurchaseIdempotencyJpaRepository purchaseIdempotencyJpaRepository;
+    private PurchaseIdempotencyService purchaseIdempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        purchaseIdempotencyJpaRepository = mock(PurchaseIdempotencyJpaRepository.class);
+        when(purchaseIdempotencyJpaRepository.findByBuyerIdAndIdempotencyKey(anyLong(), anyString()))
+                .thenReturn(Optional.empty());
+        purchaseIdempotencyService = new PurchaseIdempotencyService(purchaseIdempotencyJpaRepository, Duration.ofHours(24), 100);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 구매를 다시 실행하지 않고 처음 응답을 반환한다")
+    void executeOnce_SameKey_ReturnOriginal() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        UUID firstRequestId = UUID.randomUUID();
+        purchaseIdempotencyService.executeOnce(BUYER_ID, KEY, firstRequestId, executed::incrementAndGet);
+
+        // when
+        Optional<PurchaseResponse> result = purchaseIdempotencyService.executeOnce(
+                BUYER_ID, KEY, UUID.randomUUID(), executed::incrementAndGet);
+
+        // then
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(result).contains(new PurchaseResponse(firstRequestId));
+    }
+
+    @Test
+    @DisplayName("구매가 실패했다면 같은 키로 다시 구매할 수 있다")
+    void executeOnce_PurchaseFailed_CanRetry() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        assertThatThrownBy(() -> purchaseIdempotencyService.executeOnce(BUYER_ID, KEY, UUID.randomUUID(), () -> {
+            throw new IllegalStateException("구매 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        Optional<PurchaseResponse> result = purchaseIdempotencyService.executeOnce(
+                BUYER_ID, KEY, UUID.randomUUID(), executed::incrementAndGet);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선점한 요청이 키를 해제하면 같은 키로 다시 구매할 수 있고, 다른 요청은 해제할 수 없다")
+    void release_ClaimedRequest_CanRetry() {
+        // given
+        UUID requestId = UUID.randomUUID();
+        AtomicInteger executed = new AtomicInteger();
+        purchaseIdempotencyService.executeOnce(BUYER_ID, KEY, requestId, executed::incrementAndGet);
+        purchaseIdempotencyService.release(BUYER_ID, KEY, UUID.randomUUID());
+        Optional<PurchaseResponse> notReleased = purchaseIdempotencyService.executeOnce(
+                BUYER_ID, KEY, UUID.randomUUID(), executed::incrementAndGet);
+
+        // when
+        purchaseIdempotencyService.release(BUYER_ID, KEY, requestId);
+        Optional<PurchaseResponse> released = purchaseIdempotencyService.executeOnce(
+                BUYER_ID, KEY, UUID.randomUUID(), executed::incrementAndGet);
+
+        // then
+        assertThat(notReleased).contains(new PurchaseResponse(requestId));
+        assertThat(released).isEmpty();
+        assertThat(executed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 같은 키를 기록했다면 그 요청의 응답을 반환한다")
+    void executeOnce_RecordedByOther_ReturnOriginal() {
+        // given
+        UUID originalRequestId = UUID.randomUUID();
+        when(purchaseIdempotencyJpaRepository.findByBuyerIdAndIdempotencyKey(BUYER_ID, KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(createEntity(originalRequestId)));
+
+        // when
+        Optional<PurchaseResponse> result = purchaseIdempotencyService.executeOnce(BUYER_ID, KEY, UUID.randomUUID(), () -> {
+            throw new DataIntegrityViolationException("uk_purchase_idempotency_buyer_key");
+        });
+
+        // then
+        assertThat(result).contains(new PurchaseResponse(originalRequestId));
+    }
+
+    @Test
+    @DisplayName("키가 허용 길이를 넘으면 예외가 발생한다")
+    void executeOnce_TooLongKey_ThrowException() {
+        // given
+        String key = "k".repeat(65);
+
+        // expect
+        assertThatThrownBy(() -> purchaseIdempotencyService.executeOnce(BUYER_ID, key, UUID.randomUUID(), () -> {
+        }))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A036);
+    }
+
+    private PurchaseIdempotencyEntity createEntity(UUID requestId) {
+        return PurchaseIdempotencyEntity.builder()
+                .buyerId(BUYER_ID)
+                .idempotencyKey(KEY)
+                .requestId(requestId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package org.indoles.autionserviceserver.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.domain.enums.OutboxEventType;
+import org.indoles.autionserviceserver.core.auction.domain.enums.PurchaseSagaState;
+import org.indoles.autionserviceserver.core.auction.domain.enums.Role;
+import org.indoles.autionserviceserver.core.auction.domain.enums.SagaStepStatus;
+import org.indoles.autionserviceserver.core.auction.domain.enums.SagaType;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.entity.OutboxEventEntity;
+import org.indoles.autionserviceserver.core.auction.entity.PurchaseSagaEntity;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionCoreRepository;
+import org.indoles.autionserviceserver.core.auction.infra.OutboxEventJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.PurchaseSagaJpaRepository;
+import org.indoles.autionserviceserver.core.auction.service.OutboxEventPublisher;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseSagaOrchestrator;
+import org.indoles.autionserviceserver.core.auction.service.StockReservationService;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.dto.PurchaseOutboxMessage;
+import org.indoles.autionserviceserver.global.dto.RefundOutboxMessage;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PurchaseSagaOrchestratorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SignInfoRequest buyerInfo = new SignInfoRequest(1L, Role.BUYER);
+    private final Auction auction = AuctionFixture.createRunningAuction(1L, 50L);
+
+    private PurchaseSagaJpaRepository purchaseSagaJpaRepository;
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+    private StockReservationService stockReservationService;
+    private PurchaseSagaOrchestrator purchaseSagaOrchestrator;
+
+    @BeforeEach
+    void setUp() {
+        purchaseSagaJpaRepository = mock(PurchaseSagaJpaRepository.class);
+        outboxEventJpaRepository = mock(OutboxEventJpaRepository.class);
+        stockReservationService = mock(StockReservationService.class);
+        AuctionCoreRepository auctionCoreRepository = mock(AuctionCoreRepository.class);
+        when(auctionCoreRepository.findById(anyLong())).thenReturn(Optional.of(auction));
+
+        purchaseSagaOrchestrator = new PurchaseSagaOrchestrator(
+                purchaseSagaJpaRepository,
+                new OutboxEventPublisher(outboxEventJpaRepository, objectMapper),
+                auctionCoreRepository,
+                stockReservationService,
+                Duration.ofSeconds(30)
+        );
+    }
+
+    @Nested
+    class purchaseSaga {
+
+        @Test
+        @DisplayName("구매 Saga 를 시작하면 포인트 전송과 거래 내역 생성 이벤트를 함께 기록한다")
+        void startPurchase_PublishRemoteStepsTogether() {
+            // when
+            purchaseSagaOrchestrator.startPurchase(UUID.randomUUID(), purchaseMessage());
+
+            // then
+            ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+            verify(outboxEventJpaRepository, times(2)).save(captor.capture());
+            assertThat(captor.getAllValues())
+                    .extracting(OutboxEventEntity::getEventType)
+                    .containsExactly(OutboxEventType.PURCHASE_POINT_TRANSFER, OutboxEventType.PURCHASE_RECEIPT_CREATE);
+            assertThat(captor.getAllValues()).allSatisfy(event -> assertThat(event.getDeadlineAt()).isNotNull());
+        }
+
+        @Test
+        @DisplayName("포인트 전송과 거래 내역 생성이 모두 성공하면 거래 내역 확정 이벤트를 기록한다")
+        void remoteStepsDelivered_ConfirmReceipt() throws Exception {
+            // given
+            PurchaseSagaEntity saga = givenSaga(SagaType.PURCHASE);
+            OutboxEventEntity pointEvent = createEvent(saga, OutboxEventType.PURCHASE_POINT_TRANSFER, purchaseMessage());
+            OutboxEventEntity receiptEvent = createEvent(saga, OutboxEventType.PURCHASE_RECEIPT_CREATE, purchaseMessage());
+
+            // when
+            purchaseSagaOrchestrator.onDelivered(receiptEvent);
+            purchaseSagaOrchestrator.onDelivered(pointEvent);
+
+            // then
+            assertThat(saga.getState()).isEqualTo(PurchaseSagaState.RECEIPT_CONFIRMING);
+            assertThat(savedOutboxEvent().getEventType()).isEqualTo(OutboxEventType.PURCHASE_RECEIPT_CONFIRM);
+        }
+
+        @Test
+        @DisplayName("포인트 전송이 실패하면 시작 전인 거래 내역 생성을 취소하고 재고를 복구한다")
+        void pointTransferFailed_CancelReceiptAndReleaseStock() throws Exception {
+            // given
+            PurchaseSagaEntity saga = givenSaga(SagaType.PURCHASE);
+            OutboxEventEntity event = createEvent(saga, OutboxEventType.PURCHASE_POINT_TRANSFER, purchaseMessage());
+            when(outboxEventJpaRepository.cancelPending(saga.getRequestId(), OutboxEventType.PURCHASE_RECEIPT_CREATE))
+                    .thenReturn(1);
+
+            // when
+            purchaseSagaOrchestrator.onFailed(event, "포인트 부족");
+
+            // then
+            verify(stockReservationService).release(auction, buyerInfo.id(), 2L);
+            assertThat(saga.getReceiptStep()).isEqualTo(SagaStepStatus.CANCELLED);
+            assertThat(saga.getState()).isEqualTo(PurchaseSagaState.COMPENSATED);
+            assertThat(saga.getFailureReason()).isEqualTo("포인트 부족");
+        }
+
+        @Test
+        @DisplayName("거래 내역 생성이 실패하면 이미 전송한 포인트를 반환한 뒤에 재고를 복구한다")
+        void receiptCreateFailed_CompensatePointFirst() throws Exception {
+            // given
+            PurchaseSagaEntity saga = givenSaga(SagaType.PURCHASE);
+            saga.markPointStep(SagaStepStatus.SUCCEEDED);
+            OutboxEventEntity event = createEvent(saga, OutboxEventType.PURCHASE_RECEIPT_CREATE, purchaseMessage());
+
+            // when
+            purchaseSagaOrchestrator.onFailed(event, "거래 내역 서버 장애");
+
+            // then
+            assertThat(saga.getState()).isEqualTo(PurchaseSagaState.COMPENSATING);
+            assertThat(savedOutboxEvent().getEventType()).isEqualTo(OutboxEventType.COMPENSATE_PURCHASE_POINT);
+            verifyNoInteractions(stockReservationService);
+        }
+    }
+
+    @Nested
+    class cancelSaga {
+
+        @Test
+        @DisplayName("포인트 환불이 실패했는데 그 사이 재고가 다시 판매되었다면 FAILED 로 남는다")
+        void refundPointFailed_StockSoldOut_Failed() throws Exception {
+            // given
+            PurchaseSagaEntity saga = givenSaga(SagaType.CANCEL);
+            OutboxEventEntity event = createEvent(saga, OutboxEventType.REFUND_POINT, refundMessage());
+            doThrow(new SuccessfulOperationException("재고가 부족합니다.", ErrorCode.A012))
+                    .when(stockReservationService).reclaim(any(), anyLong(), anyLong());
+
+            // when
+            purchaseSagaOrchestrator.onFailed(event, "회원 서버 장애");
+
+            // then
+            assertThat(saga.getState()).isEqualTo(PurchaseSagaState.FAILED);
+            assertThat(saga.getFailureReason()).isEqualTo("재고가 부족합니다.");
+        }
+    }
+
+    @Nested
+    class terminalSaga {
+
+        @Test
+        @DisplayName("이미 보상이 끝난 Saga 에 보상 실패가 늦게 도착해도 예외 없이 상태를 유지한다")
+        void lateCompensationFailed_KeepCompensated() throws Exception {
+            // given
+            PurchaseSagaEntity saga = givenSaga(SagaType.PURCHASE);
+            saga.transitTo(PurchaseSagaState.COMPENSATING, "거래 내역 서버 장애");
+            saga.transitTo(PurchaseSagaState.COMPENSATED);
+            OutboxEventEntity event = createEvent(saga, OutboxEventType.COMPENSATE_PURCHASE_POINT, purchaseMessage());
+
+            // when
+            purchaseSagaOrchestrator.onFailed(event, "회원 서버 장애");
+
+            // then
+            assertThat(saga.getState()).isEqualTo(PurchaseSagaState.COMPENSATED);
+            verify(purchaseSagaJpaRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("이미 실패한 Saga 에 환불 단계 성공이 늦게 도착하면 다음 단계를 기록하지 않는다")
+        void lateRefundDelivered_Ignored() throws Exception {
+            // given
+            PurchaseSagaEntity saga = givenSaga(SagaType.CANCEL);
+            saga.transitTo(PurchaseSagaState.FAILED, "재고가 부족합니다.");
+            OutboxEventEntity event = createEvent(saga, OutboxEventType.REFUND_POINT, refundMessage());
+
+            // when
+            purchaseSagaOrchestrator.onDelivered(event);
+
+            // then
+            assertThat(saga.getState()).isEqualTo(PurchaseSagaState.FAILED);
+            verifyNoInteractions(outboxEventJpaRepository);
+        }
+    }
+
+    private PurchaseSagaEntity givenSaga(SagaType sagaType) {
+        PurchaseSagaEntity saga = PurchaseSagaEntity.start(UUID.randomUUID(), sagaType, buyerInfo.id(), auction.getId());
+        when(purchaseSagaJpaRepository.findByRequestId(saga.getRequestId())).thenReturn(Optional.of(saga));
+        return saga;
+    }
+
+    private OutboxEventEntity createEvent(PurchaseSagaEntity saga, OutboxEventType eventType, Object payload) throws Exception {
+        return OutboxEventEntity.pending(saga.getRequestId(), eventType, objectMapper.writeValueAsString(payload));
+    }
+
+    private OutboxEventEntity savedOutboxEvent() {
+        ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(outboxEventJpaRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private PurchaseOutboxMessage purchaseMessage() {
+        return PurchaseOutboxMessage.builder()
+                .buyerInfo(buyerInfo)
+                .receiptId(UUID.randomUUID())
+                .auctionId(auction.getId())
+                .sellerId(2L)
+                .productName("productName")
+                .price(500L)
+                .quantity(2L)
+                .build();
+    }
+
+    private RefundOutboxMessage refundMessage() {
+        return RefundOutboxMessage.builder()
+                .buyerInfo(buyerInfo)
+                .receiptId(UUID.randomUUID())
+                .auctionId(auction.getId())
+                .sellerId(2L)
+                .quantity(2L)
+                .amount(1000L)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.service.PurchaseSequencer;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PurchaseSequencerTest {
+
+    private PurchaseSequencer purchaseSequencer;
+
+    @AfterEach
+    void tearDown() {
+        purchaseSequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 경매에 대한 명령은 등록된 순서대로 실행된다")
+    void submit_SameAuction_ExecutedInOrder() {
+        // given
+        purchaseSequencer = new PurchaseSequencer(4, 1024);
+        List<Integer> executed = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            int order = i;
+            futures.add(purchaseSequencer.submit(1L, () -> {
+                executed.add(order);
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // then
+        assertThat(executed).hasSize(500).isSorted();
+    }
+
+    @Test
+    @DisplayName("명령에서 발생한 예외는 호출자에게 그대로 전달된다")
+    void execute_CommandThrows_RethrowToCaller() {
+        // given
+        purchaseSequencer = new PurchaseSequencer(1, 16);
+
+        // expect
+        assertThatThrownBy(() -> purchaseSequencer.execute(1L, () -> {
+            throw new BadRequestException("잘못된 요청", ErrorCode.A030);
+        }))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A030);
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 요청을 즉시 거절한다")
+    void submit_BufferFull_ThrowException() throws InterruptedException {
+        // given
+        purchaseSequencer = new PurchaseSequencer(1, 2);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        purchaseSequencer.submit(1L, () -> {
+            blocked.countDown();
+            await(release);
+            return null;
+        });
+        blocked.await();
+        purchaseSequencer.submit(1L, () -> null);
+        purchaseSequencer.submit(1L, () -> null);
+
+        // expect
+        assertThatThrownBy(() -> purchaseSequencer.submit(1L, () -> null))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G005);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("종료 전에 등록된 명령은 모두 실행되고, 종료 후의 요청은 거절한다")
+    void submit_AfterShutdown_ThrowException() {
+        // given
+        purchaseSequencer = new PurchaseSequencer(1, 16);
+        CompletableFuture<Integer> submitted = purchaseSequencer.submit(1L, () -> 1);
+
+        // when
+        purchaseSequencer.shutdown();
+
+        // then
+        assertThat(submitted.join()).isEqualTo(1);
+        assertThatThrownBy(() -> purchaseSequencer.submit(1L, () -> 2))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G005);
+    }
+
+    @Test
+    @DisplayName("대기 중인 샤드 스레드는 명령이 등록되면 깨어나 실행한다")
+    void submit_IdleShard_WakesUp() {
+        // given
+        purchaseSequencer = new PurchaseSequencer(1, 16);
+
+        // expect
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            assertThat(purchaseSequencer.submit(1L, () -> value).join()).isEqualTo(value);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
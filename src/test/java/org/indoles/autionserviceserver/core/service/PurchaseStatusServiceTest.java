@@ -0,0 +1,189 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.enums.PurchaseStatus;
+import org.indoles.autionserviceserver.core.auction.domain.enums.Role;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseResponse;
+import org.indoles.autionserviceserver.core.auction.dto.Response.PurchaseStatusResponse;
+import org.indoles.autionserviceserver.core.auction.entity.PurchaseIdempotencyEntity;
+import org.indoles.autionserviceserver.core.auction.infra.PurchaseIdempotencyJpaRepository;
+import org.indoles.autionserviceserver.core.auction.service.BuyerService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseAdmissionService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseIdempotencyService;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseStatusService;
+import org.indoles.autionserviceserver.global.dto.AuctionPurchaseRequestMessage;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.indoles.autionserviceserver.global.exception.SuccessfulOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PurchaseStatusServiceTest {
+
+    private final SignInfoRequest buyerInfo = new SignInfoRequest(1L, Role.BUYER);
+
+    private static final String IDEMPOTENCY_KEY = "idempotency-key";
+
+    private BuyerService buyerService;
+    private PurchaseIdempotencyJpaRepository purchaseIdempotencyJpaRepository;
+    private PurchaseIdempotencyService purchaseIdempotencyService;
+    private PurchaseStatusService purchaseStatusService;
+
+    @BeforeEach
+    void setUp() {
+        buyerService = mock(BuyerService.class);
+        purchaseIdempotencyJpaRepository = mock(PurchaseIdempotencyJpaRepository.class);
+        when(purchaseIdempotencyJpaRepository.findByBuyerIdAndIdempotencyKey(anyLong(), anyString()))
+                .thenReturn(Optional.empty());
+        purchaseIdempotencyService = new PurchaseIdempotencyService(purchaseIdempotencyJpaRepository, Duration.ofHours(24), 100);
+        purchaseStatusService = new PurchaseStatusService(buyerService, mock(PurchaseAdmissionService.class),
+                purchaseIdempotencyService, new SyncTaskExecutor(), Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    @DisplayName("구매가 처리되면 요청 상태는 SUCCEEDED 가 된다")
+    void accept_Success() {
+        // given
+        AuctionPurchaseRequestMessage message = createMessage();
+
+        // when
+        purchaseStatusService.accept(message, buyerInfo);
+
+        // then
+        PurchaseStatusResponse status = purchaseStatusService.getStatus(message.requestId(), buyerInfo);
+        assertThat(status.status()).isEqualTo(PurchaseStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("구매가 실패하면 요청 상태는 FAILED 가 되고 실패 사유를 함께 반환한다")
+    void accept_Fail() {
+        // given
+        AuctionPurchaseRequestMessage message = createMessage();
+        doThrow(new SuccessfulOperationException("재고가 부족합니다.", ErrorCode.A012))
+                .when(buyerService).submitPurchase(any(), any());
+
+        // when
+        purchaseStatusService.accept(message, buyerInfo);
+
+        // then
+        PurchaseStatusResponse status = purchaseStatusService.getStatus(message.requestId(), buyerInfo);
+        assertThat(status.status()).isEqualTo(PurchaseStatus.FAILED);
+        assertThat(status.message()).isEqualTo("재고가 부족합니다.");
+        assertThat(status.errorCode()).isEqualTo(ErrorCode.A012.name());
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외가 아닌 이유로 실패하면 예외 메시지를 노출하지 않는다")
+    void accept_UnexpectedFail_HideMessage() {
+        // given
+        AuctionPurchaseRequestMessage message = createMessage();
+        doThrow(new IllegalStateException("[500] during [POST] to [http://member/points]: {\"internal\":\"detail\"}"))
+                .when(buyerService).submitPurchase(any(), any());
+
+        // when
+        purchaseStatusService.accept(message, buyerInfo);
+
+        // then
+        PurchaseStatusResponse status = purchaseStatusService.getStatus(message.requestId(), buyerInfo);
+        assertThat(status.status()).isEqualTo(PurchaseStatus.FAILED);
+        assertThat(status.message()).doesNotContain("internal");
+        assertThat(status.errorCode()).isEqualTo(ErrorCode.SERVER_ERROR.name());
+    }
+
+    @Test
+    @DisplayName("다른 구매자의 구매 요청은 조회할 수 없다")
+    void getStatus_OtherBuyer_ThrowException() {
+        // given
+        AuctionPurchaseRequestMessage message = createMessage();
+        purchaseStatusService.accept(message, buyerInfo);
+        SignInfoRequest otherBuyer = new SignInfoRequest(2L, Role.BUYER);
+
+        // expect
+        assertThatThrownBy(() -> purchaseStatusService.getStatus(message.requestId(), otherBuyer))
+                .isInstanceOf(NotFoundException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A035);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 가 있는 비동기 구매가 실패하면 같은 키로 다시 구매할 수 있다")
+    void accept_FailWithIdempotencyKey_CanRetry() {
+        // given
+        AuctionPurchaseRequestMessage message = createMessage(IDEMPOTENCY_KEY);
+        doThrow(new SuccessfulOperationException("재고가 부족합니다.", ErrorCode.A012))
+                .when(buyerService).submitPurchase(any(), any());
+        purchaseIdempotencyService.executeOnce(buyerInfo.id(), IDEMPOTENCY_KEY, message.requestId(),
+                () -> purchaseStatusService.accept(message, buyerInfo));
+        AtomicInteger executed = new AtomicInteger();
+
+        // when
+        Optional<PurchaseResponse> result = purchaseIdempotencyService.executeOnce(
+                buyerInfo.id(), IDEMPOTENCY_KEY, UUID.randomUUID(), executed::incrementAndGet);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키의 다른 요청이 먼저 구매를 기록했다면 그 요청의 구매가 처리된 것으로 응답한다")
+    void accept_DuplicateIdempotencyKey_ReturnOriginal() {
+        // given
+        AuctionPurchaseRequestMessage message = createMessage(IDEMPOTENCY_KEY);
+        UUID originalRequestId = UUID.randomUUID();
+        doThrow(new DataIntegrityViolationException("uk_purchase_idempotency_buyer_key"))
+                .when(buyerService).submitPurchase(any(), any());
+        when(purchaseIdempotencyJpaRepository.findByBuyerIdAndIdempotencyKey(buyerInfo.id(), IDEMPOTENCY_KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(PurchaseIdempotencyEntity.builder()
+                        .buyerId(buyerInfo.id())
+                        .idempotencyKey(IDEMPOTENCY_KEY)
+                        .requestId(originalRequestId)
+                        .createdAt(LocalDateTime.now())
+                        .build()));
+
+        // when
+        purchaseIdempotencyService.executeOnce(buyerInfo.id(), IDEMPOTENCY_KEY, message.requestId(),
+                () -> purchaseStatusService.accept(message, buyerInfo));
+
+        // then
+        PurchaseStatusResponse status = purchaseStatusService.getStatus(message.requestId(), buyerInfo);
+        assertThat(status.status()).isEqualTo(PurchaseStatus.SUCCEEDED);
+        assertThat(status.message()).contains(originalRequestId.toString());
+        assertThat(purchaseIdempotencyService.executeOnce(buyerInfo.id(), IDEMPOTENCY_KEY, UUID.randomUUID(), () -> {
+        })).contains(new PurchaseResponse(originalRequestId));
+    }
+
+    private AuctionPurchaseRequestMessage createMessage() {
+        return createMessage(null);
+    }
+
+    private AuctionPurchaseRequestMessage createMessage(String idempotencyKey) {
+        return AuctionPurchaseRequestMessage.builder()
+                .requestId(UUID.randomUUID())
+                .idempotencyKey(idempotencyKey)
+                .buyerId(buyerInfo.id())
+                .auctionId(1L)
+                .price(1000L)
+                .quantity(1L)
+                .requestTime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.enums.ReceiptStatus;
+import org.indoles.autionserviceserver.core.auction.domain.enums.Role;
+import org.indoles.autionserviceserver.core.auction.dto.Request.CreateReceiptRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Request.CreateReceiptRequestWrapper;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.service.ReceiptBatchWriter;
+import org.indoles.autionserviceserver.core.auction.utils.ReceiptFeignClient;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteCallGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ReceiptBatchWriterTest {
+
+    private final RemoteCallGuard remoteCallGuard = new RemoteCallGuard(32, 32, 50f, Duration.ofSeconds(2), 50, Duration.ofSeconds(10));
+
+    private ReceiptFeignClient receiptFeignClient;
+    private ReceiptBatchWriter receiptBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        receiptFeignClient = mock(ReceiptFeignClient.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiptBatchWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("짧은 시간 안에 들어온 요청은 한 번의 bulk 호출로 전달된다")
+    void write_WithinLinger_Coalesced() {
+        // given
+        receiptBatchWriter = new ReceiptBatchWriter(receiptFeignClient, remoteCallGuard, 100, Duration.ofMillis(200), 1000);
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 5)
+                .mapToObj(i -> receiptBatchWriter.write(createRequest()))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // then
+        ArgumentCaptor<List<CreateReceiptRequestWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(receiptFeignClient, times(1)).createReceipts(captor.capture());
+        assertThat(captor.getValue()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("한 번에 전달하는 요청 수는 최대 batch 크기를 넘지 않는다")
+    void write_OverMaxBatchSize_Split() {
+        // given
+        receiptBatchWriter = new ReceiptBatchWriter(receiptFeignClient, remoteCallGuard, 2, Duration.ofMillis(50), 1000);
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 5)
+                .mapToObj(i -> receiptBatchWriter.write(createRequest()))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // then
+        ArgumentCaptor<List<CreateReceiptRequestWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(receiptFeignClient, atLeast(3)).createReceipts(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("bulk 호출이 실패하면 묶인 요청 모두 실패로 완료된다")
+    void write_BulkFail_AllFutureFail() {
+        // given
+        receiptBatchWriter = new ReceiptBatchWriter(receiptFeignClient, remoteCallGuard, 100, Duration.ofMillis(50), 1000);
+        doThrow(new RuntimeException("거래 내역 서버 장애")).when(receiptFeignClient).createReceipts(anyList());
+
+        // when
+        CompletableFuture<Void> first = receiptBatchWriter.write(createRequest());
+        CompletableFuture<Void> second = receiptBatchWriter.write(createRequest());
+
+        // then
+        assertThat(first).failsWithin(Duration.ofSeconds(5));
+        assertThat(second).failsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("종료 시 진행중인 bulk 호출은 중단되지 않고 끝까지 전달되며, 이후의 요청은 거절된다")
+    void shutdown_InFlightBulk_Completed() throws Exception {
+        // given
+        receiptBatchWriter = new ReceiptBatchWriter(receiptFeignClient, remoteCallGuard, 100, Duration.ofMillis(10), 1000);
+        CountDownLatch sending = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            sending.countDown();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            return null;
+        }).when(receiptFeignClient).createReceipts(anyList());
+        CompletableFuture<Void> inFlight = receiptBatchWriter.write(createRequest());
+        sending.await(5, TimeUnit.SECONDS);
+
+        // when
+        receiptBatchWriter.shutdown();
+        CompletableFuture<Void> afterShutdown = receiptBatchWriter.write(createRequest());
+
+        // then
+        assertThat(inFlight).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(interrupted).isFalse();
+        assertThat(afterShutdown).isCompletedExceptionally();
+    }
+
+    private CreateReceiptRequestWrapper createRequest() {
+        CreateReceiptRequest request = CreateReceiptRequest.builder()
+                .receiptId(UUID.randomUUID())
+                .productName("productName")
+                .price(1000L)
+                .quantity(1L)
+                .receiptStatus(ReceiptStatus.PURCHASED)
+                .sellerId(2L)
+                .buyerId(1L)
+                .auctionId(1L)
+                .build();
+
+        return new CreateReceiptRequestWrapper(new SignInfoRequest(1L, Role.BUYER), request);
+    }
+}
@@ -0,0 +1,222 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.Auction;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionBuyerPurchaseJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockJournalJpaRepository;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionStockLedger;
+import org.indoles.autionserviceserver.core.auction.infra.BuyerPurchaseIndex;
+import org.indoles.autionserviceserver.core.auction.service.PurchaseSequencer;
+import org.indoles.autionserviceserver.core.auction.service.StockReservationService;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class StockReservationServiceTest {
+
+    private static final long BUYER_ID = 10L;
+    private static final long PRICE = 10000L;
+
+    private final Auction auction = AuctionFixture.createAuctionStartingAt(1L, LocalDateTime.now().minusMinutes(5));
+    private final LocalDateTime requestTime = auction.getStartedAt().plusMinutes(1);
+
+    private AuctionStockJournalJpaRepository auctionStockJournalJpaRepository;
+    private AuctionStockLedger auctionStockLedger;
+    private BuyerPurchaseIndex buyerPurchaseIndex;
+    private PurchaseSequencer purchaseSequencer;
+    private StockReservationService stockReservationService;
+
+    @BeforeEach
+    void setUp() {
+        auctionStockJournalJpaRepository = mock(AuctionStockJournalJpaRepository.class);
+        auctionStockLedger = new AuctionStockLedger(mock(AuctionRepository.class), auctionStockJournalJpaRepository,
+                mock(TransactionTemplate.class), 5);
+        buyerPurchaseIndex = new BuyerPurchaseIndex(mock(AuctionBuyerPurchaseJpaRepository.class), 16);
+        purchaseSequencer = new PurchaseSequencer(1, 16);
+        stockReservationService = new StockReservationService(auctionStockLedger, purchaseSequencer, buyerPurchaseIndex);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        purchaseSequencer.shutdown();
+    }
+
+    @Nested
+    class reserve_Method {
+
+        @Test
+        @DisplayName("재고와 누적 구매 수량을 차감하고, 재고 변경을 호출한 트랜잭션에 기록한다")
+        void reserve_Success() {
+            // when
+            stockReservationService.reserve(auction, BUYER_ID, PRICE, 2L, requestTime);
+
+            // then
+            assertThat(auctionStockLedger.currentStock(1L)).contains(98L);
+            verify(auctionStockJournalJpaRepository).save(argThat(journal -> journal.getStockDelta() == -2L
+                    && journal.getPrice() == PRICE));
+        }
+
+        @Test
+        @DisplayName("호출한 트랜잭션이 롤백되면 재고와 누적 구매 수량을 되돌린다")
+        void reserve_RolledBack_Compensate() {
+            // given
+            stockReservationService.reserve(auction, BUYER_ID, PRICE, 6L, requestTime);
+
+            // when
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            assertThat(auctionStockLedger.currentStock(1L)).contains(100L);
+            assertThatNoException().isThrownBy(() ->
+                    stockReservationService.reserve(auction, BUYER_ID, PRICE, 10L, requestTime));
+        }
+
+        @Test
+        @DisplayName("호출한 트랜잭션이 커밋되면 되돌리지 않는다")
+        void reserve_Committed_Keep() {
+            // given
+            stockReservationService.reserve(auction, BUYER_ID, PRICE, 6L, requestTime);
+
+            // when
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            // then
+            assertThat(auctionStockLedger.currentStock(1L)).contains(94L);
+        }
+
+        @Test
+        @DisplayName("누적 구매 수량이 인당 구매 제한을 넘으면 예외가 발생하고 재고는 그대로다")
+        void reserve_OverLimit_ThrowException() {
+            // given
+            stockReservationService.reserve(auction, BUYER_ID, PRICE, 6L, requestTime);
+
+            // expect
+            assertThatThrownBy(() -> stockReservationService.reserve(auction, BUYER_ID, PRICE, 6L, requestTime))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A041);
+            assertThat(auctionStockLedger.currentStock(1L)).contains(94L);
+        }
+    }
+
+    @Nested
+    class hold_Method {
+
+        @Test
+        @DisplayName("선점은 메모리 재고만 차감하고 재고 변경을 기록하지 않는다")
+        void hold_NotJournaled() {
+            // when
+            stockReservationService.hold(auction, BUYER_ID, PRICE, 2L, requestTime);
+
+            // then
+            assertThat(auctionStockLedger.currentStock(1L)).contains(98L);
+            verify(auctionStockJournalJpaRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("선점을 확정하면 이미 차감한 재고를 다시 차감하지 않고 재고 변경만 기록한다")
+        void confirmHold_Journaled() {
+            // given
+            stockReservationService.hold(auction, BUYER_ID, PRICE, 2L, requestTime);
+
+            // when
+            stockReservationService.confirmHold(auction, PRICE, 2L);
+
+            // then
+            assertThat(auctionStockLedger.currentStock(1L)).contains(98L);
+            verify(auctionStockJournalJpaRepository).save(argThat(journal -> journal.getStockDelta() == -2L));
+        }
+
+        @Test
+        @DisplayName("확정되지 않은 선점을 해제하면 재고와 누적 구매 수량을 되돌리고 기록하지 않는다")
+        void releaseHold_Restore() {
+            // given
+            stockReservationService.hold(auction, BUYER_ID, PRICE, 10L, requestTime);
+
+            // when
+            stockReservationService.releaseHold(auction, BUYER_ID, 10L);
+
+            // then
+            assertThat(auctionStockLedger.currentStock(1L)).contains(100L);
+            assertThatNoException().isThrownBy(() -> stockReservationService.hold(auction, BUYER_ID, PRICE, 10L, requestTime));
+            verify(auctionStockJournalJpaRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    class release_Method {
+
+        @Test
+        @DisplayName("재고를 복구하고 재고 변경을 기록하며, 롤백되면 다시 차감한다")
+        void release_RolledBack_Compensate() {
+            // given
+            stockReservationService.reserve(auction, BUYER_ID, PRICE, 4L, requestTime);
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            // when
+            stockReservationService.release(auction, BUYER_ID, 4L);
+            long released = auctionStockLedger.currentStock(1L).orElseThrow();
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            assertThat(released).isEqualTo(100L);
+            assertThat(auctionStockLedger.currentStock(1L)).contains(96L);
+            verify(auctionStockJournalJpaRepository).save(argThat(journal -> journal.getStockDelta() == 4L));
+        }
+    }
+
+    @Nested
+    class reclaim_Method {
+
+        @Test
+        @DisplayName("복구했던 재고를 다시 차감하고 기록하며, 롤백되면 다시 복구한다")
+        void reclaim_RolledBack_Compensate() {
+            // given
+            stockReservationService.reserve(auction, BUYER_ID, PRICE, 4L, requestTime);
+            stockReservationService.release(auction, BUYER_ID, 4L);
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            // when
+            stockReservationService.reclaim(auction, BUYER_ID, 4L);
+            long reclaimed = auctionStockLedger.currentStock(1L).orElseThrow();
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            assertThat(reclaimed).isEqualTo(96L);
+            assertThat(auctionStockLedger.currentStock(1L)).contains(100L);
+            verify(auctionStockJournalJpaRepository, times(2)).save(argThat(journal -> journal.getStockDelta() == -4L));
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션의 종료를 흉내낸다(등록된 보상 실행 후 다음 트랜잭션을 위해 다시 초기화).
+     */
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
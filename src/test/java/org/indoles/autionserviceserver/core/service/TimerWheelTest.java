@@ -0,0 +1,71 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.service.TimerWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private static final long TICK_NANOS = Duration.ofMillis(10).toNanos();
+
+    private final List<String> expired = new ArrayList<>();
+    private TimerWheel<String> timerWheel;
+
+    @BeforeEach
+    void setUp() {
+        timerWheel = new TimerWheel<>(Duration.ofMillis(10), 8, 0L, expired::add);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 대상만 만료 시각 순서대로 전달된다")
+    void advanceTo_ExpireOnlyPastDeadline() {
+        // given
+        timerWheel.schedule("second", 5 * TICK_NANOS);
+        timerWheel.schedule("first", 2 * TICK_NANOS);
+        timerWheel.schedule("third", 7 * TICK_NANOS);
+
+        // when
+        timerWheel.advanceTo(5 * TICK_NANOS);
+
+        // then
+        assertThat(expired).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("휠 크기보다 먼 만료 시각은 휠을 여러 바퀴 돈 뒤에 전달된다")
+    void advanceTo_DeadlineBeyondWheel_ExpireAfterRounds() {
+        // given
+        timerWheel.schedule("far", 20 * TICK_NANOS);
+
+        // when
+        timerWheel.advanceTo(19 * TICK_NANOS);
+        List<String> beforeDeadline = List.copyOf(expired);
+        timerWheel.advanceTo(20 * TICK_NANOS);
+
+        // then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(expired).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("취소된 대상은 전달되지 않는다")
+    void cancel_NotExpired() {
+        // given
+        TimerWheel.Timeout<String> timeout = timerWheel.schedule("cancelled", 2 * TICK_NANOS);
+        timerWheel.advanceTo(TICK_NANOS);
+
+        // when
+        timeout.cancel();
+        timerWheel.advanceTo(10 * TICK_NANOS);
+
+        // then
+        assertThat(expired).isEmpty();
+    }
+}
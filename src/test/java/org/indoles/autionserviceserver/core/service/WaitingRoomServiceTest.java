@@ -0,0 +1,148 @@
+package org.indoles.autionserviceserver.core.service;
+
+import org.indoles.autionserviceserver.core.auction.domain.enums.Role;
+import org.indoles.autionserviceserver.core.auction.dto.Request.SignInfoRequest;
+import org.indoles.autionserviceserver.core.auction.dto.Response.WaitingRoomEntryResponse;
+import org.indoles.autionserviceserver.core.auction.infra.AuctionRepository;
+import org.indoles.autionserviceserver.core.auction.service.WaitingRoomService;
+import org.indoles.autionserviceserver.core.fixture.AuctionFixture;
+import org.indoles.autionserviceserver.global.exception.AuthorizationException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.NotFoundException;
+import org.indoles.autionserviceserver.global.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WaitingRoomServiceTest {
+
+    private final SignInfoRequest sellerInfo = new SignInfoRequest(1L, Role.SELLER);
+
+    private WaitingRoomService waitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        AuctionRepository auctionRepository = mock(AuctionRepository.class);
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(AuctionFixture.createRunningAuction(1L)));
+        waitingRoomService = new WaitingRoomService(auctionRepository);
+    }
+
+    @Test
+    @DisplayName("입장 순번은 요청 순서대로 발급되고, 같은 구매자는 같은 순번을 받는다")
+    void enter_OrderedEntryNumber() {
+        // given
+        waitingRoomService.open(sellerInfo, 1L, 1L, LocalDateTime.now());
+
+        // when
+        WaitingRoomEntryResponse first = waitingRoomService.enter(buyer(10L), 1L);
+        WaitingRoomEntryResponse second = waitingRoomService.enter(buyer(11L), 1L);
+        WaitingRoomEntryResponse again = waitingRoomService.enter(buyer(10L), 1L);
+
+        // then
+        assertThat(first.entryNumber()).isEqualTo(1L);
+        assertThat(second.entryNumber()).isEqualTo(2L);
+        assertThat(second.position()).isEqualTo(1L);
+        assertThat(again.entryNumber()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("입장 순서가 되지 않은 구매자는 Retry-After 와 함께 거절된다")
+    void verifyAdmitted_NotYet_ThrowException() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        waitingRoomService.open(sellerInfo, 1L, 1L, openedAt);
+        waitingRoomService.enter(buyer(10L), 1L);
+        waitingRoomService.enter(buyer(11L), 1L);
+        waitingRoomService.enter(buyer(12L), 1L);
+
+        // when
+        waitingRoomService.advance(openedAt.plusSeconds(1));
+
+        // expect
+        assertThatThrownBy(() -> waitingRoomService.verifyAdmitted(12L, 1L))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G010);
+        assertThatThrownBy(() -> waitingRoomService.verifyAdmitted(99L, 1L))
+                .isInstanceOf(NotFoundException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A039);
+    }
+
+    @Test
+    @DisplayName("경매가 시작되면 초당 입장 인원만큼 순서대로 입장한다")
+    void advance_AdmitInOrder() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        waitingRoomService.open(sellerInfo, 1L, 1000L, openedAt);
+        waitingRoomService.enter(buyer(10L), 1L);
+        waitingRoomService.enter(buyer(11L), 1L);
+
+        // when
+        waitingRoomService.advance(openedAt.plus(Duration.ofMillis(2)));
+
+        // then
+        assertThatNoException().isThrownBy(() -> waitingRoomService.verifyAdmitted(11L, 1L));
+        assertThat(waitingRoomService.getEntry(buyer(11L), 1L).admitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("입장 허용량은 초당 입장 인원을 넘지 않는다")
+    void advance_AdmitAtConfiguredRate() {
+        // given
+        LocalDateTime openedAt = LocalDateTime.now();
+        waitingRoomService.open(sellerInfo, 1L, 2L, openedAt);
+        waitingRoomService.enter(buyer(10L), 1L);
+        waitingRoomService.enter(buyer(11L), 1L);
+        waitingRoomService.enter(buyer(12L), 1L);
+
+        // when
+        waitingRoomService.advance(openedAt.plusSeconds(1));
+
+        // then
+        assertThat(waitingRoomService.getEntry(buyer(11L), 1L).admitted()).isTrue();
+        assertThat(waitingRoomService.getEntry(buyer(12L), 1L).position()).isZero();
+        assertThat(waitingRoomService.getEntry(buyer(12L), 1L).admitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("닫힌 대기열의 경매는 검증 없이 통과한다")
+    void close_VerifyAdmitted_Pass() {
+        // given
+        waitingRoomService.open(sellerInfo, 1L, 1L, LocalDateTime.now());
+
+        // when
+        waitingRoomService.close(1L);
+
+        // then
+        assertThatNoException().isThrownBy(() -> waitingRoomService.verifyAdmitted(10L, 1L));
+    }
+
+    @Test
+    @DisplayName("대기열이 열리지 않은 경매는 검증 없이 통과한다")
+    void verifyAdmitted_NoWaitingRoom_Pass() {
+        // expect
+        assertThatNoException().isThrownBy(() -> waitingRoomService.verifyAdmitted(10L, 2L));
+    }
+
+    @Test
+    @DisplayName("다른 판매자의 경매에는 대기열을 열 수 없다")
+    void open_OtherSeller_ThrowException() {
+        // expect
+        assertThatThrownBy(() -> waitingRoomService.open(new SignInfoRequest(2L, Role.SELLER), 1L, 1L, LocalDateTime.now()))
+                .isInstanceOf(AuthorizationException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.A037);
+    }
+
+    private SignInfoRequest buyer(long id) {
+        return new SignInfoRequest(id, Role.BUYER);
+    }
+}
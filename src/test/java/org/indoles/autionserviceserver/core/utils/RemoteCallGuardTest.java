@@ -0,0 +1,109 @@
+package org.indoles.autionserviceserver.core.utils;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteCallGuard;
+import org.indoles.autionserviceserver.core.auction.utils.RemoteService;
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class RemoteCallGuardTest {
+
+    @Test
+    @DisplayName("원격 호출 실패가 누적되면 서킷이 열리고 이후 호출은 원격 서버를 호출하지 않고 즉시 거절된다")
+    void call_FailureRateExceeded_OpenCircuit() {
+        // given
+        RemoteCallGuard remoteCallGuard = createGuard(4);
+        AtomicInteger invoked = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            try {
+                remoteCallGuard.call(RemoteService.MEMBER, () -> {
+                    invoked.incrementAndGet();
+                    throw new IllegalStateException("회원 서버 장애");
+                });
+            } catch (IllegalStateException ignored) {
+            }
+        }
+
+        // expect
+        assertThat(remoteCallGuard.getState(RemoteService.MEMBER)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> remoteCallGuard.call(RemoteService.MEMBER, invoked::incrementAndGet))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G007);
+        assertThatThrownBy(() -> remoteCallGuard.verifyAvailable(RemoteService.MEMBER))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G007);
+        assertThat(invoked.get()).isEqualTo(10);
+        assertThatNoException().isThrownBy(() -> remoteCallGuard.verifyAvailable(RemoteService.RECEIPT));
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 원격 서버 장애로 기록하지 않는다")
+    void call_BusinessException_NotRecorded() {
+        // given
+        RemoteCallGuard remoteCallGuard = createGuard(4);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            try {
+                remoteCallGuard.call(RemoteService.MEMBER, () -> {
+                    throw new BadRequestException("포인트 부족", ErrorCode.P009);
+                });
+            } catch (BadRequestException ignored) {
+            }
+        }
+
+        // then
+        assertThat(remoteCallGuard.getState(RemoteService.MEMBER)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도가 가득 차면 새 구매를 받지 않는다")
+    void verifyAvailable_BulkheadFull_ThrowException() throws InterruptedException {
+        // given
+        RemoteCallGuard remoteCallGuard = createGuard(4);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = CompletableFuture.runAsync(() -> remoteCallGuard.run(RemoteService.RECEIPT, () -> {
+            started.countDown();
+            await(release);
+        }));
+        started.await();
+
+        // expect
+        assertThatThrownBy(() -> remoteCallGuard.verifyAvailable(RemoteService.RECEIPT))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G008);
+        assertThatThrownBy(() -> remoteCallGuard.run(RemoteService.RECEIPT, () -> {
+        }))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G008);
+        assertThatNoException().isThrownBy(() -> remoteCallGuard.verifyAvailable(RemoteService.MEMBER));
+
+        release.countDown();
+        slowCall.join();
+    }
+
+    private RemoteCallGuard createGuard(int slidingWindowSize) {
+        return new RemoteCallGuard(1, 1, 50f, Duration.ofSeconds(2), slidingWindowSize, Duration.ofMinutes(1));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
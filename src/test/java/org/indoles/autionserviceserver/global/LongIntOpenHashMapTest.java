@@ -0,0 +1,54 @@
+package org.indoles.autionserviceserver.global;
+
+import org.indoles.autionserviceserver.global.util.LongIntOpenHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntOpenHashMapTest {
+
+    @Test
+    @DisplayName("없는 키의 값은 0 이고, addTo 는 누적된 값을 반환한다")
+    void addTo_Accumulate() {
+        // given
+        LongIntOpenHashMap map = new LongIntOpenHashMap(4);
+
+        // when
+        map.addTo(7L, 3);
+        int result = map.addTo(7L, -1);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(map.get(7L)).isEqualTo(2);
+        assertThat(map.get(8L)).isZero();
+    }
+
+    @Test
+    @DisplayName("용량을 넘어 늘어나도 모든 값이 HashMap 과 같게 유지된다")
+    void addTo_Rehash_SameAsHashMap() {
+        // given
+        LongIntOpenHashMap map = new LongIntOpenHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(3_000) - 100L;
+            int delta = random.nextInt(5) + 1;
+            map.addTo(key, delta);
+            expected.merge(key, delta, Integer::sum);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        Map<Long, Integer> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+}
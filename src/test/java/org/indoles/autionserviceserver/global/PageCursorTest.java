@@ -0,0 +1,44 @@
+package org.indoles.autionserviceserver.global;
+
+import org.indoles.autionserviceserver.global.exception.BadRequestException;
+import org.indoles.autionserviceserver.global.exception.ErrorCode;
+import org.indoles.autionserviceserver.global.util.PageCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("커서로 변환한 ID 는 다시 같은 ID 로 변환된다")
+    void encodeDecode_Success() {
+        // given
+        String cursor = PageCursor.encode(12345L);
+
+        // expect
+        assertThat(cursor).doesNotContain("12345");
+        assertThat(PageCursor.decode(cursor)).isEqualTo(12345L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 null 을 반환한다")
+    void decode_Empty_Null() {
+        // expect
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "MTIzNDU", "aWQ6YWJj"})
+    @DisplayName("올바르지 않은 커서는 예외가 발생한다")
+    void decode_Invalid_ThrowException(String cursor) {
+        // expect
+        assertThatThrownBy(() -> PageCursor.decode(cursor))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.G012);
+    }
+}
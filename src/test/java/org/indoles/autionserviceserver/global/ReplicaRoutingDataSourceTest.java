@@ -0,0 +1,236 @@
+package org.indoles.autionserviceserver.global;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.indoles.autionserviceserver.global.config.ReplicaLagMonitor;
+import org.indoles.autionserviceserver.global.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SELECT_NAME = "SELECT NAME FROM DATABASE_NAME";
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private DataSource routingDataSource;
+    private JdbcTemplate routingJdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(createDatabase("primary"));
+        replica = new JdbcTemplate(createDatabase("replica"));
+        replica.execute("CREATE TABLE REPLICA_LAG (LAG_MS BIGINT)");
+        replica.update("INSERT INTO REPLICA_LAG VALUES (0)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        replicaLagMonitor = new ReplicaLagMonitor(replica.getDataSource(), "SELECT LAG_MS FROM REPLICA_LAG",
+                Duration.ofSeconds(1), meterRegistry);
+        routingDataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primary.getDataSource(), replica.getDataSource(), replicaLagMonitor, meterRegistry));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        routingJdbcTemplate = new JdbcTemplate(routingDataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.execute("DROP ALL OBJECTS");
+        replica.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("복제본 조회로 명시한 조회는 트랜잭션 밖이나 읽기 전용 트랜잭션에서 복제본에서 실행된다")
+    void route_ReplicaRead_Replica() {
+        // given
+        replicaLagMonitor.check();
+
+        // when
+        String withoutTransaction = ReplicaRoutingDataSource.readFromReplica(this::currentDatabase);
+        String readOnly = replicaRead();
+
+        // then
+        assertAll(
+                () -> assertThat(withoutTransaction).isEqualTo("replica"),
+                () -> assertThat(readOnly).isEqualTo("replica"),
+                () -> assertThat(meterRegistry.counter("datasource.routing", "pool", "replica").count()).isEqualTo(2),
+                () -> assertThat(meterRegistry.counter("datasource.routing.fallback").count()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("명시하지 않은 조회는 트랜잭션 밖이나 읽기 전용 트랜잭션(findById)에서도 주 DB 에서 실행된다")
+    void route_NotReplicaRead_Primary() {
+        // given
+        replicaLagMonitor.check();
+
+        // when
+        String withoutTransaction = currentDatabase();
+        String readOnly = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertAll(
+                () -> assertThat(withoutTransaction).isEqualTo("primary"),
+                () -> assertThat(readOnly).isEqualTo("primary"),
+                () -> assertThat(meterRegistry.counter("datasource.routing", "pool", "replica").count()).isZero(),
+                () -> assertThat(meterRegistry.counter("datasource.routing.fallback").count()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("복제본 조회로 명시해도 읽기-쓰기 트랜잭션 안에서는 주 DB 에서 실행된다")
+    void route_ReplicaReadInReadWriteTransaction_Primary() {
+        // given
+        replicaLagMonitor.check();
+
+        // when
+        String readWrite = readWriteTransaction.execute(
+                status -> ReplicaRoutingDataSource.readFromReplica(this::currentDatabase));
+
+        // then
+        assertAll(
+                () -> assertThat(readWrite).isEqualTo("primary"),
+                () -> assertThat(meterRegistry.counter("datasource.routing", "pool", "replica").count()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘으면 복제본 조회도 주 DB 에서 실행된다")
+    void route_ReplicaLagging_Primary() {
+        // given
+        replica.update("UPDATE REPLICA_LAG SET LAG_MS = 5000");
+        replicaLagMonitor.check();
+
+        // when
+        String readOnly = replicaRead();
+
+        // then
+        assertAll(
+                () -> assertThat(readOnly).isEqualTo("primary"),
+                () -> assertThat(replicaLagMonitor.getLagMillis()).isEqualTo(5000L),
+                () -> assertThat(meterRegistry.counter("datasource.routing.fallback").count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("복제 지연이 다시 허용 범위 안으로 들어오면 복제본을 사용한다")
+    void route_ReplicaRecovered_Replica() {
+        // given
+        replica.update("UPDATE REPLICA_LAG SET LAG_MS = 5000");
+        replicaLagMonitor.check();
+        replica.update("UPDATE REPLICA_LAG SET LAG_MS = 10");
+        replicaLagMonitor.check();
+
+        // when
+        String readOnly = replicaRead();
+
+        // then
+        assertThat(readOnly).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제 지연을 확인하지 못하면 복제본 조회도 주 DB 에서 실행된다")
+    void route_ReplicaCheckFailed_Primary() {
+        // given
+        replicaLagMonitor.check();
+        replica.execute("DROP TABLE REPLICA_LAG");
+        replicaLagMonitor.check();
+
+        // when
+        String readOnly = replicaRead();
+
+        // then
+        assertAll(
+                () -> assertThat(readOnly).isEqualTo("primary"),
+                () -> assertThat(replicaLagMonitor.isAvailable()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("복제 지연을 한 번도 확인하지 않았다면 복제본을 사용하지 않는다")
+    void route_NotChecked_Primary() {
+        // when
+        String readOnly = replicaRead();
+
+        // then
+        assertThat(readOnly).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("한 요청에서 복제본 목록 조회 뒤에 실행한 JPA 조회(상세 조회 캐시 적재)는 주 DB 에서 실행된다")
+    void route_JpaReadsInOneRequest_ReplicaThenPrimary() {
+        // given
+        replicaLagMonitor.check();
+        EntityManagerFactory entityManagerFactory = createEntityManagerFactory();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+        // when
+        String listing = ReplicaRoutingDataSource.readFromReplica(() -> currentDatabase(entityManager));
+        String cacheFill = currentDatabase(entityManager);
+
+        // then
+        assertAll(
+                () -> assertThat(listing).isEqualTo("replica"),
+                () -> assertThat(cacheFill).isEqualTo("primary")
+        );
+        entityManagerFactory.close();
+    }
+
+    private String replicaRead() {
+        return ReplicaRoutingDataSource.readFromReplica(() -> readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return routingJdbcTemplate.queryForObject(SELECT_NAME, String.class);
+    }
+
+    private String currentDatabase(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery(SELECT_NAME).getSingleResult();
+    }
+
+    /**
+     * 애플리케이션과 같은 방식(HibernateJpaVendorAdapter)으로 라우팅 DataSource 위에 만든 EntityManagerFactory
+     * open-in-view 를 끈 요청처럼 요청에 묶인 EntityManager 가 없으므로, 조회마다 EntityManager(커넥션)를 새로 얻는다.
+     */
+
+    private EntityManagerFactory createEntityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(routingDataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan("org.indoles.autionserviceserver.global.config");
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    private DataSource createDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-routing;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE DATABASE_NAME (NAME VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO DATABASE_NAME VALUES (?)", name);
+        return dataSource;
+    }
+}
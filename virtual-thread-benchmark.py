@@ -0,0 +1,65 @@
+"""
+가상 스레드 모드와 플랫폼 스레드 풀 모드 비교용 부하 테스트
+
+1. 플랫폼 스레드 모드로 서버 실행(auction.virtual-threads.enabled=false, 기본값)
+2. locust -f virtual-thread-benchmark.py --headless --users 10000 --spawn-rate 500 --run-time 3m --csv platform
+3. 가상 스레드 모드로 서버 재실행(--auction.virtual-threads.enabled=true)
+4. locust -f virtual-thread-benchmark.py --headless --users 10000 --spawn-rate 500 --run-time 3m --csv virtual
+5. platform_stats.csv 와 virtual_stats.csv 의 처리량(Requests/s), p50/p95/p99 응답 시간, 실패율(2xx 이외의 응답)을 비교
+
+10,000명의 구매자가 동시에 하나의 경매를 조회/구매하는 상황을 재현한다.
+부하 발생기 한 대로 10,000명을 만들기 어렵다면 --processes -1 로 CPU 코어 수만큼 워커를 띄운다.
+"""
+import os
+import uuid
+
+from locust import FastHttpUser, task, between, events
+
+HOST = os.getenv("AUCTION_HOST", "http://localhost:8080")
+# 구매자의 액세스 토큰과 미리 생성해 둔 진행중인 경매 ID
+BUYER_ACCESS_TOKEN = os.getenv("BUYER_ACCESS_TOKEN", "")
+AUCTION_ID = int(os.getenv("AUCTION_ID", "1"))
+
+
+class ConcurrentBuyer(FastHttpUser):
+    host = HOST
+    wait_time = between(0.5, 1.5)
+
+    def on_start(self):
+        self.headers = {
+            "Authorization": f"Bearer {BUYER_ACCESS_TOKEN}",
+            "Content-Type": "application/json"
+        }
+
+    @task(5)
+    def search_auctions(self):
+        self.client.get("/auctions/search?offset=0&size=20", name="/auctions/search")
+
+    @task(3)
+    def get_auction(self):
+        self.client.get(f"/auctions/{AUCTION_ID}", name="/auctions/{auctionId}")
+
+    @task(2)
+    def submit_bid(self):
+        purchase_request = {
+            "price": 10000,
+            "quantity": 1
+        }
+        headers = dict(self.headers)
+        headers["Idempotency-Key"] = str(uuid.uuid4())
+
+        with self.client.post(f"/auctions/{AUCTION_ID}/purchase", json=purchase_request, headers=headers,
+                              name="/auctions/{auctionId}/purchase", catch_response=True) as response:
+            # 재고 소진은 200 으로 응답하므로 2xx 만 성공으로 본다(4xx 거절과 503 부하 차단은 실패로 집계)
+            if 200 <= response.status_code < 300:
+                response.success()
+            else:
+                response.failure(f"Bid submission failed: {response.status_code}")
+
+
+@events.test_stop.add_listener
+def print_summary(environment, **kwargs):
+    stats = environment.stats.total
+    print(f"요청 수: {stats.num_requests}, 실패 수: {stats.num_failures}, "
+          f"RPS: {stats.total_rps:.1f}, p95: {stats.get_response_time_percentile(0.95)}ms, "
+          f"p99: {stats.get_response_time_percentile(0.99)}ms")